@@ -0,0 +1,193 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.ListBenchmark.RANDOM_INDEXES;
+import static de.jbee.lang.seq.ListBenchmark.randomIndexes;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The operations of the {@link ListBenchmark} done on <code>java.util.ArrayList</code> and a
+ * {@link PersistentVector} to have a baseline to compare with.
+ *
+ * Since all results are expected to be new values (the origin kept unchanged) modifications of the
+ * {@link ArrayList} have to copy it first. That is the cost of a immutable snapshot when using the
+ * <code>java.util</code> collections.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" } )
+public class BaselineBenchmark {
+
+	@Param ( { "1", "10", "100", "1000", "10000", "100000", "1000000", "10000000" } )
+	int size;
+
+	ArrayList<Object> arrayList;
+	PersistentVector vector;
+	Object e;
+	int middle;
+	Object[] dest;
+
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Object[] elems = new Object[size];
+		ListKind.fillNumbers( elems, 0, size, 0 );
+		arrayList = new ArrayList<Object>( size );
+		for ( Object elem : elems ) {
+			arrayList.add( elem );
+		}
+		vector = PersistentVector.of( elems, 0, size );
+		e = size;
+		middle = size / 2;
+		dest = new Object[size];
+		indexes = randomIndexes( size );
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListPrepand() {
+		ArrayList<Object> res = new ArrayList<Object>( size + 1 );
+		res.add( e );
+		res.addAll( arrayList );
+		return res;
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListAppend() {
+		ArrayList<Object> res = new ArrayList<Object>( size + 1 );
+		res.addAll( arrayList );
+		res.add( e );
+		return res;
+	}
+
+	@Benchmark
+	public Object arrayListAt() {
+		return arrayList.get( nextIndex() );
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListInsertAt() {
+		ArrayList<Object> res = new ArrayList<Object>( size + 1 );
+		res.addAll( arrayList );
+		res.add( middle, e );
+		return res;
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListDeleteAt() {
+		ArrayList<Object> res = new ArrayList<Object>( arrayList );
+		res.remove( middle );
+		return res;
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListConcat() {
+		ArrayList<Object> res = new ArrayList<Object>( size + size );
+		res.addAll( arrayList );
+		res.addAll( arrayList );
+		return res;
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListTake() {
+		return new ArrayList<Object>( arrayList.subList( 0, middle ) );
+	}
+
+	@Benchmark
+	public ArrayList<Object> arrayListDrop() {
+		return new ArrayList<Object>( arrayList.subList( middle, size ) );
+	}
+
+	@Benchmark
+	public void arrayListTraverse( Blackhole bh ) {
+		for ( int i = 0; i < size; i++ ) {
+			bh.consume( arrayList.get( i ) );
+		}
+	}
+
+	@Benchmark
+	public Object[] arrayListFill() {
+		return arrayList.toArray( dest );
+	}
+
+	@Benchmark
+	public PersistentVector vectorPrepand() {
+		return vector.splice( 0, 0, new Object[] { e } );
+	}
+
+	@Benchmark
+	public PersistentVector vectorAppend() {
+		return vector.append( e );
+	}
+
+	@Benchmark
+	public Object vectorAt() {
+		return vector.at( nextIndex() );
+	}
+
+	@Benchmark
+	public PersistentVector vectorReplaceAt() {
+		return vector.replaceAt( middle, e );
+	}
+
+	@Benchmark
+	public PersistentVector vectorInsertAt() {
+		return vector.splice( middle, 0, new Object[] { e } );
+	}
+
+	@Benchmark
+	public PersistentVector vectorDeleteAt() {
+		return vector.splice( middle, 1, new Object[0] );
+	}
+
+	@Benchmark
+	public PersistentVector vectorConcat() {
+		vector.fill( 0, size, dest, 0 );
+		return vector.appendAll( dest );
+	}
+
+	@Benchmark
+	public PersistentVector vectorTake() {
+		return vector.slice( 0, middle );
+	}
+
+	@Benchmark
+	public PersistentVector vectorDrop() {
+		return vector.slice( middle, size );
+	}
+
+	@Benchmark
+	public void vectorTraverse( Blackhole bh ) {
+		for ( int i = 0; i < size; i++ ) {
+			bh.consume( vector.at( i ) );
+		}
+	}
+
+	@Benchmark
+	public Object[] vectorFill() {
+		vector.fill( 0, size, dest, 0 );
+		return dest;
+	}
+
+	private int nextIndex() {
+		return indexes[next++ & ( RANDOM_INDEXES - 1 )];
+	}
+}
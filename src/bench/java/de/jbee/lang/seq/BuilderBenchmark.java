@@ -0,0 +1,96 @@
+package de.jbee.lang.seq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.jbee.lang.Array;
+import de.jbee.lang.List;
+import de.jbee.lang.Order;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Set;
+
+/**
+ * Bulk construction of lists and sets element by element compared to using a
+ * {@link List.ListBuilder} or merging all elements at once with {@link Set#insertAll(Sequence)}.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" } )
+public class BuilderBenchmark {
+
+	@Param ( { "100", "10000", "1000000" } )
+	int size;
+
+	Object[] elems;
+
+	@Setup
+	public void setUp() {
+		elems = new Object[size];
+		ListKind.fillNumbers( elems, 0, size, 0 );
+		Array.shuffle( elems );
+	}
+
+	@Benchmark
+	public List<Object> listAppend() {
+		List<Object> res = List.with.noElements();
+		for ( int i = 0; i < size; i++ ) {
+			res = res.append( elems[i] );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public List<Object> listPrepand() {
+		List<Object> res = List.with.noElements();
+		for ( int i = size - 1; i >= 0; i-- ) {
+			res = res.prepand( elems[i] );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public List<Object> listBuilder() {
+		List.ListBuilder<Object> res = List.with.builder();
+		for ( int i = 0; i < size; i++ ) {
+			res.append( elems[i] );
+		}
+		return res.build();
+	}
+
+	@Benchmark
+	public Set<Object> setInsert() {
+		Set<Object> res = Set.with.noElements( Order.inherent );
+		for ( int i = 0; i < size; i++ ) {
+			res = res.insert( elems[i] );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public Set<Object> setInsertAll() {
+		return Set.with.<Object> noElements( Order.inherent ).insertAll( Array.sequence( elems ) );
+	}
+
+	@Benchmark
+	public Set<Object> setBuilder() {
+		Set.SetBuilder<Object> res = Set.with.builder( Order.inherent );
+		for ( int i = 0; i < size; i++ ) {
+			res.append( elems[i] );
+		}
+		return res.build();
+	}
+}
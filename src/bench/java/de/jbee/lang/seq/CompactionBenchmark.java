@@ -0,0 +1,73 @@
+package de.jbee.lang.seq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.jbee.lang.List;
+
+/**
+ * A long-lived list modified at random indexes with and without automatic {@link Compaction}.
+ * Each invocation replaces or inserts an element and reads another one. With compaction the
+ * segmentation of the list (see {@link Sequences#segmentation}) stays bounded so that the
+ * reads stay fast.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" } )
+public class CompactionBenchmark {
+
+	@Param ( { "1000", "100000" } )
+	int size;
+
+	@Param ( { "NONE", "DEFAULT" } )
+	String compaction;
+
+	List<Object> list;
+
+	private int[] indexes;
+	private int next;
+
+	@Setup ( Level.Iteration )
+	public void setUp() {
+		Sequences.setUp( "NONE".equals( compaction )
+			? Compaction.NONE
+			: Compaction.DEFAULT );
+		list = ListKind.DOMINANT.create( size );
+		indexes = ListBenchmark.randomIndexes( size );
+	}
+
+	@TearDown ( Level.Iteration )
+	public void tearDown() {
+		Sequences.setUp( Compaction.DEFAULT );
+	}
+
+	@Benchmark
+	public Object replaceAtThenAt() {
+		final int i = indexes[next++ & ( ListBenchmark.RANDOM_INDEXES - 1 )];
+		list = list.replaceAt( i, list.at( size - 1 - i ) );
+		return list.at( i );
+	}
+
+	@Benchmark
+	public Object insertAtThenDeleteAt() {
+		final int i = indexes[next++ & ( ListBenchmark.RANDOM_INDEXES - 1 )];
+		list = list.insertAt( i, list.at( size - 1 - i ) ).deleteAt( size - i );
+		return list.at( i );
+	}
+}
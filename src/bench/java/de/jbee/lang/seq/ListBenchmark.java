@@ -0,0 +1,199 @@
+package de.jbee.lang.seq;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.jbee.lang.Is;
+import de.jbee.lang.List;
+import de.jbee.lang.SegmentTraversal;
+import de.jbee.lang.Traversal;
+import de.jbee.lang.Traverse;
+
+/**
+ * Measures the core operations of each {@link ListKind} for list sizes from 1 to 10^7.
+ *
+ * Single kinds, sizes or operations can be selected using the usual JMH arguments, e.g.
+ *
+ * <pre>
+ * ant bench -Dbench.args="ListBenchmark.at -p kind=DOMINANT,RECESSIVE -p size=1000000"
+ * </pre>
+ *
+ * The same operations on <code>java.util.ArrayList</code> and a persistent vector are measured by
+ * the {@link BaselineBenchmark}.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" } )
+public class ListBenchmark {
+
+	/**
+	 * The number of precomputed random indexes used by {@link #at()}. Has to be a power of 2.
+	 */
+	static final int RANDOM_INDEXES = 1 << 10;
+
+	/**
+	 * The number of elements inserted by {@link #insertAll()} and {@link #insertEach()}.
+	 */
+	static final int BULK_LENGTH = 16;
+
+	@Param ( { "1", "10", "100", "1000", "10000", "100000", "1000000", "10000000" } )
+	int size;
+
+	@Param
+	ListKind kind;
+
+	List<Object> list;
+	Object e;
+	int middle;
+	Object[] dest;
+	List<Object> bulk;
+
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		list = kind.create( size );
+		e = kind.element( size );
+		middle = size / 2;
+		dest = new Object[size];
+		indexes = randomIndexes( size );
+		bulk = ListKind.DOMINANT.create( BULK_LENGTH );
+	}
+
+	@Benchmark
+	public List<Object> prepand() {
+		return list.prepand( e );
+	}
+
+	@Benchmark
+	public List<Object> append() {
+		return list.append( e );
+	}
+
+	@Benchmark
+	public Object at() {
+		return list.at( indexes[next++ & ( RANDOM_INDEXES - 1 )] );
+	}
+
+	@Benchmark
+	public List<Object> insertAt() {
+		return list.insertAt( middle, e );
+	}
+
+	@Benchmark
+	public List<Object> insertAll() {
+		return List.modifyBy.insertAll( middle, bulk ).on( list );
+	}
+
+	@Benchmark
+	public List<Object> insertEach() {
+		List<Object> res = list;
+		for ( int i = BULK_LENGTH - 1; i >= 0; i-- ) {
+			res = res.insertAt( middle, bulk.at( i ) );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public List<Object> deleteAt() {
+		return list.deleteAt( middle );
+	}
+
+	@Benchmark
+	public List<Object> concat() {
+		return list.concat( list );
+	}
+
+	@Benchmark
+	public List<Object> take() {
+		return list.take( middle );
+	}
+
+	@Benchmark
+	public List<Object> drop() {
+		return list.drop( middle );
+	}
+
+	@Benchmark
+	public void traverse( Blackhole bh ) {
+		list.traverse( 0, new ConsumingTraversal( bh ) );
+	}
+
+	@Benchmark
+	public void traverseSegments( Blackhole bh ) {
+		List.traverse.segments( list, 0, new ConsumingSegmentTraversal( bh ) );
+	}
+
+	@Benchmark
+	public Integer countInParallel() {
+		return Traverse.count( Is.TRUE ).on( list );
+	}
+
+	@Benchmark
+	public Object[] fill() {
+		list.fill( 0, dest, 0, size );
+		return dest;
+	}
+
+	static int[] randomIndexes( int size ) {
+		Random rnd = new Random( 42L );
+		int[] res = new int[RANDOM_INDEXES];
+		for ( int i = 0; i < res.length; i++ ) {
+			res[i] = rnd.nextInt( size );
+		}
+		return res;
+	}
+
+	static final class ConsumingTraversal
+			implements Traversal<Object> {
+
+		private final Blackhole bh;
+
+		ConsumingTraversal( Blackhole bh ) {
+			super();
+			this.bh = bh;
+		}
+
+		@Override
+		public int incrementOn( Object e ) {
+			bh.consume( e );
+			return 1;
+		}
+	}
+
+	static final class ConsumingSegmentTraversal
+			implements SegmentTraversal<Object> {
+
+		private final Blackhole bh;
+
+		ConsumingSegmentTraversal( Blackhole bh ) {
+			super();
+			this.bh = bh;
+		}
+
+		@Override
+		public int incrementOn( Object[] elems, int start, int end ) {
+			for ( int i = start; i < end; i++ ) {
+				bh.consume( elems[i] );
+			}
+			return end - start;
+		}
+	}
+}
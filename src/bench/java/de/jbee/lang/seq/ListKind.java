@@ -0,0 +1,191 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.Calculate.nextHighestPowerOf2;
+import static de.jbee.lang.seq.Sequences.entry;
+import static de.jbee.lang.seq.Sequences.key;
+import de.jbee.lang.Array;
+import de.jbee.lang.Enumerate;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Order;
+
+/**
+ * The {@link List} implementations (and their variants) measured by the {@link ListBenchmark}.
+ *
+ * Each kind creates a list of the integers <code>0</code> to <code>size - 1</code> in ascending
+ * order so that the {@link OrderedList} based kinds are valid without sorting. The {@link #MAP}
+ * uses {@link Map.Entry}s with zero-padded keys instead to keep the same order.
+ */
+enum ListKind {
+
+	/**
+	 * A single {@link EVolutionList} segment that may continue to occupy its elements array.
+	 */
+	DOMINANT {
+
+		@Override
+		List<Object> create( int size ) {
+			Object[] elems = new Object[nextHighestPowerOf2( size )];
+			fillNumbers( elems, elems.length - size, size, 0 );
+			return EVolutionList.dominant( size, elems );
+		}
+	},
+
+	/**
+	 * A single tidy {@link EVolutionList} segment (as created by {@link List#tidyUp()}).
+	 */
+	GROWTH {
+
+		@Override
+		List<Object> create( int size ) {
+			Object[] elems = new Object[nextHighestPowerOf2( size )];
+			fillNumbers( elems, elems.length - size, size, 0 );
+			return EVolutionList.growth( size, elems.length, elems, List.with.noElements() );
+		}
+	},
+
+	/**
+	 * A {@link EVolutionList} segment that is a view upon a part of a larger elements array.
+	 */
+	RECESSIVE {
+
+		@Override
+		List<Object> create( int size ) {
+			Object[] elems = new Object[nextHighestPowerOf2( size + 1 )];
+			fillNumbers( elems, elems.length - size - 1, size, 0 );
+			return EVolutionList.recessive( size, 1, elems, List.with.noElements() );
+		}
+	},
+
+	/**
+	 * A deep chain of small {@link EVolutionList} segments as created by many concatenations. The
+	 * segments have at least 16 elements. Larger lists use larger segments so that the chain stays
+	 * below about 1024 segments and the recursive operations don't overflow the stack.
+	 */
+	CHAINED {
+
+		@Override
+		List<Object> create( int size ) {
+			final int segmentLength = Math.max( 16, nextHighestPowerOf2( size >> 10 ) );
+			List<Object> res = List.with.noElements();
+			int end = size;
+			while ( end > 0 ) {
+				final int len = Math.min( segmentLength, end );
+				Object[] elems = new Object[segmentLength];
+				fillNumbers( elems, segmentLength - len, len, end - len );
+				res = EVolutionList.dominant( res.length() + len, elems, res );
+				end -= len;
+			}
+			return res;
+		}
+	},
+
+	/**
+	 * A {@link ElementaryList} head followed by a {@link #DOMINANT} tail.
+	 */
+	ELEMENTARY {
+
+		@Override
+		List<Object> create( int size ) {
+			if ( size <= 1 ) {
+				return ElementaryList.element( (Object) 0 );
+			}
+			final int len = size - 1;
+			Object[] elems = new Object[nextHighestPowerOf2( len )];
+			fillNumbers( elems, elems.length - len, len, 1 );
+			return ElementaryList.element( (Object) 0, EVolutionList.<Object> dominant( len, elems ) );
+		}
+	},
+
+	ENUM {
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		List<Object> create( int size ) {
+			List<?> numbers = EnumList.enumeration( Enumerate.INTEGERS, 0, size - 1 );
+			return (List<Object>) numbers;
+		}
+	},
+
+	/**
+	 * The reference implementation {@link Array#sequence(Object[])}.
+	 */
+	ARRAY {
+
+		@Override
+		List<Object> create( int size ) {
+			Object[] elems = new Object[size];
+			fillNumbers( elems, 0, size, 0 );
+			return Array.sequence( elems );
+		}
+	},
+
+	/**
+	 * A {@link RRBTreeList} as created by the {@link Sequences#RRB_TREE_LISTER}.
+	 */
+	RRB_TREE {
+
+		@Override
+		List<Object> create( int size ) {
+			Object[] elems = new Object[size];
+			fillNumbers( elems, 0, size, 0 );
+			return RRBTreeList.of( elems, 0, size );
+		}
+	},
+
+	BAG {
+
+		@Override
+		List<Object> create( int size ) {
+			return OrderedList.bagOf( DOMINANT.create( size ), Order.inherent );
+		}
+	},
+
+	SET {
+
+		@Override
+		List<Object> create( int size ) {
+			return OrderedList.setOf( DOMINANT.create( size ), Order.inherent );
+		}
+	},
+
+	MAP {
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		List<Object> create( int size ) {
+			Object[] elems = new Object[nextHighestPowerOf2( size )];
+			final int offset = elems.length - size;
+			for ( int i = 0; i < size; i++ ) {
+				elems[offset + i] = element( i );
+			}
+			List<Map.Entry<Integer>> entries = EVolutionList.dominant( size, elems );
+			List<?> map = OrderedList.mapOf( OrderedList.setOf( entries, Map.Entry.ORDER ) );
+			return (List<Object>) map;
+		}
+
+		@Override
+		Object element( int value ) {
+			return entry( key( String.format( "%08d", value ) ), value );
+		}
+	};
+
+	/**
+	 * @return a list of this kind having <code>size</code> elements.
+	 */
+	abstract List<Object> create( int size );
+
+	/**
+	 * @return the element with the given <code>value</code> in the way elements are contained in
+	 *         lists of this kind.
+	 */
+	Object element( int value ) {
+		return value;
+	}
+
+	static void fillNumbers( Object[] elems, int start, int length, int first ) {
+		for ( int i = 0; i < length; i++ ) {
+			elems[start + i] = first + i;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package de.jbee.lang.seq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.jbee.lang.Array;
+import de.jbee.lang.Comparing;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Order;
+import de.jbee.lang.Ordering;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Set;
+
+/**
+ * Sorted inserts into a {@link Set} using orders that are {@link Comparing} compared to the same
+ * orders only available through {@link Ord#ord(Object, Object)}. The searches within a sorted
+ * {@link ListKind#CHAINED} list compare the segment aware search with probing each index. The
+ * lookups in a {@link Set#frozen()} set compare the tree layout with a binary search, those in a
+ * {@link Map#frozen()} map the hash table of its keys with a binary search.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" } )
+public class OrderBenchmark {
+
+	@Param ( { "1000", "100000" } )
+	int size;
+
+	/**
+	 * The plain {@link Order#inherent} or the numerical order typed and made null-save.
+	 */
+	@Param ( { "inherent", "composite" } )
+	String order;
+
+	Object[] elems;
+	Ord<Object> comparing;
+	Ord<Object> ordering;
+	List<Object> chained;
+	Set<Object> sorted;
+	Set<Object> frozen;
+	Map<Object> map;
+	Map<Object> frozenMap;
+	Map.Key[] keys;
+
+	@Setup
+	public void setUp() {
+		elems = new Object[size];
+		ListKind.fillNumbers( elems, 0, size, 0 );
+		Array.shuffle( elems );
+		comparing = "inherent".equals( order )
+			? Order.inherent
+			: Order.nullsave( Order.typeaware( Order.numerical, Number.class ) );
+		ordering = new OrdOnly( comparing );
+		chained = ListKind.CHAINED.create( size );
+		sorted = Set.with.elements( comparing, List.with.elements( elems ) ).tidyUp();
+		frozen = sorted.frozen();
+		keys = new Map.Key[size];
+		Map.MapBuilder<Object> builder = Map.with.builder( Map.Entry.ORDER );
+		for ( int i = 0; i < size; i++ ) {
+			keys[i] = Sequences.key( "key/" + elems[i] );
+			builder.insert( keys[i], elems[i] );
+		}
+		map = builder.build();
+		frozenMap = map.frozen();
+	}
+
+	@Benchmark
+	public int lookupMapSorted() {
+		return lookupAll( map );
+	}
+
+	@Benchmark
+	public int lookupMapFrozen() {
+		return lookupAll( frozenMap );
+	}
+
+	@Benchmark
+	public int lookupSorted() {
+		return lookupAll( sorted );
+	}
+
+	@Benchmark
+	public int lookupFrozen() {
+		return lookupAll( frozen );
+	}
+
+	@Benchmark
+	public int searchSegments() {
+		int res = 0;
+		for ( int i = 0; i < size; i += 7 ) {
+			res += Order.binarySearch( chained, 0, size, elems[i], comparing );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public int searchIndexes() {
+		final Sequence<Object> seq = new Sequence<Object>() {
+
+			@Override
+			public Object at( int index ) {
+				return chained.at( index );
+			}
+
+			@Override
+			public int length() {
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return size == 0;
+			}
+		};
+		int res = 0;
+		for ( int i = 0; i < size; i += 7 ) {
+			res += Order.binarySearch( seq, 0, size, elems[i], comparing );
+		}
+		return res;
+	}
+
+	@Benchmark
+	public Set<Object> insertComparing() {
+		return insertAll( comparing );
+	}
+
+	@Benchmark
+	public Set<Object> insertOrdering() {
+		return insertAll( ordering );
+	}
+
+	@Benchmark
+	public void sortComparing() {
+		Order.sort( elems.clone(), comparing );
+	}
+
+	@Benchmark
+	public void sortOrdering() {
+		Order.sort( elems.clone(), ordering );
+	}
+
+	private int lookupAll( Set<Object> set ) {
+		int res = 0;
+		for ( int i = 0; i < size; i += 7 ) {
+			res += set.indexFor( elems[i] );
+		}
+		return res;
+	}
+
+	private int lookupAll( Map<Object> map ) {
+		int res = 0;
+		for ( int i = 0; i < size; i += 7 ) {
+			res += map.indexFor( keys[i] );
+		}
+		return res;
+	}
+
+	private Set<Object> insertAll( Ord<Object> order ) {
+		Set<Object> res = Set.with.noElements( order );
+		for ( int i = 0; i < size; i++ ) {
+			res = res.insert( elems[i] );
+		}
+		return res;
+	}
+
+	/**
+	 * Hides that the wrapped order is {@link Comparing}.
+	 */
+	private static final class OrdOnly
+			implements Ord<Object> {
+
+		private final Ord<Object> order;
+
+		OrdOnly( Ord<Object> order ) {
+			super();
+			this.order = order;
+		}
+
+		@Override
+		public Ordering ord( Object left, Object right ) {
+			return order.ord( left, right );
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package de.jbee.lang.seq;
+
+/**
+ * A minimal bit-partitioned vector trie with a tail buffer (as known from Clojure or Scala) used as
+ * a persistent baseline in the {@link BaselineBenchmark}.
+ *
+ * Just {@link #at(int)}, {@link #append(Object)} and {@link #replaceAt(int, Object)} are supported
+ * natively. All other modifications are done by rebuilding the vector from its elements via
+ * {@link #slice(int, int)} or {@link #splice(int, int, Object[])} since that is what they cost in
+ * such a structure.
+ */
+final class PersistentVector {
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	static final PersistentVector EMPTY = new PersistentVector( 0, BITS, new Object[WIDTH],
+			new Object[0] );
+
+	static PersistentVector of( Object[] elems, int start, int end ) {
+		PersistentVector res = EMPTY;
+		for ( int i = start; i < end; i++ ) {
+			res = res.append( elems[i] );
+		}
+		return res;
+	}
+
+	private final int length;
+	private final int shift;
+	private final Object[] root;
+	private final Object[] tail;
+
+	private PersistentVector( int length, int shift, Object[] root, Object[] tail ) {
+		super();
+		this.length = length;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	int length() {
+		return length;
+	}
+
+	Object at( int index ) {
+		if ( index < 0 || index >= length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		return leafOf( index )[index & MASK];
+	}
+
+	PersistentVector append( Object e ) {
+		if ( length - tailOffset() < WIDTH ) {
+			Object[] newTail = new Object[tail.length + 1];
+			System.arraycopy( tail, 0, newTail, 0, tail.length );
+			newTail[tail.length] = e;
+			return new PersistentVector( length + 1, shift, root, newTail );
+		}
+		if ( ( length >>> BITS ) > ( 1 << shift ) ) { // root overflow
+			Object[] newRoot = new Object[WIDTH];
+			newRoot[0] = root;
+			newRoot[1] = newPath( shift, tail );
+			return new PersistentVector( length + 1, shift + BITS, newRoot, new Object[] { e } );
+		}
+		return new PersistentVector( length + 1, shift, pushTail( shift, root, tail ),
+				new Object[] { e } );
+	}
+
+	PersistentVector replaceAt( int index, Object e ) {
+		if ( index >= tailOffset() ) {
+			Object[] newTail = tail.clone();
+			newTail[index & MASK] = e;
+			return new PersistentVector( length, shift, root, newTail );
+		}
+		return new PersistentVector( length, shift, replaceAt( shift, root, index, e ), tail );
+	}
+
+	/**
+	 * Fills the elements from <code>start</code> (inclusive) to <code>end</code> (exclusive) into
+	 * <code>dest</code> starting at <code>offset</code>.
+	 */
+	void fill( int start, int end, Object[] dest, int offset ) {
+		int i = start;
+		while ( i < end ) {
+			Object[] leaf = leafOf( i );
+			final int from = i & MASK;
+			final int len = Math.min( leaf.length - from, end - i );
+			System.arraycopy( leaf, from, dest, offset, len );
+			offset += len;
+			i += len;
+		}
+	}
+
+	PersistentVector appendAll( Object[] elems ) {
+		PersistentVector res = this;
+		for ( Object e : elems ) {
+			res = res.append( e );
+		}
+		return res;
+	}
+
+	/**
+	 * @return A vector build from the elements from <code>start</code> to <code>end</code>
+	 *         (exclusive).
+	 */
+	PersistentVector slice( int start, int end ) {
+		Object[] elems = new Object[end - start];
+		fill( start, end, elems, 0 );
+		return of( elems, 0, elems.length );
+	}
+
+	/**
+	 * @return A vector build from this elements whereby <code>deleted</code> elements starting at
+	 *         <code>index</code> are replaced by the <code>inserted</code> elements.
+	 */
+	PersistentVector splice( int index, int deleted, Object[] inserted ) {
+		Object[] elems = new Object[length - deleted + inserted.length];
+		fill( 0, index, elems, 0 );
+		System.arraycopy( inserted, 0, elems, index, inserted.length );
+		fill( index + deleted, length, elems, index + inserted.length );
+		return of( elems, 0, elems.length );
+	}
+
+	private int tailOffset() {
+		return length < WIDTH
+			? 0
+			: ( ( length - 1 ) >>> BITS ) << BITS;
+	}
+
+	private Object[] leafOf( int index ) {
+		if ( index >= tailOffset() ) {
+			return tail;
+		}
+		Object[] node = root;
+		for ( int level = shift; level > 0; level -= BITS ) {
+			node = (Object[]) node[( index >>> level ) & MASK];
+		}
+		return node;
+	}
+
+	private Object[] pushTail( int level, Object[] parent, Object[] tailNode ) {
+		final int sub = ( ( length - 1 ) >>> level ) & MASK;
+		Object[] res = parent.clone();
+		if ( level == BITS ) {
+			res[sub] = tailNode;
+		} else {
+			Object[] child = (Object[]) parent[sub];
+			res[sub] = child != null
+				? pushTail( level - BITS, child, tailNode )
+				: newPath( level - BITS, tailNode );
+		}
+		return res;
+	}
+
+	private static Object[] newPath( int level, Object[] node ) {
+		if ( level == 0 ) {
+			return node;
+		}
+		Object[] res = new Object[WIDTH];
+		res[0] = newPath( level - BITS, node );
+		return res;
+	}
+
+	private static Object[] replaceAt( int level, Object[] node, int index, Object e ) {
+		Object[] res = node.clone();
+		if ( level == 0 ) {
+			res[index & MASK] = e;
+		} else {
+			final int sub = ( index >>> level ) & MASK;
+			res[sub] = replaceAt( level - BITS, (Object[]) node[sub], index, e );
+		}
+		return res;
+	}
+}
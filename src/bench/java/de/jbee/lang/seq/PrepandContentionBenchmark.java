@@ -0,0 +1,97 @@
+package de.jbee.lang.seq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.jbee.lang.List;
+
+/**
+ * Measures {@link List#prepand(Object)} when 1 to 64 threads prepend onto the same shared head
+ * list. All threads race to occupy the same next free cell of the head's elements array. The
+ * winner continues to use the array, all others copy.
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.Throughput )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 10, time = 1 )
+@Fork ( 1 )
+public class PrepandContentionBenchmark {
+
+	/**
+	 * The shared head is started over when it reaches this length to keep the heap stable.
+	 */
+	private static final int MAX_LENGTH = 1 << 16;
+
+	private static final Object E = "e";
+
+	volatile List<Object> head;
+
+	@Setup ( Level.Iteration )
+	public void setUp() {
+		head = List.with.element( E );
+	}
+
+	@Benchmark
+	@Threads ( 1 )
+	public List<Object> threads1() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 2 )
+	public List<Object> threads2() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 4 )
+	public List<Object> threads4() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 8 )
+	public List<Object> threads8() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 16 )
+	public List<Object> threads16() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 32 )
+	public List<Object> threads32() {
+		return prepandOnHead();
+	}
+
+	@Benchmark
+	@Threads ( 64 )
+	public List<Object> threads64() {
+		return prepandOnHead();
+	}
+
+	private List<Object> prepandOnHead() {
+		final List<Object> l = head;
+		final List<Object> res = l.length() >= MAX_LENGTH
+			? List.with.element( E )
+			: l.prepand( E );
+		head = res;
+		return res;
+	}
+}
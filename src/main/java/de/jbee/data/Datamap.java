@@ -1,7 +1,19 @@
 package de.jbee.data;
 
-import static de.jbee.data.Path.itemPath;
 import static de.jbee.lang.seq.IndexFor.insertionIndex;
+import static de.jbee.lang.seq.SerializedKeys.readKeys;
+import static de.jbee.lang.seq.SerializedKeys.readLength;
+import static de.jbee.lang.seq.SerializedKeys.writeKeys;
+import static de.jbee.lang.seq.SerializedKeys.writeLength;
+import static java.lang.Character.isDigit;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+import de.jbee.data.Dataset.DatasetBuilder;
 import de.jbee.data.Dataset.Itemised;
 import de.jbee.data.Dataset.Items;
 import de.jbee.data.Dataset.Records;
@@ -13,6 +25,7 @@ import de.jbee.lang.Ord;
 import de.jbee.lang.Order;
 import de.jbee.lang.Map.Entry;
 import de.jbee.lang.Map.Key;
+import de.jbee.lang.dev.Footprint;
 
 public class Datamap {
 
@@ -33,6 +46,71 @@ public class Datamap {
 		return new ObjectDataset<T>( Path.ROOT, 0, properties.length(), properties );
 	}
 
+	/**
+	 * @return A builder to stream the properties of a dataset into without building a
+	 *         {@link Map} first.
+	 */
+	static <T> DatasetBuilder<T> builder() {
+		return new PropertiesBuilder<T>();
+	}
+
+	/**
+	 * A dataset just containing a list of records of the same type. In contrast to a
+	 * {@link #dataset(Map)} the paths of the item's properties are not repeated for each item. All
+	 * values of a property are stored in one array (column) instead. Arrays of just
+	 * {@link Integer}s, {@link Long}s or {@link Double}s are stored as primitive arrays.
+	 * 
+	 * @param list The path of the list within the dataset returned, e.g. <code>members</code>
+	 * @param type The type of the items
+	 * @param properties The paths of the item's properties relative to an item, e.g.
+	 *            <code>name</code>
+	 * @param columns An array of values for each of the properties. All arrays have the same length
+	 *            (the count of items). Primitive arrays (<code>int[]</code>, <code>long[]</code>
+	 *            and <code>double[]</code>) can be used as well.
+	 */
+	static <T> Dataset<T> columns( Path list, Class<?> type, Path[] properties, Object[] columns ) {
+		return new ColumnDataset<T>( new Columns( list, type, properties, columns ) );
+	}
+
+	/**
+	 * @param prefix The path of a list followed by the {@link Path#ITEM_SEPARATOR}
+	 * @return The index after the item number of the path given or -1 if the path doesn't start
+	 *         with the path of an item of the list.
+	 */
+	static int itemEnd( String path, String prefix ) {
+		if ( !path.startsWith( prefix ) ) {
+			return -1;
+		}
+		int end = prefix.length();
+		while ( end < path.length() && isDigit( path.charAt( end ) ) ) {
+			end++;
+		}
+		return end == prefix.length() || path.charAt( prefix.length() ) == '0'
+				|| ( end < path.length() && path.charAt( end ) != Path.SEPARATOR )
+			? -1
+			: end;
+	}
+
+	/**
+	 * @return The number of the item a path having the given {@link #itemEnd(String, String)} is
+	 *         pointing into or 0 if it is not a item of the list.
+	 */
+	static int itemOf( String path, String prefix, int end ) {
+		if ( end < 0 || end - prefix.length() > 9 ) {
+			return 0;
+		}
+		int item = 0;
+		for ( int i = prefix.length(); i < end; i++ ) {
+			item = item * 10 + ( path.charAt( i ) - '0' );
+		}
+		return item;
+	}
+
+	static boolean isRecordOfType( Class<?> required, Object value ) {
+		return required == value
+				|| ( value instanceof Class<?> && ( (Class<?>) value ).isAssignableFrom( required ) );
+	}
+
 	static final class EmptyDataset<T>
 			implements Dataset<T>, Records, Values<T> {
 
@@ -92,6 +170,10 @@ public class Datamap {
 			return "[nothing]";
 		}
 
+		private Object readResolve() {
+			return EMPTY;
+		}
+
 		@Override
 		public <V> V value( ValueProperty<? super T, V> property ) {
 			return property.resolveIn( Path.ROOT, this );
@@ -99,62 +181,212 @@ public class Datamap {
 
 	}
 
-	private static final class ListItems<E>
+	/**
+	 * Appends the properties as entries of a {@link Map.MapBuilder}. When they are appended in
+	 * order each costs just one comparison and the entry.
+	 */
+	private static final class PropertiesBuilder<T>
+			implements DatasetBuilder<T> {
+
+		private final Map.MapBuilder<Object> properties = Map.with.builder( Dataset.ORDER );
+
+		PropertiesBuilder() {
+			// make visible
+		}
+
+		@Override
+		public DatasetBuilder<T> append( Key path, Object value ) {
+			properties.insert( path, value );
+			return this;
+		}
+
+		@Override
+		public Dataset<T> build() {
+			return dataset( properties.build() );
+		}
+	}
+
+	/**
+	 * A range of the items of a list given by their numbers. All operations are arithmetic on the
+	 * range of numbers. Like for any {@link de.jbee.lang.Sequence} the index starts at 0 with the
+	 * first item of the range, so index <code>i</code> is the item numbered <code>first + i</code>.
+	 */
+	private static abstract class ItemRange<E>
 			implements Items<E> {
 
-		private final Itemised<E> items;
+		/**
+		 * The path of the list followed by the {@link Path#ITEM_SEPARATOR}.
+		 */
+		private final String prefix;
+		final int first;
+		final int end;
 
-		ListItems( Itemised<E> items ) {
+		ItemRange( Path list, int first, int end ) {
 			super();
-			this.items = items;
+			this.prefix = list.path() + Path.ITEM_SEPARATOR;
+			this.first = first;
+			this.end = end;
 		}
 
+		/**
+		 * @return The dataset of the item with the given number within this range.
+		 */
+		abstract Dataset<E> item( int item );
+
+		/**
+		 * @return The non-empty range of the same list from <code>first</code> to <code>end</code>.
+		 */
+		abstract Items<E> range( int first, int end );
+
 		@Override
-		public Dataset<E> at( int index ) {
-			return items.item( itemPath( index ) );
+		public final Dataset<E> at( int index ) {
+			return index >= 0 && index < length()
+				? item( first + index )
+				: Datamap.<E> empty();
 		}
 
 		@Override
-		public Items<E> drop( int count ) {
-			// TODO Auto-generated method stub
-			return null;
+		public final Items<E> drop( int count ) {
+			return count <= 0
+				? this
+				: items( first + count, end );
 		}
 
 		@Override
-		public int indexFor( Key key ) {
-			// TODO Auto-generated method stub
-			return 0;
+		public final int indexFor( Key key ) {
+			return indexFor( key, 0, length() );
 		}
 
 		@Override
-		public int indexFor( Key key, int startInclusive, int endExclusive ) {
-			// TODO Auto-generated method stub
-			return 0;
+		public final int indexFor( Key key, int startInclusive, int endExclusive ) {
+			final String path = key.path();
+			final int itemEnd = itemEnd( path, prefix );
+			final int item = itemEnd == path.length()
+				? Datamap.itemOf( path, prefix, itemEnd )
+				: 0;
+			final int index = item - first;
+			return index >= Math.max( 0, startInclusive ) && index < Math.min( length(), endExclusive )
+				? index
+				: ListIndex.NOT_CONTAINED;
 		}
 
 		@Override
-		public boolean isEmpty() {
-			return false;
+		public final boolean isEmpty() {
+			return first >= end;
 		}
 
 		@Override
-		public int length() {
-			// TODO Auto-generated method stub
-			return 0;
+		public final int length() {
+			return end - first;
 		}
 
 		@Override
-		public Items<E> range( Path start, Path end ) {
-			// TODO Auto-generated method stub
-			return null;
+		public final Items<E> range( Path start, Path end ) {
+			final int low = itemOf( start );
+			final int high = itemOf( end );
+			return items( Math.max( first, low ), high == 0
+				? this.end
+				: Math.min( this.end, high ) );
 		}
 
 		@Override
-		public Items<E> take( int count ) {
-			// TODO Auto-generated method stub
-			return null;
+		public final Items<E> take( int count ) {
+			return count >= length()
+				? this
+				: items( first, first + count );
+		}
+
+		private int itemOf( Path path ) {
+			final String p = path.path();
+			return Datamap.itemOf( p, prefix, itemEnd( p, prefix ) );
+		}
+
+		private Items<E> items( int first, int end ) {
+			return first >= end
+				? Datamap.<E> noItems()
+				: range( first, end );
+		}
+	}
+
+	/**
+	 * The items of a list within a {@link Map} of properties. Items are expected to be numbered
+	 * from 1 without gaps. Since the paths of the items are sorted by their string (<code>:10</code>
+	 * is before <code>:2</code>) the count of items is found by a binary search on the numbers of
+	 * existing items.
+	 */
+	private static final class ListItems<E>
+			extends ItemRange<E> {
+
+		private final Itemised<E> items;
+		private final Map<Object> properties;
+		private final Path list;
+
+		ListItems( Itemised<E> items, Map<Object> properties, Path list ) {
+			this( items, properties, list, 1, itemsEnd( properties, list ) );
 		}
 
+		private ListItems( Itemised<E> items, Map<Object> properties, Path list, int first, int end ) {
+			super( list, first, end );
+			this.items = items;
+			this.properties = properties;
+			this.list = list;
+		}
+
+		/**
+		 * Gallops to the first number of a item that does not exist and binary searches the
+		 * boundary between the last existing and that. Each step is a lookup in the properties.
+		 * 
+		 * @return The number after the number of the last item.
+		 */
+		private static int itemsEnd( Map<Object> properties, Path list ) {
+			final String prefix = list.path() + Path.ITEM_SEPARATOR;
+			if ( !exists( 1, properties, list, prefix ) ) {
+				return 1;
+			}
+			int low = 1;
+			int high = 2;
+			while ( exists( high, properties, list, prefix ) ) {
+				low = high;
+				if ( high > Integer.MAX_VALUE / 2 ) {
+					return Integer.MAX_VALUE;
+				}
+				high *= 2;
+			}
+			while ( high - low > 1 ) {
+				final int mid = ( low + high ) >>> 1;
+				if ( exists( mid, properties, list, prefix ) ) {
+					low = mid;
+				} else {
+					high = mid;
+				}
+			}
+			return high;
+		}
+
+		private static boolean exists( int item, Map<Object> properties, Path list, String prefix ) {
+			final int index = insertionIndex( properties.indexFor( list.item( item ) ) );
+			return index < properties.length()
+					&& itemEnd( properties.at( index ).key().path(), prefix ) == prefix.length()
+							+ digits( item );
+		}
+
+		private static int digits( int item ) {
+			int res = 1;
+			for ( int i = item; i >= 10; i /= 10 ) {
+				res++;
+			}
+			return res;
+		}
+
+		@Override
+		Dataset<E> item( int item ) {
+			return items.item( item );
+		}
+
+		@Override
+		Items<E> range( int first, int end ) {
+			return new ListItems<E>( items, properties, list, first, end );
+		}
 	}
 
 	private static final class VirtualItems<E, D extends Dataset<E> & Records>
@@ -277,7 +509,7 @@ public class Datamap {
 	 * 
 	 */
 	private static final class ObjectDataset<T>
-			implements Itemised<T>, Dataset<T>, Records, Values<T> {
+			implements Itemised<T>, Dataset<T>, Records, Values<T>, Footprint.Measurable {
 
 		private final Path root;
 		private final int start;
@@ -317,7 +549,7 @@ public class Datamap {
 		@Override
 		public <I> I items( ItemProperty<? super T, I> property ) {
 			return root.endsWithItem()
-				? property.resolveIn( new ListItems<T>( this ) )
+				? property.resolveIn( new ListItems<T>( this, properties, root.itemParent() ) )
 				: property.resolveIn( new VirtualItems<T, ObjectDataset<T>>( this ) );
 		}
 
@@ -331,6 +563,15 @@ public class Datamap {
 			return empty();
 		}
 
+		/**
+		 * A dataset is a view on a range of the properties but all of them are referred.
+		 */
+		@Override
+		public void measure( Footprint.Meter meter ) {
+			meter.node( 0 );
+			meter.nested( properties );
+		}
+
 		@Override
 		public Ord<Object> order() {
 			return properties.order();
@@ -379,20 +620,545 @@ public class Datamap {
 			return property.resolveIn( root, this );
 		}
 
-		private <E> boolean isRecordOfType( Class<E> required, Object value ) {
-			return required == value
-					|| ( value instanceof Class<?> && ( (Class<?>) value ).isAssignableFrom( required ) );
+		private Object writeReplace() {
+			return new SerializedDataset( root, start, end, properties );
 		}
 
 		@Override
-		public Dataset<T> item( Path item ) {
+		public Dataset<T> item( int item ) {
 			Object type = at( 0 );
 			if ( type instanceof Class<?> ) {
-				return recordAt( root.itemParent().dot( item ).dot( TYPE ), (Class<T>) type, 0,
+				return recordAt( root.itemParent().item( item ).dot( TYPE ), (Class<T>) type, 0,
 						properties.length() );
 			}
 			return empty();
 		}
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The serialized form of a {@link ObjectDataset}: its root followed by the properties within
+	 * its range as two columns, the {@link de.jbee.lang.seq.SerializedKeys} and the values. Just
+	 * the properties of the view are written, so a record is read back as a dataset of its own
+	 * properties in a tidy {@link Map} of interned {@link Path}s.
+	 */
+	private static final class SerializedDataset
+			implements Externalizable {
+
+		private Path root;
+		private int start;
+		private int end;
+		private Map<Object> properties;
+
+		public SerializedDataset() {
+			// make visible
+		}
+
+		SerializedDataset( Path root, int start, int end, Map<Object> properties ) {
+			super();
+			this.root = root;
+			this.start = start;
+			this.end = end;
+			this.properties = properties;
+		}
+
+		@Override
+		public void writeExternal( ObjectOutput out )
+				throws IOException {
+			out.writeUTF( root.path() );
+			final int length = end - start;
+			final Object[] entries = new Object[length];
+			properties.fill( start, entries, 0, length );
+			writeLength( out, length );
+			writeKeys( out, entries, 0, length );
+			for ( int i = 0; i < length; i++ ) {
+				out.writeObject( ( (Entry<?>) entries[i] ).value() );
+			}
+		}
+
+		@Override
+		public void readExternal( ObjectInput in )
+				throws IOException, ClassNotFoundException {
+			root = Path.recordPath( in.readUTF() );
+			final String[] paths = readKeys( in, readLength( in ) );
+			final Map.MapBuilder<Object> builder = Map.with.builder( Dataset.ORDER );
+			for ( int i = 0; i < paths.length; i++ ) {
+				builder.insert( Path.recordPath( paths[i] ), in.readObject() );
+			}
+			properties = builder.build();
+			start = 0;
+			end = paths.length;
+		}
+
+		private Object readResolve() {
+			return new ObjectDataset<Object>( root, start, end, properties );
+		}
+	}
+
+	/**
+	 * The items of a list of records of the same type: One sorted dictionary of the paths of the
+	 * item's properties (relative to the item) and an array of values (column) for each of them.
+	 * The {@link Records#TYPE} of all items is the type given.
+	 * 
+	 * Items are numbered from 1 (like the {@link Path#itemPath(int)} used as default item) so item
+	 * <code>n</code> is stored at index <code>n - 1</code> of each column.
+	 */
+	private static final class Columns
+			implements Serializable {
+
+		final Path list;
+		final Class<?> type;
+		/**
+		 * The paths of the properties relative to an item sorted in {@link Dataset#ORDER}.
+		 */
+		final String[] paths;
+		/**
+		 * The values of the property with the path of the same index: <code>int[]</code>,
+		 * <code>long[]</code>, <code>double[]</code>, <code>Object[]</code> or <code>null</code>
+		 * for the {@link Records#TYPE} unless it is given as a column.
+		 */
+		final Object[] columns;
+		/**
+		 * The count of items.
+		 */
+		final int length;
+		private final String prefix;
+
+		Columns( Path list, Class<?> type, Path[] properties, Object[] columns ) {
+			super();
+			if ( list == Path.ROOT ) {
+				throw new IllegalArgumentException( "The list needs a path." );
+			}
+			if ( properties.length != columns.length ) {
+				throw new IllegalArgumentException( "Expected a column for each of the "
+						+ properties.length + " properties but got " + columns.length );
+			}
+			this.list = list;
+			this.type = type;
+			this.prefix = list.path() + Path.ITEM_SEPARATOR;
+			this.length = columns.length == 0
+				? 0
+				: java.lang.reflect.Array.getLength( columns[0] );
+			Map.MapBuilder<Object> dictionary = Map.with.builder( Dataset.ORDER );
+			dictionary.insert( Records.TYPE, -1 );
+			for ( int i = 0; i < properties.length; i++ ) {
+				dictionary.insert( properties[i], i );
+			}
+			Map<Object> sorted = dictionary.build();
+			this.paths = new String[sorted.length()];
+			this.columns = new Object[sorted.length()];
+			for ( int i = 0; i < paths.length; i++ ) {
+				paths[i] = sorted.at( i ).key().path();
+				final int column = (Integer) sorted.at( i ).value();
+				this.columns[i] = column < 0
+					? null
+					: column( columns[column], length );
+			}
+		}
+
+		private static Object column( Object values, int length ) {
+			if ( values == null || !values.getClass().isArray()
+					|| java.lang.reflect.Array.getLength( values ) != length ) {
+				throw new IllegalArgumentException( "Expected a column of " + length
+						+ " values but got: " + values );
+			}
+			if ( values instanceof int[] ) {
+				return ( (int[]) values ).clone();
+			}
+			if ( values instanceof long[] ) {
+				return ( (long[]) values ).clone();
+			}
+			if ( values instanceof double[] ) {
+				return ( (double[]) values ).clone();
+			}
+			if ( values instanceof Object[] ) {
+				return specialised( (Object[]) values );
+			}
+			throw new IllegalArgumentException( "Unsupported column type: " + values.getClass() );
+		}
+
+		private static Object specialised( Object[] values ) {
+			final Class<?> type = values.length == 0 || values[0] == null
+				? null
+				: values[0].getClass();
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null || values[i].getClass() != type ) {
+					return values.clone();
+				}
+			}
+			if ( type == Integer.class ) {
+				int[] res = new int[values.length];
+				for ( int i = 0; i < res.length; i++ ) {
+					res[i] = (Integer) values[i];
+				}
+				return res;
+			}
+			if ( type == Long.class ) {
+				long[] res = new long[values.length];
+				for ( int i = 0; i < res.length; i++ ) {
+					res[i] = (Long) values[i];
+				}
+				return res;
+			}
+			if ( type == Double.class ) {
+				double[] res = new double[values.length];
+				for ( int i = 0; i < res.length; i++ ) {
+					res[i] = (Double) values[i];
+				}
+				return res;
+			}
+			return values.clone();
+		}
+
+		int width() {
+			return paths.length;
+		}
+
+		Object value( int item, int column ) {
+			final Object values = columns[column];
+			final int index = item - 1;
+			if ( values == null ) {
+				return type;
+			}
+			if ( values instanceof int[] ) {
+				return ( (int[]) values )[index];
+			}
+			if ( values instanceof long[] ) {
+				return ( (long[]) values )[index];
+			}
+			if ( values instanceof double[] ) {
+				return ( (double[]) values )[index];
+			}
+			return ( (Object[]) values )[index];
+		}
+
+		/**
+		 * @return The index after the item number of the path given or -1 if the path doesn't
+		 *         start with the path of an item of this list.
+		 */
+		int itemEnd( String path ) {
+			return Datamap.itemEnd( path, prefix );
+		}
+
+		/**
+		 * @return The number of the item a path having the given {@link #itemEnd(String)} is
+		 *         pointing into or 0 if it is not a item of this list.
+		 */
+		int itemOf( String path, int end ) {
+			final int item = Datamap.itemOf( path, prefix, end );
+			return item <= length
+				? item
+				: 0;
+		}
+
+		/**
+		 * @return The column of the property a path having the given {@link #itemEnd(String)} is
+		 *         pointing to or the negative insertion point for a path not in the dictionary.
+		 *         The item itself is before all of its properties.
+		 */
+		int columnOf( String path, int end ) {
+			if ( end >= path.length() ) {
+				return -1;
+			}
+			final int start = end + 1;
+			int low = 0;
+			int high = paths.length - 1;
+			while ( low <= high ) {
+				final int mid = ( low + high ) >>> 1;
+				final int cmp = compare( paths[mid], path, start );
+				if ( cmp < 0 ) {
+					low = mid + 1;
+				} else if ( cmp > 0 ) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+			return - ( low + 1 );
+		}
+
+		/**
+		 * Compares like {@link de.jbee.lang.Order#alphabetical} with the end of <code>path</code>
+		 * starting at index <code>start</code> without cutting it off.
+		 */
+		private static int compare( String property, String path, int start ) {
+			final int length = Math.min( property.length(), path.length() - start );
+			for ( int i = 0; i < length; i++ ) {
+				final int c = property.charAt( i ) - path.charAt( start + i );
+				if ( c != 0 ) {
+					return c;
+				}
+			}
+			return property.length() - ( path.length() - start );
+		}
+
+		Dataset<Object> item( int item ) {
+			return new ColumnRecord<Object>( this, item, 0, width(), list.item( item ) );
+		}
+
+		/**
+		 * @param item the number of the item to search in or 0 for any
+		 */
+		@SuppressWarnings ( "unchecked" )
+		<E> Dataset<E> recordAt( Path format, Class<E> type, int item, int start, int end ) {
+			final String path = format.path();
+			final int itemEnd = itemEnd( path );
+			final int formatItem = itemOf( path, itemEnd );
+			if ( formatItem == 0 || item != 0 && item != formatItem ) {
+				return empty();
+			}
+			final int formatColumn = columnOf( path, itemEnd );
+			if ( formatColumn < start || formatColumn >= end
+					|| !isRecordOfType( type, value( formatItem, formatColumn ) ) ) {
+				return empty();
+			}
+			final Path record = format.parent();
+			final String recordPath = record.path();
+			final int low = Math.max( start, insertionIndex( columnOf( recordPath, itemEnd ) ) );
+			final int high = Math.min( end, insertionIndex( columnOf( record.last().path(),
+					itemEnd ) ) );
+			return low >= high
+				? Datamap.<E> empty()
+				: (Dataset<E>) new ColumnRecord<Object>( this, formatItem, low, high, record );
+		}
+	}
+
+	/**
+	 * A dataset containing the list of {@link Columns}. Each item is one record having a entry for
+	 * each column. The items are in the order of their numbers (not that of their path).
+	 */
+	private static final class ColumnDataset<T>
+			implements Dataset<T>, Records, Values<T>, Footprint.Measurable {
+
+		private final Columns columns;
+
+		ColumnDataset( Columns columns ) {
+			super();
+			this.columns = columns;
+		}
+
+		@Override
+		public Object at( int index ) {
+			final int width = columns.width();
+			return columns.value( index / width + 1, index % width );
+		}
+
+		@Override
+		public int indexFor( Key key ) {
+			return indexFor( key, 0, length() );
+		}
+
+		@Override
+		public int indexFor( Key key, int startInclusive, int endExclusive ) {
+			final String path = key.path();
+			final int end = columns.itemEnd( path );
+			final int item = columns.itemOf( path, end );
+			final int column = columns.columnOf( path, end );
+			if ( item == 0 || column < 0 ) {
+				return ListIndex.NOT_CONTAINED;
+			}
+			final int index = ( item - 1 ) * columns.width() + column;
+			return index >= startInclusive && index < endExclusive
+				? index
+				: ListIndex.NOT_CONTAINED;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return columns.length == 0;
+		}
+
+		@Override
+		public <I> I items( ItemProperty<? super T, I> property ) {
+			return property.resolveIn( new VirtualItems<T, ColumnDataset<T>>( this ) );
+		}
+
+		@Override
+		public int length() {
+			return columns.length * columns.width();
+		}
+
+		@Override
+		public <E> Dataset<E> noneAs( Class<E> type ) {
+			return empty();
+		}
+
+		/**
+		 * The properties are in the order of the item's numbers, so <code>:10</code> follows
+		 * <code>:9</code> what isn't the {@link Dataset#ORDER} of their paths.
+		 */
+		@Override
+		public Ord<Object> order() {
+			return Order.keep;
+		}
+
+		@Override
+		public <S> Dataset<S> record( RecordProperty<? super T, S> property ) {
+			return property.resolveIn( Path.ROOT, this );
+		}
+
+		@Override
+		public <E> Dataset<E> recordAt( Path format, Class<E> type ) {
+			return columns.recordAt( format, type, 0, 0, columns.width() );
+		}
+
+		@Override
+		public <V> V value( ValueProperty<? super T, V> property ) {
+			return property.resolveIn( Path.ROOT, this );
+		}
+
+		/**
+		 * The dictionary and each column are measured as a segment.
+		 */
+		@Override
+		public void measure( Footprint.Meter meter ) {
+			meter.node( 2 );
+			meter.segment( columns.paths, 0, columns.paths.length );
+			for ( Object values : columns.columns ) {
+				if ( values instanceof Object[] ) {
+					meter.segment( (Object[]) values, 0, columns.length );
+				} else if ( values != null ) {
+					meter.segment( columns.length );
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return columns.list + "[" + columns.length + "]";
+		}
+	}
+
+	/**
+	 * A record within a item of {@link Columns}: the item itself or a record nested in it.
+	 */
+	private static final class ColumnRecord<T>
+			implements Itemised<T>, Dataset<T>, Records, Values<T> {
+
+		private final Columns columns;
+		private final int item;
+		private final int start;
+		private final int end;
+		private final Path root;
+
+		ColumnRecord( Columns columns, int item, int start, int end, Path root ) {
+			super();
+			this.columns = columns;
+			this.item = item;
+			this.start = start;
+			this.end = end;
+			this.root = root;
+		}
+
+		@Override
+		public Object at( int index ) {
+			if ( index < 0 || index >= length() ) {
+				throw new IndexOutOfBoundsException( "No such property: " + index );
+			}
+			return columns.value( item, start + index );
+		}
+
+		@Override
+		public int indexFor( Key key ) {
+			return indexFor( key, 0, length() );
+		}
+
+		@Override
+		public int indexFor( Key key, int startInclusive, int endExclusive ) {
+			final String path = key.path();
+			final int itemEnd = columns.itemEnd( path );
+			if ( columns.itemOf( path, itemEnd ) != item ) {
+				return ListIndex.NOT_CONTAINED;
+			}
+			final int index = columns.columnOf( path, itemEnd ) - start;
+			return index >= startInclusive && index < Math.min( endExclusive, length() )
+				? index
+				: ListIndex.NOT_CONTAINED;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		public <I> I items( ItemProperty<? super T, I> property ) {
+			return root.endsWithItem()
+				? property.resolveIn( new ColumnItems<T>( columns, 1, columns.length + 1 ) )
+				: property.resolveIn( new VirtualItems<T, ColumnRecord<T>>( this ) );
+		}
+
+		@SuppressWarnings ( "unchecked" )
+		@Override
+		public Dataset<T> item( int item ) {
+			return columns.recordAt( root.itemParent().item( item ).dot( TYPE ),
+					(Class<T>) columns.type, 0, 0, columns.width() );
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public <E> Dataset<E> noneAs( Class<E> type ) {
+			return empty();
+		}
+
+		@Override
+		public Ord<Object> order() {
+			return Dataset.ORDER;
+		}
+
+		@Override
+		public <S> Dataset<S> record( RecordProperty<? super T, S> property ) {
+			return property.resolveIn( root, this );
+		}
+
+		@Override
+		public <E> Dataset<E> recordAt( Path format, Class<E> type ) {
+			return columns.recordAt( format, type, item, start, end );
+		}
+
+		@Override
+		public <V> V value( ValueProperty<? super T, V> property ) {
+			return property.resolveIn( root, this );
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder b = new StringBuilder();
+			b.append( root );
+			for ( int i = start; i < end; i++ ) {
+				b.append( '\n' );
+				b.append( String.format( "%-20s => %s", columns.paths[i], columns.value( item, i ) ) );
+			}
+			return b.toString();
+		}
+	}
+
+	/**
+	 * A range of the items of {@link Columns} given by their numbers.
+	 */
+	private static final class ColumnItems<E>
+			extends ItemRange<E> {
+
+		private final Columns columns;
+
+		ColumnItems( Columns columns, int first, int end ) {
+			super( columns.list, first, end );
+			this.columns = columns;
+		}
+
+		@SuppressWarnings ( "unchecked" )
+		@Override
+		Dataset<E> item( int item ) {
+			return (Dataset<E>) columns.item( item );
+		}
+
+		@Override
+		Items<E> range( int first, int end ) {
+			return new ColumnItems<E>( columns, first, end );
+		}
+	}
+}
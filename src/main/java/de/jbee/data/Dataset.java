@@ -1,15 +1,19 @@
 package de.jbee.data;
 
 import static de.jbee.data.Path.recordPath;
+
+import java.io.Serializable;
+
 import de.jbee.lang.Ord;
 import de.jbee.lang.ReducibleSequence;
 import de.jbee.lang.Searchable;
 import de.jbee.lang.Sequence;
 import de.jbee.lang.Table;
 import de.jbee.lang.Map.Entry;
+import de.jbee.lang.Map.Key;
 
 public interface Dataset<T>
-		extends Sequence<Object> {
+		extends Sequence<Object>, Serializable {
 
 	Ord<Object> ORDER = Entry.ORDER;
 
@@ -95,7 +99,23 @@ public interface Dataset<T>
 
 	interface Itemised<T> {
 
-		Dataset<T> item( Path item );
+		/**
+		 * @return The record of the item with the given number (starting at 1) within the list
+		 *         this is an item of.
+		 */
+		Dataset<T> item( int item );
+	}
+
+	/**
+	 * Collects the properties of a {@link Dataset} one by one. Properties appended in the order of
+	 * their paths (as read from a sorted source like an export) are stored in place without any
+	 * sorting when built. Others are sorted once when the dataset is built.
+	 */
+	interface DatasetBuilder<T> {
+
+		DatasetBuilder<T> append( Key path, Object value );
+
+		Dataset<T> build();
 	}
 
 }
@@ -1,46 +1,146 @@
 package de.jbee.data;
 
 import static java.lang.Character.isDigit;
+
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
 import de.jbee.lang.Map;
 
+/**
+ * A path to a property within a {@link Dataset} like <code>members:1.name</code>.
+ *
+ * Each path is a node knowing its parent. It caches its full path, hash and its {@link #last()}
+ * path. Paths of records are interned in a tree starting at the {@link #ROOT}: As long as a path
+ * is in use there is just one instance for it. So walking to the {@link #parent()} or
+ * {@link #dot(Path)} a path already known doesn't build any new strings. The tree just refers
+ * weakly to the paths, so paths no longer used are dropped from it.
+ *
+ * Items (like <code>:1</code>) and all paths below them are not interned since there might be
+ * millions of them. Therefore paths are equal when they have the same {@link #path()}.
+ *
+ * A path is serialized as its {@link #path()} and interned again when it is read.
+ */
 public final class Path
-		implements Map.Key, CharSequence {
+		implements Map.Key, CharSequence, Serializable {
+
+	public static final char SEPARATOR = '.';
+	public static final char ITEM_SEPARATOR = ':';
+
+	public static final Path ROOT = new Path( null, "", true );
+	private static final String LAST = Map.Key.PREFIX_TERMINATOR;
 
-	public static final Path ROOT = new Path( "" );
-	private static final Path LAST = new Path( Map.Key.PREFIX_TERMINATOR );
+	/**
+	 * The interned paths no longer used to be removed from their parent's children.
+	 */
+	private static final ReferenceQueue<Path> UNUSED = new ReferenceQueue<Path>();
 
+	/**
+	 * The path this is a child of or <code>null</code> for the {@link #ROOT}.
+	 */
+	private final Path parent;
+	/**
+	 * The segment of this path (including its separator) that is appended to the parent's path.
+	 */
+	private final String segment;
 	private final String path;
+	private final int depth;
+	private final int hash;
+	/**
+	 * Is this path within the tree of interned paths, so its children are interned as well?
+	 */
+	private final boolean interned;
+	/**
+	 * The interned children by their segment. Created with the first child.
+	 */
+	private volatile ConcurrentHashMap<String, Child> children;
 
-	public static final char SEPARATOR = '.';
-	public static final char ITEM_SEPARATOR = ':';
+	/**
+	 * Cached {@link #last()} path (it is interned anyway).
+	 */
+	private Path last;
 
-	private Path( String path ) {
+	private Path( Path parent, String segment, boolean interned ) {
 		super();
-		this.path = path;
+		this.parent = parent;
+		this.segment = segment;
+		this.interned = interned;
+		this.path = parent == null
+			? segment
+			: parent.path + segment;
+		this.depth = parent == null
+			? 0
+			: parent.depth + 1;
+		this.hash = path.hashCode();
 	}
 
 	public static Path recordPath( String value ) {
-		return value == null || value.isEmpty()
-			? ROOT
-			: new Path( value );
+		if ( value == null || value.isEmpty() ) {
+			return ROOT;
+		}
+		Path res = ROOT;
+		int start = 0;
+		for ( int i = 1; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			if ( c == SEPARATOR || c == ITEM_SEPARATOR ) {
+				res = res.child( value.substring( start, i ) );
+				start = i;
+			}
+		}
+		return res.child( value.substring( start ) );
+	}
+
+	public static Path itemPath( int index ) {
+		return ROOT.child( String.valueOf( index ) );
+	}
+
+	/**
+	 * @return The path of the item with the given number within the list at this path. Like all
+	 *         items it is not interned, it is made directly without parsing or looking up a path.
+	 */
+	public Path item( int number ) {
+		return this == ROOT
+			? itemPath( number )
+			: new Path( this, ITEM_SEPARATOR + String.valueOf( number ), false );
 	}
 
 	public Path dot( Path suffix ) {
-		return path.isEmpty()
-			? suffix
-			: suffix.startsWithItem()
-				? new Path( path + Path.ITEM_SEPARATOR + suffix.path )
-				: new Path( path + Path.SEPARATOR + suffix.path );
+		if ( this == ROOT || suffix == ROOT ) {
+			return this == ROOT
+				? suffix
+				: this;
+		}
+		if ( suffix.depth > 1 ) {
+			return dot( suffix.parent ).child( suffix.segment );
+		}
+		return suffix.startsWithItem()
+			? child( ITEM_SEPARATOR + suffix.segment )
+			: child( SEPARATOR + suffix.segment );
 	}
 
+	/**
+	 * @return The path of the record containing this path: item segments (<code>:1</code>) belong
+	 *         to the segment they follow.
+	 */
 	public Path parent() {
-		if ( path.isEmpty() ) {
+		if ( this == ROOT ) {
 			return this;
 		}
-		int separatorIndex = path.lastIndexOf( SEPARATOR );
-		return separatorIndex < 0
-			? ROOT
-			: subSequence( 0, separatorIndex );
+		Path record = this;
+		while ( record.depth > 1 && record.segment.charAt( 0 ) == ITEM_SEPARATOR ) {
+			record = record.parent;
+		}
+		return record.parent;
+	}
+
+	/**
+	 * @return The count of segments of this path, 0 for the {@link #ROOT}.
+	 */
+	public int depth() {
+		return depth;
 	}
 
 	@Override
@@ -48,6 +148,23 @@ public final class Path
 		return path;
 	}
 
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals( Object obj ) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( !( obj instanceof Path ) ) {
+			return false;
+		}
+		final Path other = (Path) obj;
+		return hash == other.hash && depth == other.depth && path.equals( other.path );
+	}
+
 	@Override
 	public char charAt( int index ) {
 		return path.charAt( index );
@@ -62,19 +179,29 @@ public final class Path
 		return length() > 0 && isDigit( path.charAt( 0 ) );
 	}
 
+	/**
+	 * @return true if the last segment of this path is a item like <code>:1</code>.
+	 */
 	public boolean endsWithItem() {
-		final int dotIndex = path.lastIndexOf( ITEM_SEPARATOR );
-		return dotIndex >= 0 && isDigit( path.charAt( dotIndex + 1 ) );
+		return depth > 1 && isItem( segment );
 	}
 
 	public Path itemParent() {
 		return endsWithItem()
-			? subSequence( 0, path.lastIndexOf( ITEM_SEPARATOR ) )
+			? parent
 			: this;
 	}
 
+	/**
+	 * @return The path sorted after all the paths starting with this path.
+	 */
 	public Path last() {
-		return dot( LAST );
+		Path res = last;
+		if ( res == null ) {
+			res = dot( ROOT.child( LAST ) );
+			last = res;
+		}
+		return res;
 	}
 
 	@Override
@@ -82,12 +209,95 @@ public final class Path
 		return recordPath( path.substring( start, end ) );
 	}
 
-	public static Path itemPath( int index ) {
-		return new Path( index + "" );
-	}
-
 	@Override
 	public String path() {
 		return path;
 	}
+
+	private Path child( String segment ) {
+		if ( !interned || isItem( segment ) || this == ROOT && isDigit( segment.charAt( 0 ) ) ) {
+			return new Path( this, segment, false );
+		}
+		removeUnused();
+		final ConcurrentHashMap<String, Child> known = children();
+		while ( true ) {
+			final Child ref = known.get( segment );
+			final Path child = ref == null
+				? null
+				: ref.get();
+			if ( child != null ) {
+				return child;
+			}
+			final Path res = new Path( this, segment, true );
+			final Child added = new Child( res, known );
+			if ( ref == null
+				? known.putIfAbsent( segment, added ) == null
+				: known.replace( segment, ref, added ) ) {
+				return res;
+			}
+		}
+	}
+
+	private ConcurrentHashMap<String, Child> children() {
+		ConcurrentHashMap<String, Child> known = children;
+		if ( known == null ) {
+			synchronized ( this ) {
+				known = children;
+				if ( known == null ) {
+					known = new ConcurrentHashMap<String, Child>( 4 );
+					children = known;
+				}
+			}
+		}
+		return known;
+	}
+
+	private static void removeUnused() {
+		Reference<? extends Path> unused = UNUSED.poll();
+		while ( unused != null ) {
+			final Child child = (Child) unused;
+			child.siblings.remove( child.segment, child );
+			unused = UNUSED.poll();
+		}
+	}
+
+	private Object writeReplace() {
+		return new SerializedPath( path );
+	}
+
+	private static boolean isItem( String segment ) {
+		return segment.length() > 1 && segment.charAt( 0 ) == ITEM_SEPARATOR
+				&& isDigit( segment.charAt( 1 ) );
+	}
+
+	/**
+	 * The weak reference to an interned path kept by its parent.
+	 */
+	private static final class Child
+			extends WeakReference<Path> {
+
+		final String segment;
+		final ConcurrentHashMap<String, Child> siblings;
+
+		Child( Path path, ConcurrentHashMap<String, Child> siblings ) {
+			super( path, UNUSED );
+			this.segment = path.segment;
+			this.siblings = siblings;
+		}
+	}
+
+	private static final class SerializedPath
+			implements Serializable {
+
+		private final String path;
+
+		SerializedPath( String path ) {
+			super();
+			this.path = path;
+		}
+
+		private Object readResolve() {
+			return recordPath( path );
+		}
+	}
 }
@@ -174,7 +174,7 @@ public final class Array {
 	 * @author Jan Bernitt (jan.bernitt@gmx.de)
 	 */
 	private static final class ArrayList<E>
-			implements List<E> {
+			implements List<E>, SegmentTraversable<E> {
 
 		private final Object[] elems;
 
@@ -263,7 +263,7 @@ public final class Array {
 			}
 			Object[] res = new Object[shortenedBy1];
 			System.arraycopy( elems, 0, res, 0, index );
-			System.arraycopy( elems, index + 1, res, index, elems.length - index );
+			System.arraycopy( elems, index + 1, res, index, shortenedBy1 - index );
 			return arraylist( res );
 		}
 
@@ -358,6 +358,15 @@ public final class Array {
 			}
 		}
 
+		@Override
+		public void traverse( int start, SegmentTraversal<? super E> traversal ) {
+			int inc = 0;
+			while ( inc >= 0 && start < elems.length ) {
+				inc = traversal.incrementOn( elems, start, elems.length );
+				start += inc;
+			}
+		}
+
 		private static <E> ArrayList<E> arraylist( Object[] res ) {
 			return new ArrayList<E>( res );
 		}
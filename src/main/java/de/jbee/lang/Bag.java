@@ -25,6 +25,13 @@ public interface Bag<E>
 	 */
 	Bag<E> add( E e );
 
+	/**
+	 * Same as {@link #add(Object)} for each of the elements given but they are sorted and merged
+	 * with the elements of this bag in a single pass. Added elements follow equal elements already
+	 * contained.
+	 */
+	Bag<E> addAll( Sequence<? extends E> elems );
+
 	/**
 	 * Can be used together with {@link #indexFor(Object)} to receive a {@link Bag} of all elements
 	 * equal to a sample.
@@ -34,6 +41,15 @@ public interface Bag<E>
 	 */
 	Bag<E> entriesAt( int index );
 
+	/**
+	 * A read-mostly bag: The elements are laid out once in a search tree order that is more
+	 * cache-friendly for the lookups by {@link #indexFor(Object)}. This costs another two arrays
+	 * as long as the bag. Any modification results in a usual bag again.
+	 * 
+	 * @return A bag with the same elements and order that is optimised for lookups.
+	 */
+	Bag<E> frozen();
+
 	/*
 	 * Covariant return type overrides from List interface with Set return type
 	 */
@@ -53,6 +69,22 @@ public interface Bag<E>
 	@Override
 	Bag<E> tidyUp();
 
+	/**
+	 * Collects elements unsorted. They are sorted once when the {@link Bag} is built.
+	 */
+	interface BagBuilder<E>
+			extends List.ListBuilder<E> {
+
+		@Override
+		BagBuilder<E> append( E e );
+
+		@Override
+		BagBuilder<E> append( Sequence<? extends E> elems );
+
+		@Override
+		Bag<E> build();
+	}
+
 	interface BagLister
 			extends Lister {
 
@@ -83,5 +115,11 @@ public interface Bag<E>
 		 *         in the <code>order</code> given (if necessary).
 		 */
 		<E> Bag<E> elements( Ord<Object> order, List<E> elems );
+
+		/**
+		 * @return a builder for a bag or set using the <code>order</code> given. The elements
+		 *         appended are sorted once when the bag is built.
+		 */
+		<E> BagBuilder<E> builder( Ord<Object> order );
 	}
 }
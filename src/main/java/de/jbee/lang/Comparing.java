@@ -0,0 +1,22 @@
+package de.jbee.lang;
+
+/**
+ * A {@link Ord} that also offers its result as primitive comparison like a
+ * {@link java.util.Comparator}. Searching and sorting use {@link #compare(Object, Object)} in
+ * their inner loops when it is available since that avoids the dispatch through the
+ * {@link Ordering} of every wrapping order.
+ *
+ * Both methods have to be consistent: <code>ord(l,r)</code> is equal to
+ * <code>Ordering.fromComparison(compare(l,r))</code>.
+ *
+ * @see Order#compare(Ord, Object, Object)
+ */
+public interface Comparing<T>
+		extends Ord<T> {
+
+	/**
+	 * @return A negative number, zero or a positive number as the left value is less than, equal
+	 *         to or greater than the right value.
+	 */
+	int compare( T left, T right );
+}
@@ -0,0 +1,80 @@
+package de.jbee.lang;
+
+import de.jbee.lang.seq.Sequences;
+
+/**
+ * The primitive <code>double</code> counterpart of a {@link List}. Elements are stored unboxed in
+ * <code>double[]</code> generations sharing the same structure as the {@link List}s do.
+ *
+ * Use {@link #boxed()} to pass it where a {@link List} is required.
+ *
+ * @see LongList
+ * @see IntList
+ */
+public interface DoubleList {
+
+	DoubleLister with = Sequences.doubles;
+
+	int length();
+
+	boolean isEmpty();
+
+	double at( int index )
+			throws IndexOutOfBoundsException;
+
+	DoubleList prepand( double e );
+
+	DoubleList append( double e );
+
+	DoubleList insertAt( int index, double e );
+
+	DoubleList replaceAt( int index, double e );
+
+	DoubleList deleteAt( int index );
+
+	DoubleList take( int count );
+
+	DoubleList drop( int count );
+
+	DoubleList concat( DoubleList other );
+
+	/**
+	 * @see List#tidyUp()
+	 */
+	DoubleList tidyUp();
+
+	/**
+	 * @see Segment#subsequent()
+	 */
+	DoubleList subsequent();
+
+	/**
+	 * @see Arrayable#fill(int, Object[], int, int)
+	 */
+	void fill( int offset, double[] dest, int start, int length );
+
+	void traverse( int start, DoubleTraversal traversal );
+
+	/**
+	 * @return A {@link List} view on this list's elements. The elements stay unboxed in this list
+	 *         and are boxed when accessed through the view.
+	 */
+	List<Double> boxed();
+
+	/**
+	 * The unboxed version of a {@link Traversal}.
+	 */
+	interface DoubleTraversal {
+
+		int incrementOn( double e );
+	}
+
+	interface DoubleLister {
+
+		DoubleList noElements();
+
+		DoubleList element( double e );
+
+		DoubleList elements( double... elems );
+	}
+}
@@ -1,6 +1,8 @@
 package de.jbee.lang;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class IndexAccess {
 
@@ -23,6 +25,23 @@ public class IndexAccess {
 		return new ForwardsIterator<E>( sequence, start, end, increment );
 	}
 
+	/**
+	 * @return A {@link Spliterator} splitting the list along its {@link Segment}s (if sensible).
+	 */
+	public static <E> Spliterator<E> spliterator( List<E> list ) {
+		return new ListSpliterator<E>( list, 0, list.length() );
+	}
+
+	/**
+	 * @return A {@link Spliterator} for any {@link Sequence}. {@link List}s are split along their
+	 *         {@link Segment}s, all others in the middle of the remaining index range.
+	 */
+	public static <E> Spliterator<E> spliterator( Sequence<E> seq ) {
+		return seq instanceof List<?>
+			? spliterator( (List<E>) seq )
+			: new IndexAccessSpliterator<E>( seq, 0, seq.length() );
+	}
+
 	public static <E> Iterable<E> iterable( final Sequence<E> seq ) {
 		return new IndexAccessIterable<E>( seq, 0, seq.length(), 1 );
 	}
@@ -105,6 +124,54 @@ public class IndexAccess {
 		}
 	}
 
+	private static final class IndexAccessSpliterator<E>
+			implements Spliterator<E> {
+
+		private final IndexAccessible<E> sequence;
+		private final int end;
+
+		private int index;
+
+		IndexAccessSpliterator( IndexAccessible<E> sequence, int start, int end ) {
+			super();
+			this.sequence = sequence;
+			this.index = start;
+			this.end = end;
+		}
+
+		@Override
+		public int characteristics() {
+			return ListSpliterator.CHARACTERISTICS;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public boolean tryAdvance( Consumer<? super E> action ) {
+			if ( index >= end ) {
+				return false;
+			}
+			action.accept( sequence.at( index++ ) );
+			return true;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			final int length = end - index;
+			if ( length < 2 ) {
+				return null;
+			}
+			final int split = index + ( length >> 1 );
+			Spliterator<E> prefix = new IndexAccessSpliterator<E>( sequence, index, split );
+			index = split;
+			return prefix;
+		}
+
+	}
+
 	private static final class IndexAccessIterator<E>
 			implements Iterator<E> {
 
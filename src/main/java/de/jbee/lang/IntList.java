@@ -0,0 +1,80 @@
+package de.jbee.lang;
+
+import de.jbee.lang.seq.Sequences;
+
+/**
+ * The primitive <code>int</code> counterpart of a {@link List}. Elements are stored unboxed in
+ * <code>int[]</code> generations sharing the same structure as the {@link List}s do.
+ *
+ * Use {@link #boxed()} to pass it where a {@link List} is required.
+ *
+ * @see LongList
+ * @see DoubleList
+ */
+public interface IntList {
+
+	IntLister with = Sequences.ints;
+
+	int length();
+
+	boolean isEmpty();
+
+	int at( int index )
+			throws IndexOutOfBoundsException;
+
+	IntList prepand( int e );
+
+	IntList append( int e );
+
+	IntList insertAt( int index, int e );
+
+	IntList replaceAt( int index, int e );
+
+	IntList deleteAt( int index );
+
+	IntList take( int count );
+
+	IntList drop( int count );
+
+	IntList concat( IntList other );
+
+	/**
+	 * @see List#tidyUp()
+	 */
+	IntList tidyUp();
+
+	/**
+	 * @see Segment#subsequent()
+	 */
+	IntList subsequent();
+
+	/**
+	 * @see Arrayable#fill(int, Object[], int, int)
+	 */
+	void fill( int offset, int[] dest, int start, int length );
+
+	void traverse( int start, IntTraversal traversal );
+
+	/**
+	 * @return A {@link List} view on this list's elements. The elements stay unboxed in this list
+	 *         and are boxed when accessed through the view.
+	 */
+	List<Integer> boxed();
+
+	/**
+	 * The unboxed version of a {@link Traversal}.
+	 */
+	interface IntTraversal {
+
+		int incrementOn( int e );
+	}
+
+	interface IntLister {
+
+		IntList noElements();
+
+		IntList element( int e );
+
+		IntList elements( int... elems );
+	}
+}
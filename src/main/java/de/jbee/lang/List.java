@@ -156,7 +156,32 @@ public interface List<E>
 		<E> List<E> elements( Sequence<E> elems );
 	}
 
+	/**
+	 * A single-owner, mutable helper to build up (large) lists without creating a new list after
+	 * each element added. Elements are appended in place into arrays that become the list's
+	 * segments when it is {@link #build()}.
+	 * <p>
+	 * A builder must not be shared between threads. Lists built before are not affected by any
+	 * further use of the builder.
+	 * </p>
+	 * 
+	 * @see List.ListBuilder#build()
+	 */
 	interface ListBuilder<E> {
 
+		ListBuilder<E> append( E e );
+
+		ListBuilder<E> append( Sequence<? extends E> elems );
+
+		/**
+		 * @return The count of elements appended so far.
+		 */
+		int length();
+
+		/**
+		 * @return The immutable list of all elements appended so far. The builder can be continued
+		 *         afterwards without any effect on the list returned.
+		 */
+		List<E> build();
 	}
 }
@@ -0,0 +1,194 @@
+package de.jbee.lang;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} for {@link List}s splitting along the boundaries of their {@link Segment}s
+ * when that gives parts of similar size. Otherwise (and within large segments) the range is split
+ * in the middle.
+ *
+ * The elements are read segment by segment. Within a segment an element is accessed directly
+ * without dispatching through the {@link Segment#subsequent()} chain.
+ *
+ * {@link Ordered} lists are {@link #SORTED} by the {@link Comparator} equivalent to their
+ * {@link Ordered#order()}.
+ *
+ * @see IndexAccess#spliterator(List)
+ */
+final class ListSpliterator<E>
+		implements Spliterator<E> {
+
+	static final int CHARACTERISTICS = SIZED | SUBSIZED | IMMUTABLE | ORDERED | NONNULL;
+
+	/**
+	 * The order of the elements or <code>null</code> if they are not {@link #SORTED}.
+	 */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * The segment containing the element at {@link #index}.
+	 */
+	private List<E> list;
+	/**
+	 * The length of the first segment of the {@link #list}.
+	 */
+	private int segmentLength;
+	/**
+	 * The index of the next element relative to the {@link #list}.
+	 */
+	private int index;
+	/**
+	 * The index after the last element relative to the {@link #list}.
+	 */
+	private int end;
+
+	ListSpliterator( List<E> list, int start, int end ) {
+		this( list, start, end, ListSpliterator.<E> comparatorOf( list ) );
+	}
+
+	private ListSpliterator( List<E> list, int start, int end, Comparator<? super E> comparator ) {
+		super();
+		this.list = list;
+		this.index = start;
+		this.end = end;
+		this.comparator = comparator;
+		this.segmentLength = segmentLengthOf( list );
+	}
+
+	@Override
+	public int characteristics() {
+		return comparator == null
+			? CHARACTERISTICS
+			: CHARACTERISTICS | SORTED;
+	}
+
+	@Override
+	public Comparator<? super E> getComparator() {
+		if ( comparator == null ) {
+			throw new IllegalStateException( "Elements are not sorted." );
+		}
+		return comparator;
+	}
+
+	@Override
+	public long estimateSize() {
+		return end - index;
+	}
+
+	@Override
+	public void forEachRemaining( final Consumer<? super E> action ) {
+		traverse( new SegmentTraversal<E>() {
+
+			@Override
+			@SuppressWarnings ( "unchecked" )
+			public int incrementOn( Object[] elems, int start, int end ) {
+				for ( int i = start; i < end; i++ ) {
+					action.accept( (E) elems[i] );
+				}
+				return end - start;
+			}
+		} );
+	}
+
+	@Override
+	public boolean tryAdvance( Consumer<? super E> action ) {
+		if ( index >= end ) {
+			return false;
+		}
+		while ( index >= segmentLength ) {
+			nextSegment();
+		}
+		action.accept( list.at( index++ ) );
+		return true;
+	}
+
+	@Override
+	public ListSpliterator<E> trySplit() {
+		final int length = end - index;
+		if ( length < 2 ) {
+			return null;
+		}
+		while ( index >= segmentLength ) {
+			nextSegment();
+		}
+		final int quarter = length >> 2;
+		final int split = segmentLength > index + quarter && segmentLength < end - quarter
+			? segmentLength
+			: index + ( length >> 1 );
+		ListSpliterator<E> prefix = new ListSpliterator<E>( list, index, split, comparator );
+		index = split;
+		return prefix;
+	}
+
+	/**
+	 * Passes all remaining elements to the {@link SegmentTraversal} given. It might stop this
+	 * before all elements have been passed. Either way there will be no remaining elements
+	 * afterwards.
+	 */
+	void traverse( SegmentTraversal<? super E> traversal ) {
+		if ( index < end ) {
+			List.traverse.segments( list, index, new RangeSegmentTraversal<E>( end - index,
+					traversal ) );
+			index = end;
+		}
+	}
+
+	private void nextSegment() {
+		index -= segmentLength;
+		end -= segmentLength;
+		list = list.subsequent();
+		segmentLength = segmentLengthOf( list );
+	}
+
+	/**
+	 * @return The comparator for {@link Ordered} lists or <code>null</code> for those not sorted.
+	 *         The static orders just keeping or reversing the order of elements do not sort them.
+	 */
+	private static <E> Comparator<? super E> comparatorOf( List<E> list ) {
+		if ( !( list instanceof Ordered ) ) {
+			return null;
+		}
+		final Ord<Object> order = ( (Ordered) list ).order();
+		return order == Order.keep || order == Order.reverse
+			? null
+			: Order.comparator( order );
+	}
+
+	private static int segmentLengthOf( List<?> list ) {
+		final int l = list.length();
+		final int s = l - list.subsequent().length();
+		return s <= 0
+			? l
+			: s;
+	}
+
+	/**
+	 * Cuts the elements passed to the {@link #traversal} to a given count.
+	 */
+	private static final class RangeSegmentTraversal<E>
+			implements SegmentTraversal<E> {
+
+		private final SegmentTraversal<? super E> traversal;
+		private int remaining;
+
+		RangeSegmentTraversal( int length, SegmentTraversal<? super E> traversal ) {
+			super();
+			this.remaining = length;
+			this.traversal = traversal;
+		}
+
+		@Override
+		public int incrementOn( Object[] elems, int start, int end ) {
+			final int inc = traversal.incrementOn( elems, start, Math.min( end, start + remaining ) );
+			if ( inc < 0 ) {
+				return Traversal.STOP_TRAVERSAL;
+			}
+			remaining -= inc;
+			return remaining <= 0
+				? Traversal.STOP_TRAVERSAL
+				: inc;
+		}
+	}
+}
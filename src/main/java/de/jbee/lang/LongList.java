@@ -0,0 +1,80 @@
+package de.jbee.lang;
+
+import de.jbee.lang.seq.Sequences;
+
+/**
+ * The primitive <code>long</code> counterpart of a {@link List}. Elements are stored unboxed in
+ * <code>long[]</code> generations sharing the same structure as the {@link List}s do.
+ *
+ * Use {@link #boxed()} to pass it where a {@link List} is required.
+ *
+ * @see IntList
+ * @see DoubleList
+ */
+public interface LongList {
+
+	LongLister with = Sequences.longs;
+
+	int length();
+
+	boolean isEmpty();
+
+	long at( int index )
+			throws IndexOutOfBoundsException;
+
+	LongList prepand( long e );
+
+	LongList append( long e );
+
+	LongList insertAt( int index, long e );
+
+	LongList replaceAt( int index, long e );
+
+	LongList deleteAt( int index );
+
+	LongList take( int count );
+
+	LongList drop( int count );
+
+	LongList concat( LongList other );
+
+	/**
+	 * @see List#tidyUp()
+	 */
+	LongList tidyUp();
+
+	/**
+	 * @see Segment#subsequent()
+	 */
+	LongList subsequent();
+
+	/**
+	 * @see Arrayable#fill(int, Object[], int, int)
+	 */
+	void fill( int offset, long[] dest, int start, int length );
+
+	void traverse( int start, LongTraversal traversal );
+
+	/**
+	 * @return A {@link List} view on this list's elements. The elements stay unboxed in this list
+	 *         and are boxed when accessed through the view.
+	 */
+	List<Long> boxed();
+
+	/**
+	 * The unboxed version of a {@link Traversal}.
+	 */
+	interface LongTraversal {
+
+		int incrementOn( long e );
+	}
+
+	interface LongLister {
+
+		LongList noElements();
+
+		LongList element( long e );
+
+		LongList elements( long... elems );
+	}
+}
@@ -38,6 +38,14 @@ public interface Map<V>
 	@Override
 	Map<V> insert( Map.Entry<V> e );
 
+	/**
+	 * Same as {@link #insert(Map.Entry)} for each of the entries given but they are sorted and
+	 * merged with the entries of this map in a single pass. Of entries with the same key the last
+	 * given is kept.
+	 */
+	@Override
+	Map<V> insertAll( Sequence<? extends Map.Entry<V>> entries );
+
 	@Override
 	Map<V> subsequent();
 
@@ -47,6 +55,13 @@ public interface Map<V>
 	@Override
 	Map<V> tidyUp();
 
+	/**
+	 * The lookups by {@link #indexFor(Map.Key)} of a frozen map search the keys in a more
+	 * cache-friendly layout.
+	 */
+	@Override
+	Map<V> frozen();
+
 	interface Key {
 
 		/**
@@ -78,8 +93,39 @@ public interface Map<V>
 
 	}
 
+	/**
+	 * Collects entries unsorted. They are sorted once when the {@link Map} is built whereby the
+	 * last of the entries having equal keys is kept (like {@link Map#insert(Key, Object)} would).
+	 */
+	interface MapBuilder<V>
+			extends Set.SetBuilder<Map.Entry<V>> {
+
+		MapBuilder<V> insert( Key key, V value );
+
+		@Override
+		MapBuilder<V> append( Map.Entry<V> e );
+
+		@Override
+		MapBuilder<V> append( Sequence<? extends Map.Entry<V>> entries );
+
+		@Override
+		Map<V> build();
+	}
+
 	interface MapLister {
 
 		<E> Map<E> noEntries( Ord<Object> order );
+
+		/**
+		 * @return a builder for a map using the <code>order</code> given for its entries.
+		 */
+		<E> MapBuilder<E> builder( Ord<Object> order );
+
+		/**
+		 * @return a empty map stored in a hash trie. Lookups and inserts are O(log32(n)). The
+		 *         entries are ordered by the hash of their key's path. Adding entries with keys
+		 *         already contained results in a {@link Multimap} stored the same way.
+		 */
+		<E> Map<E> noHashedEntries();
 	}
 }
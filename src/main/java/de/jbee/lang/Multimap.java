@@ -69,6 +69,9 @@ public interface Multimap<V>
 	@Override
 	Multimap<V> add( Map.Entry<V> e );
 
+	@Override
+	Multimap<V> addAll( Sequence<? extends Map.Entry<V>> entries );
+
 	@Override
 	Multimap<V> subsequent();
 
@@ -83,4 +86,7 @@ public interface Multimap<V>
 
 	@Override
 	Multimap<V> tidyUp();
+
+	@Override
+	Multimap<V> frozen();
 }
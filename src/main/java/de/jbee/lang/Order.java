@@ -3,6 +3,7 @@ package de.jbee.lang;
 import static de.jbee.lang.Ordering.fromComparison;
 import static de.jbee.lang.seq.IndexFor.exists;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -13,6 +14,7 @@ import java.util.Date;
 import de.jbee.lang.dev.Null;
 import de.jbee.lang.dev.Nullproof;
 import de.jbee.lang.dev.Nullsave;
+import de.jbee.lang.seq.IndexFor;
 
 /**
  * All types of orders are ascending by default. You will not find a descending version. Therefore
@@ -58,6 +60,14 @@ public final class Order {
 	public static final Ord<Calendar> calendrical = new CalendricalOrder();
 	public static final Ord<Object> hashCode = new HashCodeOrder();
 
+	private static final QuantifiableOrder QUANTIFIABLE = (QuantifiableOrder) quantifiable;
+	private static final NumericalOrder NUMERICAL = (NumericalOrder) numerical;
+	private static final AbecedarianOrder ABECEDARIAN = (AbecedarianOrder) abecedarian;
+	private static final AlphabeticalOrder ALPHABETICAL = (AlphabeticalOrder) alphabetical;
+	private static final IdentityOrder IDENTITY = (IdentityOrder) identity;
+	private static final EnumerativeOrder ENUMERATIVE = (EnumerativeOrder) enumerative;
+	private static final ChronologicalOrder CHRONOLOGICAL = (ChronologicalOrder) chronological;
+
 	@SuppressWarnings ( "unchecked" )
 	public static final Ord<Map.Entry> entryKeysBy( Ord<CharSequence> keyOrder ) {
 		return new EntryKeyOrder( keyOrder );
@@ -135,7 +145,8 @@ public final class Order {
 
 	public static <S, T extends S> void sort( T[] array, Ord<S> order, int startInclusive,
 			int endExclusive ) {
-		Arrays.sort( array, startInclusive, endExclusive, new OrderAdapterComparator<S>( order ) );
+		Arrays.sort( array, startInclusive, endExclusive, new OrderAdapterComparator<S>(
+				comparing( order ) ) );
 	}
 
 	public static <T> Ord<T> sub( Ord<? super T> primary, Ord<? super T> secondary ) {
@@ -177,45 +188,86 @@ public final class Order {
 		return new ComparatorOrder<T>( comparator );
 	}
 
+	/**
+	 * @return The {@link Comparator} equivalent of the <code>order</code> given.
+	 */
+	public static <T> Comparator<T> comparator( Ord<T> order ) {
+		return order instanceof ComparatorOrder<?>
+			? ( (ComparatorOrder<T>) order ).comparator
+			: new OrderAdapterComparator<T>( comparing( order ) );
+	}
+
+	/**
+	 * @return The <code>order</code> itself if it is {@link Comparing} or an adapter otherwise.
+	 *         Inner loops should resolve the {@linkplain Comparing} once and use it for all
+	 *         comparisons.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	public static <T> Comparing<T> comparing( Ord<T> order ) {
+		return order instanceof Comparing<?>
+			? (Comparing<T>) order
+			: new OrdComparing<T>( order );
+	}
+
+	/**
+	 * @return The comparison of <code>left</code> and <code>right</code> by the <code>order</code>
+	 *         given. This uses {@link Comparing#compare(Object, Object)} when available.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	public static <T> int compare( Ord<T> order, T left, T right ) {
+		return order instanceof Comparing<?>
+			? ( (Comparing<T>) order ).compare( left, right )
+			: order.ord( left, right ).intValue();
+	}
+
 	private Order() {
 		throw new UnsupportedOperationException( "util" );
 	}
 
 	//TODO find a place for such utils like binarySearch and sort
+	/**
+	 * @return The index of the first element equal to the <code>key</code> or the negative
+	 *         insertion point <code>-(index + 1)</code> when there is no such element.
+	 */
 	public static <E> int binarySearch( Sequence<E> list, int startInclusive, int endExcluisve,
 			Object key, Ord<Object> order ) {
-		int index = normalBinarySearch( list, startInclusive, endExcluisve, key, order );
-		return firstEqualToElementAt( index, list, order );
+		final int length = list.length();
+		final int low = Math.max( 0, Math.min( length - 1, startInclusive ) );
+		final int high = Math.min( length, Math.max( 1, endExcluisve ) );
+		final Comparing<Object> cmp = comparing( order );
+		final int index = IndexFor.bound( list, low, high, key, cmp, false );
+		return index < high && cmp.compare( list.at( index ), key ) == 0
+			? index
+			: - ( index + 1 );
 	}
 
-	private static <E> int firstEqualToElementAt( int index, Sequence<E> list, Ord<Object> order ) {
-		while ( index > 0 && order.ord( list.at( index ), list.at( index - 1 ) ).isEq() ) {
-			index--;
-		}
-		return index;
+	/**
+	 * Together with {@link #upperBound(Sequence, int, int, Object, Ord)} this gives the block of
+	 * elements equal to the <code>key</code> in O(log n) however long the block is.
+	 * 
+	 * @return The index of the first element within the range that is not less than the
+	 *         <code>key</code> or the end of the range if all are less.
+	 */
+	public static <E> int lowerBound( Sequence<E> list, int startInclusive, int endExclusive,
+			Object key, Ord<Object> order ) {
+		return bound( list, startInclusive, endExclusive, key, order, false );
 	}
 
 	/**
-	 * Doesn't consider possibility of duplicates (in a block) for the searched key and therefore
-	 * the index of one of them might be the result but we cannot tell which one it will be.
+	 * @return The index of the first element within the range that is greater than the
+	 *         <code>key</code> or the end of the range if none is.
+	 * @see #lowerBound(Sequence, int, int, Object, Ord)
 	 */
-	private static <E> int normalBinarySearch( Sequence<E> list, int startInclusive,
-			int endExcluisve, Object key, Ord<Object> order ) {
-		int low = Math.max( 0, Math.min( list.length() - 1, startInclusive ) );
-		int high = Math.min( list.length(), Math.max( 1, endExcluisve ) ) - 1;
-		while ( low <= high ) {
-			int mid = ( low + high ) >>> 1;
-			E midVal = list.at( mid );
-			Ordering cmp = order.ord( midVal, key );
-			if ( cmp.isLt() ) {
-				low = mid + 1;
-			} else if ( cmp.isGt() ) {
-				high = mid - 1;
-			} else {
-				return mid; // key found
-			}
-		}
-		return - ( low + 1 ); // key not found: return insert position hint
+	public static <E> int upperBound( Sequence<E> list, int startInclusive, int endExclusive,
+			Object key, Ord<Object> order ) {
+		return bound( list, startInclusive, endExclusive, key, order, true );
+	}
+
+	private static <E> int bound( Sequence<E> list, int startInclusive, int endExclusive,
+			Object key, Ord<Object> order, boolean upper ) {
+		final int low = Math.max( 0, startInclusive );
+		final int high = Math.max( low, Math.min( list.length(), endExclusive ) );
+		return IndexFor.bound( list, low, high, key, comparing( order ), upper );
 	}
 
 	public static boolean used( Ord<Object> order, Object obj ) {
@@ -229,13 +281,14 @@ public final class Order {
 	}
 
 	private static final class ElementOrder<V>
-			implements Ord<Element<V>> {
+			implements Comparing<Element<V>>, Serializable {
 
-		private final Ord<? super V> valueOrder;
+		private final Ord<V> valueOrder;
 
+		@SuppressWarnings ( "unchecked" )
 		ElementOrder( Ord<? super V> valueOrder ) {
 			super();
-			this.valueOrder = valueOrder;
+			this.valueOrder = (Ord<V>) valueOrder;
 		}
 
 		@Override
@@ -243,15 +296,20 @@ public final class Order {
 			return valueOrder.ord( left.value(), right.value() );
 		}
 
+		@Override
+		public int compare( Element<V> left, Element<V> right ) {
+			return Order.compare( valueOrder, left.value(), right.value() );
+		}
+
 		@Override
 		public String toString() {
 			return "^" + valueOrder;
 		}
 	}
 
-	@SuppressWarnings ( "unchecked" )
+	@SuppressWarnings ( { "unchecked", "rawtypes" } )
 	private static final class EntryKeyOrder
-			implements Ord<Map.Entry> {
+			implements Comparing<Map.Entry>, Serializable {
 
 		private final Ord<CharSequence> keyOrder;
 
@@ -265,6 +323,11 @@ public final class Order {
 			return keyOrder.ord( left.key().path(), right.key().path() );
 		}
 
+		@Override
+		public int compare( Map.Entry left, Map.Entry right ) {
+			return Order.compare( keyOrder, left.key().path(), right.key().path() );
+		}
+
 		@Override
 		public String toString() {
 			return "§" + keyOrder.toString();
@@ -272,7 +335,7 @@ public final class Order {
 	}
 
 	private static final class StaticOrder
-			implements Ord<Object> {
+			implements Comparing<Object>, Serializable {
 
 		private final Ordering ordering;
 
@@ -286,10 +349,24 @@ public final class Order {
 			return ordering;
 		}
 
+		@Override
+		public int compare( Object left, Object right ) {
+			return ordering.intValue();
+		}
+
 		@Override
 		public String toString() {
 			return ordering.name();
 		}
+
+		private Object readResolve() {
+			if ( ordering == Ordering.LT ) {
+				return keep;
+			}
+			return ordering == Ordering.GT
+				? reverse
+				: this;
+		}
 	}
 
 	/**
@@ -355,7 +432,7 @@ public final class Order {
 	}
 
 	private static final class AbecedarianOrder
-			implements Ord<Character> {
+			implements Comparing<Character>, Serializable {
 
 		AbecedarianOrder() {
 			// make visible
@@ -363,17 +440,26 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Character left, Character right ) {
-			return fromComparison( left.compareTo( right ) );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Character left, Character right ) {
+			return left.charValue() - right.charValue();
 		}
 
 		@Override
 		public String toString() {
 			return "'a'..'z'";
 		}
+
+		private Object readResolve() {
+			return abecedarian;
+		}
 	}
 
 	private static final class AlphabeticalOrder
-			implements Ord<CharSequence> {
+			implements Comparing<CharSequence>, Serializable {
 
 		AlphabeticalOrder() {
 			// make visible
@@ -381,24 +467,33 @@ public final class Order {
 
 		@Override
 		public Ordering ord( CharSequence left, CharSequence right ) {
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( CharSequence left, CharSequence right ) {
 			final int length = Math.min( left.length(), right.length() );
 			for ( int i = 0; i < length; i++ ) {
-				Ordering order = abecedarian.ord( left.charAt( i ), right.charAt( i ) );
-				if ( !order.isEq() ) {
-					return order;
+				final int c = left.charAt( i ) - right.charAt( i );
+				if ( c != 0 ) {
+					return c;
 				}
 			}
-			return numerical.ord( left.length(), right.length() );
+			return left.length() - right.length();
 		}
 
 		@Override
 		public String toString() {
 			return "\"a\"..\"z\"";
 		}
+
+		private Object readResolve() {
+			return alphabetical;
+		}
 	}
 
 	private static final class CalendricalOrder
-			implements Ord<Calendar> {
+			implements Comparing<Calendar>, Serializable {
 
 		CalendricalOrder() {
 			// make visible
@@ -406,7 +501,12 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Calendar left, Calendar right ) {
-			return fromComparison( left.compareTo( right ) );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Calendar left, Calendar right ) {
+			return left.compareTo( right );
 		}
 
 		@Override
@@ -414,10 +514,14 @@ public final class Order {
 			return "(ddmmyyyy)";
 		}
 
+
+		private Object readResolve() {
+			return calendrical;
+		}
 	}
 
 	private static final class ChronologicalOrder
-			implements Ord<Date> {
+			implements Comparing<Date>, Serializable {
 
 		ChronologicalOrder() {
 			// make visible
@@ -425,17 +529,26 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Date left, Date right ) {
-			return fromComparison( left.compareTo( right ) );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Date left, Date right ) {
+			return left.compareTo( right );
 		}
 
 		@Override
 		public String toString() {
 			return "(ddmmyyyy)";
 		}
+
+		private Object readResolve() {
+			return chronological;
+		}
 	}
 
 	private static final class ComparatorOrder<T>
-			implements Ord<T> {
+			implements Comparing<T>, Serializable {
 
 		final Comparator<T> comparator;
 
@@ -449,6 +562,11 @@ public final class Order {
 			return fromComparison( comparator.compare( left, right ) );
 		}
 
+		@Override
+		public int compare( T left, T right ) {
+			return comparator.compare( left, right );
+		}
+
 		@Override
 		public String toString() {
 			return "compare()";
@@ -457,7 +575,7 @@ public final class Order {
 	}
 
 	private static final class CompareableOrder<T extends Comparable<T>>
-			implements Ord<T> {
+			implements Comparing<T>, Serializable {
 
 		CompareableOrder() {
 			// make visible
@@ -468,6 +586,11 @@ public final class Order {
 			return fromComparison( left.compareTo( right ) );
 		}
 
+		@Override
+		public int compare( T left, T right ) {
+			return left.compareTo( right );
+		}
+
 		@Override
 		public String toString() {
 			return "compareTo()";
@@ -475,7 +598,7 @@ public final class Order {
 	}
 
 	private static final class EnumerativeOrder
-			implements Ord<java.lang.Enum<?>> {
+			implements Comparing<java.lang.Enum<?>>, Serializable {
 
 		EnumerativeOrder() {
 			// make visible
@@ -483,10 +606,15 @@ public final class Order {
 
 		@Override
 		public Ordering ord( java.lang.Enum<?> left, java.lang.Enum<?> right ) {
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( java.lang.Enum<?> left, java.lang.Enum<?> right ) {
 			if ( left.getDeclaringClass() == right.getDeclaringClass() ) {
-				return fromComparison( left.ordinal() - right.ordinal() );
+				return left.ordinal() - right.ordinal();
 			}
-			return alphabetical.ord( left.getClass().getCanonicalName(),
+			return ALPHABETICAL.compare( left.getClass().getCanonicalName(),
 					right.getClass().getCanonicalName() );
 		}
 
@@ -494,10 +622,14 @@ public final class Order {
 		public String toString() {
 			return "(ordinal 0..9)";
 		}
+
+		private Object readResolve() {
+			return enumerative;
+		}
 	}
 
 	private static final class HashCodeOrder
-			implements Ord<Object> {
+			implements Comparing<Object>, Serializable {
 
 		HashCodeOrder() {
 			// make visible
@@ -505,17 +637,26 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Object left, Object right ) {
-			return fromComparison( left.hashCode() - right.hashCode() );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Object left, Object right ) {
+			return Integer.compare( left.hashCode(), right.hashCode() );
 		}
 
 		@Override
 		public String toString() {
 			return "hashCode()";
 		}
+
+		private Object readResolve() {
+			return hashCode;
+		}
 	}
 
 	private static final class IdentityOrder
-			implements Ord<Object> {
+			implements Comparing<Object>, Serializable {
 
 		IdentityOrder() {
 			// make visible
@@ -523,18 +664,27 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Object left, Object right ) {
-			return fromComparison( System.identityHashCode( left )
-					- System.identityHashCode( right ) );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Object left, Object right ) {
+			return Integer.compare( System.identityHashCode( left ),
+					System.identityHashCode( right ) );
 		}
 
 		@Override
 		public String toString() {
 			return "(identity)";
 		}
+
+		private Object readResolve() {
+			return identity;
+		}
 	}
 
 	private static final class InherentOrder
-			implements Ord<Object> {
+			implements Comparing<Object>, Serializable {
 
 		InherentOrder() {
 			// make visible
@@ -542,42 +692,51 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Object left, Object right ) {
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Object left, Object right ) {
 			if ( left.getClass() == right.getClass() ) {
-				return ordIdenticalType( left, right );
+				return compareIdenticalType( left, right );
 			}
-			return identity.ord( left, right );
+			return IDENTITY.compare( left, right );
 		}
 
-		private Ordering ordIdenticalType( Object left, Object right ) {
+		private int compareIdenticalType( Object left, Object right ) {
 			if ( left instanceof Quantifiable ) {
-				return quantifiable.ord( (Quantifiable) left, (Quantifiable) right );
+				return QUANTIFIABLE.compare( (Quantifiable) left, (Quantifiable) right );
 			}
 			if ( left.getClass().isEnum() ) {
-				return enumerative.ord( (java.lang.Enum<?>) left, (java.lang.Enum<?>) right );
+				return ENUMERATIVE.compare( (java.lang.Enum<?>) left, (java.lang.Enum<?>) right );
 			}
 			if ( left instanceof Number ) {
-				return numerical.ord( (Number) left, (Number) right );
+				return NUMERICAL.compare( (Number) left, (Number) right );
 			}
 			if ( left instanceof CharSequence ) {
-				return alphabetical.ord( (CharSequence) left, (CharSequence) right );
+				return ALPHABETICAL.compare( (CharSequence) left, (CharSequence) right );
 			}
 			if ( left instanceof Character ) {
-				return abecedarian.ord( (Character) left, (Character) right );
+				return ABECEDARIAN.compare( (Character) left, (Character) right );
 			}
 			if ( left instanceof Date ) {
-				return chronological.ord( (Date) left, (Date) right );
+				return CHRONOLOGICAL.compare( (Date) left, (Date) right );
 			}
-			return identity.ord( left, right );
+			return IDENTITY.compare( left, right );
 		}
 
 		@Override
 		public String toString() {
 			return "(inherent)";
 		}
+
+		private Object readResolve() {
+			return inherent;
+		}
 	}
 
 	private static final class InverseOrder<T>
-			implements Ord<T>, Nullproof {
+			implements Comparing<T>, Nullproof, Serializable {
 
 		final Ord<T> order;
 
@@ -593,7 +752,12 @@ public final class Order {
 
 		@Override
 		public Ordering ord( T left, T right ) {
-			return ord( right, left );
+			return order.ord( right, left );
+		}
+
+		@Override
+		public int compare( T left, T right ) {
+			return Order.compare( order, right, left );
 		}
 
 		@Override
@@ -603,7 +767,7 @@ public final class Order {
 	}
 
 	private static final class NullsaveOrder<T>
-			implements Ord<T>, Nullsave {
+			implements Comparing<T>, Nullsave, Serializable {
 
 		final Ord<T> order;
 
@@ -623,14 +787,34 @@ public final class Order {
 			return order.ord( left, right );
 		}
 
+		@Override
+		public int compare( T left, T right ) {
+			if ( left == null ) {
+				return -1;
+			}
+			if ( right == null ) {
+				return 1;
+			}
+			return Order.compare( order, left, right );
+		}
+
 		@Override
 		public String toString() {
 			return "]" + order + "[";
 		}
+
+		/**
+		 * The {@link #inherent} order is read as a nullsave order of itself.
+		 */
+		private Object readResolve() {
+			return Null.isSave( order )
+				? order
+				: this;
+		}
 	}
 
 	private static final class NumericalOrder
-			implements Ord<Number> {
+			implements Comparing<Number>, Serializable {
 
 		NumericalOrder() {
 			//make visible
@@ -638,50 +822,88 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Number left, Number right ) {
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Number left, Number right ) {
 			if ( left.getClass() == right.getClass() ) {
-				return identicalTypeOrd( left, right );
+				return compareIdenticalType( left, right );
 			}
-			return fromComparison( Double.compare( left.doubleValue(), right.doubleValue() ) );
+			return Double.compare( left.doubleValue(), right.doubleValue() );
 		}
 
-		private Ordering identicalTypeOrd( Number left, Number right ) {
-			if ( left instanceof Float ) {
-				return fromComparison( Float.compare( left.floatValue(), right.floatValue() ) );
+		private int compareIdenticalType( Number left, Number right ) {
+			if ( left instanceof Integer ) {
+				return Integer.compare( left.intValue(), right.intValue() );
 			}
 			if ( left instanceof Long ) {
-				return fromComparison( Long.signum( left.longValue() - right.longValue() ) );
+				return Long.compare( left.longValue(), right.longValue() );
 			}
-			if ( left instanceof Integer ) {
-				return fromComparison( left.intValue() - right.intValue() );
+			if ( left instanceof Float ) {
+				return Float.compare( left.floatValue(), right.floatValue() );
 			}
 			if ( left instanceof BigDecimal ) {
-				return fromComparison( ( (BigDecimal) left ).compareTo( (BigDecimal) right ) );
+				return ( (BigDecimal) left ).compareTo( (BigDecimal) right );
 			}
 			if ( left instanceof BigInteger ) {
-				return fromComparison( ( (BigInteger) left ).compareTo( (BigInteger) right ) );
+				return ( (BigInteger) left ).compareTo( (BigInteger) right );
 			}
-			return fromComparison( Double.compare( left.doubleValue(), right.doubleValue() ) );
+			return Double.compare( left.doubleValue(), right.doubleValue() );
 		}
 
 		@Override
 		public String toString() {
 			return "1..9";
 		}
+
+		private Object readResolve() {
+			return numerical;
+		}
 	}
 
 	private static final class OrderAdapterComparator<T>
 			implements Comparator<T> {
 
-		private final Ord<T> order;
+		private final Comparing<T> order;
 
-		OrderAdapterComparator( Ord<T> order ) {
+		OrderAdapterComparator( Comparing<T> order ) {
 			super();
 			this.order = order;
 		}
 
 		@Override
 		public int compare( T one, T other ) {
-			return order.ord( one, other ).intValue();
+			return order.compare( one, other );
+		}
+
+		@Override
+		public String toString() {
+			return order.toString();
+		}
+	}
+
+	/**
+	 * Adapts a {@link Ord} that is not {@link Comparing} itself.
+	 */
+	private static final class OrdComparing<T>
+			implements Comparing<T>, Serializable {
+
+		private final Ord<T> order;
+
+		OrdComparing( Ord<T> order ) {
+			super();
+			this.order = order;
+		}
+
+		@Override
+		public Ordering ord( T left, T right ) {
+			return order.ord( left, right );
+		}
+
+		@Override
+		public int compare( T left, T right ) {
+			return order.ord( left, right ).intValue();
 		}
 
 		@Override
@@ -691,7 +913,7 @@ public final class Order {
 	}
 
 	private static final class QuantifiableOrder
-			implements Ord<Quantifiable> {
+			implements Comparing<Quantifiable>, Serializable {
 
 		QuantifiableOrder() {
 			// make visible
@@ -699,25 +921,35 @@ public final class Order {
 
 		@Override
 		public Ordering ord( Quantifiable left, Quantifiable right ) {
-			return fromComparison( left.ordinal() - right.ordinal() );
+			return fromComparison( compare( left, right ) );
+		}
+
+		@Override
+		public int compare( Quantifiable left, Quantifiable right ) {
+			return left.ordinal() - right.ordinal();
 		}
 
 		@Override
 		public String toString() {
 			return "ord(1..9)";
 		}
+
+		private Object readResolve() {
+			return quantifiable;
+		}
 	}
 
 	private static final class SubOrder<T>
-			implements Ord<T> {
+			implements Comparing<T>, Serializable {
 
-		private final Ord<? super T> primary;
-		private final Ord<? super T> secondary;
+		private final Ord<T> primary;
+		private final Ord<T> secondary;
 
+		@SuppressWarnings ( "unchecked" )
 		SubOrder( Ord<? super T> primary, Ord<? super T> secondary ) {
 			super();
-			this.primary = primary;
-			this.secondary = secondary;
+			this.primary = (Ord<T>) primary;
+			this.secondary = (Ord<T>) secondary;
 		}
 
 		@Override
@@ -728,6 +960,14 @@ public final class Order {
 				: res;
 		}
 
+		@Override
+		public int compare( T left, T right ) {
+			final int res = Order.compare( primary, left, right );
+			return res == 0
+				? Order.compare( secondary, left, right )
+				: res;
+		}
+
 		@Override
 		public String toString() {
 			return primary + " => " + secondary;
@@ -774,15 +1014,16 @@ public final class Order {
 	}
 
 	private static final class TypeawareOrder<T>
-			implements Ord<Object>, Nullsave {
+			implements Comparing<Object>, Nullsave, Serializable {
 
 		final Class<T> type;
-		final Ord<? super T> order;
+		final Ord<T> order;
 
+		@SuppressWarnings ( "unchecked" )
 		TypeawareOrder( Class<T> type, Ord<? super T> order ) {
 			super();
 			this.type = type;
-			this.order = order;
+			this.order = (Ord<T>) order;
 		}
 
 		@SuppressWarnings ( "unchecked" )
@@ -802,6 +1043,22 @@ public final class Order {
 			return Ordering.EQ;
 		}
 
+		@SuppressWarnings ( "unchecked" )
+		@Override
+		public int compare( Object left, Object right ) {
+			final boolean instLeft = type.isInstance( left );
+			final boolean instRight = type.isInstance( right );
+			if ( instLeft && instRight ) {
+				return Order.compare( order, (T) left, (T) right );
+			}
+			if ( instLeft ) {
+				return 1;
+			}
+			return instRight
+				? -1
+				: 0;
+		}
+
 		@Override
 		public String toString() {
 			return "[" + type.getSimpleName() + ":" + order + "]";
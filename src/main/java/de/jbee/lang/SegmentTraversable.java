@@ -0,0 +1,11 @@
+package de.jbee.lang;
+
+/**
+ * Implemented by {@link List}s that can hand out their elements as runs of a backing array to a
+ * {@link SegmentTraversal}. All others are traversed by
+ * {@link Traverse#segments(List, int, SegmentTraversal)} using a buffer they are filled into.
+ */
+public interface SegmentTraversable<E> {
+
+	void traverse( int start, SegmentTraversal<? super E> traversal );
+}
@@ -0,0 +1,30 @@
+package de.jbee.lang;
+
+/**
+ * The block oriented version of a {@link Traversal}. Instead of one element at a time a run of
+ * elements is passed by handing out the array containing them together with the range of indexes
+ * used. Often this is the list's own backing array so that aggregations can scan them with plain
+ * array access without any further (virtual) call per element.
+ * 
+ * <p>
+ * The array passed must never be modified nor kept after returning. Only the cells from
+ * <code>start</code> (inclusive) to <code>end</code> (exclusive) belong to the traversed list.
+ * </p>
+ * 
+ * @see SegmentTraversable
+ * @see Traverse#segments(List, int, SegmentTraversal)
+ */
+public interface SegmentTraversal<E> {
+
+	/**
+	 * The maximum count of elements passed at once by lists that have to fill them into a buffer.
+	 */
+	int BUFFER_LENGTH = 64;
+
+	/**
+	 * @return The increment from <code>start</code> to the index of the next element to pass. Any
+	 *         value <code>&gt;= end - start</code> continues with the next run of elements, a
+	 *         negative value (like {@link Traversal#STOP_TRAVERSAL}) stops the traversal.
+	 */
+	int incrementOn( Object[] elems, int start, int end );
+}
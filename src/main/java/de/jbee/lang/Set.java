@@ -27,6 +27,13 @@ public interface Set<E>
 	 */
 	Set<E> insert( E e );
 
+	/**
+	 * Same as {@link #insert(Object)} for each of the elements given but they are sorted and merged
+	 * with the elements of this set in a single pass. Of equal elements given the first is
+	 * inserted.
+	 */
+	Set<E> insertAll( Sequence<? extends E> elems );
+
 	/*
 	 * Covariant return type overrides from List/Bag interface with Set return type
 	 */
@@ -46,6 +53,26 @@ public interface Set<E>
 	@Override
 	Set<E> tidyUp();
 
+	@Override
+	Set<E> frozen();
+
+	/**
+	 * Collects elements unsorted. They are sorted once when the {@link Set} is built whereby the
+	 * first of equal elements is kept.
+	 */
+	interface SetBuilder<E>
+			extends Bag.BagBuilder<E> {
+
+		@Override
+		SetBuilder<E> append( E e );
+
+		@Override
+		SetBuilder<E> append( Sequence<? extends E> elems );
+
+		@Override
+		Set<E> build();
+	}
+
 	interface SetLister
 			extends BagLister {
 
@@ -66,6 +93,17 @@ public interface Set<E>
 
 		@Override
 		<E> Set<E> elements( Ord<Object> order, List<E> elems );
+
+		@Override
+		<E> SetBuilder<E> builder( Ord<Object> order );
+
+		/**
+		 * @return a empty set stored in a hash trie. Lookups and inserts are O(log32(n)). The
+		 *         elements are ordered by their {@link Object#hashCode()} and those having the
+		 *         same hash by the <code>order</code> given. Therefore elements equal by that
+		 *         order have to have the same hash code.
+		 */
+		<E> Set<E> noHashedElements( Ord<Object> order );
 	}
 
 	//OPEN union/intersection as methods or SetTransition ? 
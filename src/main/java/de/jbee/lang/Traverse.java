@@ -1,5 +1,11 @@
 package de.jbee.lang;
 
+import static de.jbee.lang.Traversal.STOP_TRAVERSAL;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import de.jbee.lang.dev.Null;
 import de.jbee.lang.dev.Nullproof;
 import de.jbee.lang.dev.Nullsave;
@@ -18,40 +24,389 @@ public final class Traverse {
 		return res;
 	}
 
-	//TODO find a way to model fold by a ListTransformation<E,E> 
+	/**
+	 * Passes the elements of the <code>list</code> from the <code>start</code> index on to the
+	 * {@link SegmentTraversal} given. {@link SegmentTraversable} lists hand out runs of their own
+	 * arrays. The elements of all others are filled into a buffer that is passed instead.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	public <E> void segments( List<E> list, int start, SegmentTraversal<? super E> traversal ) {
+		if ( list instanceof SegmentTraversable<?> ) {
+			( (SegmentTraversable<E>) list ).traverse( start, traversal );
+			return;
+		}
+		final int l = list.length();
+		if ( start >= l ) {
+			return;
+		}
+		Object[] buffer = new Object[Math.min( SegmentTraversal.BUFFER_LENGTH, l - start )];
+		int i = start;
+		while ( i < l ) {
+			final int len = Math.min( buffer.length, l - i );
+			list.fill( 0, buffer, i, len );
+			final int inc = traversal.incrementOn( buffer, 0, len );
+			if ( inc < 0 ) {
+				return;
+			}
+			i += inc;
+		}
+	}
+
+	/**
+	 * @return The left fold of a list's elements starting with <code>init</code>. The elements are
+	 *         passed one after another from first to last.
+	 */
 	public static <E> ListTransformation<E, E> fold( Op<E> op, E init ) {
-		//l.traverse( 0, new FoldByOperatorTraversal<E>( op, res ) );
-		return null;
+		return new FoldL<E>( op, init );
 	}
 
-	private static class FoldL<E>
+	/**
+	 * A parallel version of {@link #fold(Op, Object)}. The list is split along its {@link Segment}s
+	 * and within large segments into parts folded by different threads of the common
+	 * {@link ForkJoinPool}. The partial results are combined in order.
+	 * 
+	 * @param op has to be associative
+	 * @param identity has to be the neutral element of the <code>op</code>eration
+	 */
+	public static <E> ListTransformation<E, E> reduce( Op<E> op, E identity ) {
+		return new Reduce<E>( op, identity );
+	}
+
+	/**
+	 * @return The count of elements (counted in parallel) being
+	 *         {@link Predicate#is(Object) accepted} by the predicate.
+	 */
+	public static <E> ListTransformation<E, Integer> count( Predicate<? super E> predicate ) {
+		return new Count<E>( predicate );
+	}
+
+	/**
+	 * @return true if any element is accepted by the predicate. The parallel search stops as soon
+	 *         as one has been found.
+	 */
+	public static <E> ListTransformation<E, Boolean> any( Predicate<? super E> predicate ) {
+		return new Any<E>( predicate, false );
+	}
+
+	/**
+	 * @return true if all elements are accepted by the predicate. The parallel search stops as
+	 *         soon as one element hasn't been accepted.
+	 */
+	public static <E> ListTransformation<E, Boolean> all( Predicate<? super E> predicate ) {
+		return new Any<E>( predicate, true );
+	}
+
+	static ForkJoinPool pool() {
+		return ForkJoinPool.commonPool();
+	}
+
+	private static final class FoldL<E>
+			implements ListTransformation<E, E> {
+
+		private final Op<E> op;
+		private final E init;
+
+		FoldL( Op<E> op, E init ) {
+			super();
+			this.op = op;
+			this.init = init;
+		}
+
+		@Override
+		public E on( List<E> list ) {
+			FoldTraversal<E> fold = new FoldTraversal<E>( op, init );
+			instance.segments( list, 0, fold );
+			return fold.value;
+		}
+
+	}
+
+	private static final class Reduce<E>
 			implements ListTransformation<E, E> {
 
+		private final Op<E> op;
+		private final E identity;
+
+		Reduce( Op<E> op, E identity ) {
+			super();
+			this.op = op;
+			this.identity = identity;
+		}
+
 		@Override
 		public E on( List<E> list ) {
+			return pool().invoke( new ReduceTask<E>( spliterator( list ), op, identity ) );
+		}
+	}
+
+	private static final class Count<E>
+			implements ListTransformation<E, Integer> {
+
+		private final Predicate<? super E> predicate;
+
+		Count( Predicate<? super E> predicate ) {
+			super();
+			this.predicate = predicate;
+		}
+
+		@Override
+		public Integer on( List<E> list ) {
+			return pool().invoke( new CountTask<E>( spliterator( list ), predicate ) );
+		}
+	}
+
+	private static final class Any<E>
+			implements ListTransformation<E, Boolean> {
+
+		private final Predicate<? super E> predicate;
+		private final boolean negated;
+
+		Any( Predicate<? super E> predicate, boolean negated ) {
+			super();
+			this.predicate = predicate;
+			this.negated = negated;
+		}
+
+		@Override
+		public Boolean on( List<E> list ) {
+			final AtomicBoolean found = new AtomicBoolean();
+			pool().invoke(
+					new AnyTask<E>( spliterator( list ), new AnyTraversal<E>( predicate, !negated,
+							found ) ) );
+			return found.get() != negated;
+		}
+	}
+
+	private static <E> ListSpliterator<E> spliterator( List<E> list ) {
+		return new ListSpliterator<E>( list, 0, list.length() );
+	}
+
+	/**
+	 * The common base of the parallel traversals. The elements of the {@link #spliterator} are
+	 * split in halves until they are few enough to be traversed by one task.
+	 */
+	private static abstract class ParallelTraversal<E, T>
+			extends RecursiveTask<T> {
+
+		/**
+		 * Below this count of elements a task traverses the elements itself.
+		 */
+		static final int SPLIT_THRESHOLD = 1 << 12;
+
+		final ListSpliterator<E> spliterator;
+
+		ParallelTraversal( ListSpliterator<E> spliterator ) {
+			super();
+			this.spliterator = spliterator;
+		}
+
+		@Override
+		protected final T compute() {
+			if ( spliterator.estimateSize() > SPLIT_THRESHOLD && !isDone( spliterator ) ) {
+				ListSpliterator<E> prefix = spliterator.trySplit();
+				if ( prefix != null ) {
+					ParallelTraversal<E, T> first = forked( prefix );
+					first.fork();
+					T second = compute();
+					return combined( first.join(), second );
+				}
+			}
+			return traversed( spliterator );
+		}
+
+		/**
+		 * @return true in case the result is known already without traversing further elements.
+		 */
+		boolean isDone( ListSpliterator<E> elems ) {
+			return false;
+		}
+
+		abstract ParallelTraversal<E, T> forked( ListSpliterator<E> elems );
+
+		abstract T traversed( ListSpliterator<E> elems );
+
+		abstract T combined( T first, T second );
+	}
+
+	private static final class ReduceTask<E>
+			extends ParallelTraversal<E, E> {
+
+		private final Op<E> op;
+		private final E identity;
+
+		ReduceTask( ListSpliterator<E> spliterator, Op<E> op, E identity ) {
+			super( spliterator );
+			this.op = op;
+			this.identity = identity;
+		}
+
+		@Override
+		E combined( E first, E second ) {
+			return op.operate( first, second );
+		}
+
+		@Override
+		ParallelTraversal<E, E> forked( ListSpliterator<E> elems ) {
+			return new ReduceTask<E>( elems, op, identity );
+		}
+
+		@Override
+		E traversed( ListSpliterator<E> elems ) {
+			FoldTraversal<E> fold = new FoldTraversal<E>( op, identity );
+			elems.traverse( fold );
+			return fold.value;
+		}
+	}
+
+	private static final class CountTask<E>
+			extends ParallelTraversal<E, Integer> {
+
+		private final Predicate<? super E> predicate;
+
+		CountTask( ListSpliterator<E> spliterator, Predicate<? super E> predicate ) {
+			super( spliterator );
+			this.predicate = predicate;
+		}
+
+		@Override
+		Integer combined( Integer first, Integer second ) {
+			return first + second;
+		}
+
+		@Override
+		ParallelTraversal<E, Integer> forked( ListSpliterator<E> elems ) {
+			return new CountTask<E>( elems, predicate );
+		}
+
+		@Override
+		Integer traversed( ListSpliterator<E> elems ) {
+			CountTraversal<E> count = new CountTraversal<E>( predicate );
+			elems.traverse( count );
+			return count.count;
+		}
+	}
+
+	private static final class AnyTask<E>
+			extends ParallelTraversal<E, Void> {
+
+		private final AnyTraversal<E> any;
+
+		AnyTask( ListSpliterator<E> spliterator, AnyTraversal<E> any ) {
+			super( spliterator );
+			this.any = any;
+		}
+
+		@Override
+		Void combined( Void first, Void second ) {
 			return null;
 		}
 
+		@Override
+		ParallelTraversal<E, Void> forked( ListSpliterator<E> elems ) {
+			return new AnyTask<E>( elems, any );
+		}
+
+		@Override
+		boolean isDone( ListSpliterator<E> elems ) {
+			return any.found.get();
+		}
+
+		@Override
+		Void traversed( ListSpliterator<E> elems ) {
+			elems.traverse( any );
+			return null;
+		}
 	}
 
-	//OPEN how can a traverse build up a list and return it ? maybe traverse needs a second method and generic ? -> or some kind of ListBuilder passed into and feeded by the Traversal
+	static final class FoldTraversal<E>
+			implements SegmentTraversal<E> {
+
+		private final Op<E> op;
+
+		E value;
+
+		FoldTraversal( Op<E> op, E init ) {
+			super();
+			this.op = op;
+			this.value = init;
+		}
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		public int incrementOn( Object[] elems, int start, int end ) {
+			for ( int i = start; i < end; i++ ) {
+				value = op.operate( value, (E) elems[i] );
+			}
+			return end - start;
+		}
+	}
+
+	static final class CountTraversal<E>
+			implements SegmentTraversal<E> {
+
+		private final Predicate<? super E> predicate;
+
+		int count = 0;
+
+		CountTraversal( Predicate<? super E> predicate ) {
+			super();
+			this.predicate = predicate;
+		}
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		public int incrementOn( Object[] elems, int start, int end ) {
+			for ( int i = start; i < end; i++ ) {
+				if ( predicate.is( (E) elems[i] ) ) {
+					count++;
+				}
+			}
+			return end - start;
+		}
+	}
+
+	/**
+	 * @return A traversal appending each element to the <code>builder</code> given. This is how a
+	 *         traverse builds up a list: use {@link List.ListBuilder#build()} after traversing.
+	 */
+	public <E> Traversal<E> appendingTo( List.ListBuilder<? super E> builder ) {
+		return new AppendingTraversal<E>( builder );
+	}
 
 	//OPEN verify a design by the wc example - count characters/words/lines in a single traverse
 
+	/**
+	 * Searches for an element whose {@link Predicate#is(Object)} result equals the
+	 * {@link #expected} result. The traversal can be shared between threads. All of them stop as
+	 * soon as one has {@link #found} such an element.
+	 */
 	static final class AnyTraversal<E>
-			implements Traversal<E> {
+			implements SegmentTraversal<E> {
 
-		private final Predicate<E> predicate;
+		private final Predicate<? super E> predicate;
+		private final boolean expected;
+		final AtomicBoolean found;
 
-		AnyTraversal( Predicate<E> predicate ) {
+		AnyTraversal( Predicate<? super E> predicate, boolean expected, AtomicBoolean found ) {
 			super();
 			this.predicate = predicate;
+			this.expected = expected;
+			this.found = found;
 		}
 
 		@Override
-		public int incrementOn( E e ) {
-			//TODO
-			return 0;
+		@SuppressWarnings ( "unchecked" )
+		public int incrementOn( Object[] elems, int start, int end ) {
+			if ( found.get() ) {
+				return STOP_TRAVERSAL;
+			}
+			for ( int i = start; i < end; i++ ) {
+				if ( predicate.is( (E) elems[i] ) == expected ) {
+					found.set( true );
+					return STOP_TRAVERSAL;
+				}
+			}
+			return end - start;
 		}
 
 	}
@@ -204,6 +559,24 @@ public final class Traverse {
 
 	}
 
+	static final class AppendingTraversal<E>
+			implements Traversal<E> {
+
+		private final List.ListBuilder<? super E> builder;
+
+		AppendingTraversal( List.ListBuilder<? super E> builder ) {
+			super();
+			this.builder = builder;
+		}
+
+		@Override
+		public int incrementOn( E e ) {
+			builder.append( e );
+			return 1;
+		}
+
+	}
+
 	static class OnceThisThenThatTraversal<E>
 			implements Traversal<E> {
 
@@ -0,0 +1,249 @@
+package de.jbee.lang.dev;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import de.jbee.lang.List;
+import de.jbee.lang.Segment;
+import de.jbee.lang.Sequence;
+
+/**
+ * The memory footprint of the structure of a {@link Sequence} (like a {@link List},
+ * <code>Bag</code>, <code>Set</code>, <code>Map</code> or <code>Dataset</code>) - the elements
+ * itself are not included.
+ * 
+ * Persistent structures share arrays of elements. A list might therefore refer to cells that
+ * aren't elements of the list itself. The cells {@link #retainedCells()} by a list are those
+ * referring to elements of other lists. They cannot be garbage collected as long as the list is
+ * reachable. That is when a {@link List#tidyUp()} pays off.
+ * 
+ * The estimated bytes assume a 64 bit JVM using compressed references.
+ */
+public final class Footprint {
+
+	/**
+	 * Implemented by structures that know how they store their elements. Others are measured as
+	 * chain of {@link Segment}s without any further knowledge about them.
+	 */
+	public interface Measurable {
+
+		/**
+		 * Describes the whole structure (not just a single segment) to the {@link Meter} given.
+		 */
+		void measure( Meter meter );
+	}
+
+	/**
+	 * @return The footprint of the structure of the sequence given.
+	 */
+	public static Footprint of( Sequence<?> seq ) {
+		Meter meter = new Meter();
+		meter.nested( seq );
+		return meter.footprint();
+	}
+
+	private static final int REFERENCE_BYTES = 4;
+	private static final int ARRAY_HEADER_BYTES = 16;
+	private static final int SEGMENT_BYTES = 32;
+
+	private final int segments;
+	private final int[] generations;
+	private final int occupiedCells;
+	private final int unusedCells;
+	private final int retainedCells;
+	private final int sharedArrays;
+	private final long estimatedBytes;
+
+	Footprint( int segments, int[] generations, int occupiedCells, int unusedCells,
+			int retainedCells, int sharedArrays, long estimatedBytes ) {
+		super();
+		this.segments = segments;
+		this.generations = generations;
+		this.occupiedCells = occupiedCells;
+		this.unusedCells = unusedCells;
+		this.retainedCells = retainedCells;
+		this.sharedArrays = sharedArrays;
+		this.estimatedBytes = estimatedBytes;
+	}
+
+	/**
+	 * @return The count of segments (as {@link Segment#subsequent()} or leafs of trees).
+	 */
+	public int segments() {
+		return segments;
+	}
+
+	/**
+	 * @return The lengths of all (distinct) arrays of elements in the order they are referred.
+	 */
+	public int[] generations() {
+		return generations.clone();
+	}
+
+	/**
+	 * @return The count of array cells referring to elements of the measured structure.
+	 */
+	public int occupiedCells() {
+		return occupiedCells;
+	}
+
+	/**
+	 * @return The count of array cells referred but not used by the measured structure. This
+	 *         includes free capacity and {@link #retainedCells()}.
+	 */
+	public int unusedCells() {
+		return unusedCells;
+	}
+
+	/**
+	 * @return The count of unused cells that refer to elements nevertheless.
+	 */
+	public int retainedCells() {
+		return retainedCells;
+	}
+
+	/**
+	 * @return The count of arrays containing {@link #retainedCells()}. Those are shared with other
+	 *         structures.
+	 */
+	public int sharedArrays() {
+		return sharedArrays;
+	}
+
+	/**
+	 * @return The estimated bytes used by the structure excluding the elements.
+	 */
+	public long estimatedBytes() {
+		return estimatedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return segments + " segments " + Arrays.toString( generations ) + ", " + occupiedCells
+				+ " occupied, " + unusedCells + " unused (" + retainedCells + " retained in "
+				+ sharedArrays + " shared arrays) cells, ~" + estimatedBytes + " bytes";
+	}
+
+	static long arrayBytes( int length ) {
+		final long bytes = ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * length;
+		return ( bytes + 7 ) & ~7L;
+	}
+
+	/**
+	 * Accumulates the description of a structure given by {@link Measurable}s.
+	 */
+	public static final class Meter {
+
+		/**
+		 * The occupied cells of each distinct array of elements.
+		 */
+		private final Map<Object[], BitSet> arrays = new IdentityHashMap<Object[], BitSet>();
+		private int[] generations = new int[8];
+		private int segments;
+		private long bytes;
+
+		Meter() {
+			// make visible
+		}
+
+		/**
+		 * A segment (object) using a range of cells of a (possibly shared) array of elements.
+		 */
+		public void segment( Object[] elems, int start, int length ) {
+			segments++;
+			bytes += SEGMENT_BYTES;
+			BitSet occupied = arrays.get( elems );
+			if ( occupied == null ) {
+				occupied = new BitSet( elems.length );
+				if ( arrays.size() == generations.length ) {
+					generations = Arrays.copyOf( generations, generations.length * 2 );
+				}
+				generations[arrays.size()] = elems.length;
+				arrays.put( elems, occupied );
+				bytes += arrayBytes( elems.length );
+			}
+			occupied.set( start, start + length );
+		}
+
+		/**
+		 * A segment (object) not using an array to store its elements (e.g. they are computed or
+		 * referred by fields).
+		 */
+		public void segment( int length ) {
+			segments++;
+			bytes += SEGMENT_BYTES + (long) REFERENCE_BYTES * length;
+		}
+
+		/**
+		 * A object of a structure that doesn't contain elements itself, like a wrapper or a
+		 * inner node of a tree referring to its children.
+		 */
+		public void node( int references ) {
+			bytes += SEGMENT_BYTES + arrayBytes( references );
+		}
+
+		/**
+		 * Measures a sequence contained in the measured one.
+		 */
+		public void nested( Sequence<?> seq ) {
+			if ( seq instanceof Measurable ) {
+				( (Measurable) seq ).measure( this );
+			} else if ( seq instanceof Segment<?> ) {
+				chain( (Segment<?>) seq );
+			} else if ( !seq.isEmpty() ) {
+				segment( seq.length() );
+			}
+		}
+
+		private void chain( Segment<?> segment ) {
+			Segment<?> s = segment;
+			while ( !s.isEmpty() ) {
+				if ( s instanceof Measurable ) {
+					( (Measurable) s ).measure( this );
+					return;
+				}
+				final Segment<?> subsequent = s.subsequent();
+				final int length = s.length() - subsequent.length();
+				if ( length <= 0 ) {
+					segment( s.length() );
+					return;
+				}
+				segment( length );
+				s = subsequent;
+			}
+		}
+
+		Footprint footprint() {
+			int occupied = 0;
+			int unused = 0;
+			int retained = 0;
+			int shared = 0;
+			for ( Map.Entry<Object[], BitSet> e : arrays.entrySet() ) {
+				final Object[] elems = e.getKey();
+				final BitSet used = e.getValue();
+				final int cells = used.cardinality();
+				occupied += cells;
+				unused += elems.length - cells;
+				final int foreign = foreignElements( elems, used );
+				retained += foreign;
+				if ( foreign > 0 ) {
+					shared++;
+				}
+			}
+			return new Footprint( segments, Arrays.copyOf( generations, arrays.size() ), occupied,
+					unused, retained, shared, bytes );
+		}
+
+		private static int foreignElements( Object[] elems, BitSet used ) {
+			int res = 0;
+			for ( int i = used.nextClearBit( 0 ); i < elems.length; i = used.nextClearBit( i + 1 ) ) {
+				if ( elems[i] != null ) {
+					res++;
+				}
+			}
+			return res;
+		}
+	}
+}
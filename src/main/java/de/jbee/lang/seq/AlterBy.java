@@ -14,6 +14,7 @@ import de.jbee.lang.Order;
 import de.jbee.lang.Predicate;
 import de.jbee.lang.Set;
 import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
 
 public class AlterBy
 		implements ListAlteration {
@@ -544,7 +545,7 @@ public class AlterBy
 	}
 
 	private final static class ReversingList<E>
-			implements List<E> {
+			implements List<E>, Footprint.Measurable {
 
 		final List<E> list;
 
@@ -603,6 +604,12 @@ public class AlterBy
 			return list.length();
 		}
 
+		@Override
+		public void measure( Footprint.Meter meter ) {
+			meter.node( 0 );
+			meter.nested( list );
+		}
+
 		@Override
 		public List<E> prepand( E e ) {
 			return reverseViewOf( list.append( e ) );
@@ -615,7 +622,8 @@ public class AlterBy
 
 		@Override
 		public List<E> subsequent() {
-			return reverseViewOf( list.subsequent() );
+			// the ending of the reversed list is the reversed beginning of the list
+			return reverseViewOf( list.take( list.subsequent().length() ) );
 		}
 
 		@Override
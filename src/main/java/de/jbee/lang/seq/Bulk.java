@@ -0,0 +1,128 @@
+package de.jbee.lang.seq;
+
+import de.jbee.lang.Arrayable;
+import de.jbee.lang.List;
+import de.jbee.lang.Ordered;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * Bulk modifications of lists. {@link EVolutionList}s copy each affected segment once. Other
+ * lists are composed using {@link List#take(int)}, {@link List#drop(int)} and
+ * {@link List#concat(List)} or modified element by element in case they are {@link Ordered}.
+ * 
+ * @see ModifyBy
+ */
+final class Bulk {
+
+	private Bulk() {
+		throw new UnsupportedOperationException( "util" );
+	}
+
+	/**
+	 * @return The list with all elements inserted at the <code>index</code> given.
+	 */
+	static <E> List<E> insertAll( List<E> list, int index, Sequence<? extends E> elems ) {
+		if ( index < 0 ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		if ( elems.isEmpty() ) {
+			return list;
+		}
+		if ( list instanceof EVolutionList<?> ) {
+			return ( (EVolutionList<E>) list ).insertAll( index, elems );
+		}
+		if ( list instanceof Ordered ) {
+			List<E> res = list;
+			for ( int i = 0; i < elems.length(); i++ ) {
+				res = res.insertAt( index + i, elems.at( i ) );
+			}
+			return res;
+		}
+		final List<E> inserted = listOf( elems, 0, elems.length() );
+		if ( index == 0 ) {
+			return inserted.concat( list );
+		}
+		if ( list.isEmpty() ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		return list.take( index ).concat( inserted ).concat( list.drop( index ) );
+	}
+
+	/**
+	 * @return The list with the <code>count</code> elements from <code>index</code> on replaced
+	 *         by the elements from <code>offset</code> on of the given <code>elems</code>.
+	 */
+	static <E> List<E> replaceAll( List<E> list, int index, Sequence<? extends E> elems,
+			int offset, int count ) {
+		if ( count == 0 ) {
+			return list;
+		}
+		if ( list instanceof EVolutionList<?> && index >= 0 ) {
+			return ( (EVolutionList<E>) list ).replaceAll( index, elems, offset, count );
+		}
+		final int length = list.length();
+		if ( index < 0 || index + count > length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + ( index < 0
+				? index
+				: length ) );
+		}
+		if ( list instanceof Ordered ) {
+			List<E> res = list;
+			for ( int i = 0; i < count; i++ ) {
+				res = res.replaceAt( index + i, elems.at( offset + i ) );
+			}
+			return res;
+		}
+		return list.take( index ).concat( listOf( elems, offset, count ) ).concat(
+				list.drop( index + count ) );
+	}
+
+	/**
+	 * @param indexes
+	 *            sorted ascending, without duplicates
+	 * @param base
+	 *            the index of the first element of the list within the list the indexes refer to
+	 * @return The list without the elements at the <code>indexes</code> from <code>from</code>
+	 *         on.
+	 */
+	static <E> List<E> deleteAll( List<E> list, int[] indexes, int from, int base ) {
+		if ( from >= indexes.length ) {
+			return list;
+		}
+		if ( list instanceof EVolutionList<?> && indexes[from] >= base ) {
+			return ( (EVolutionList<E>) list ).deleteAll( indexes, from, base );
+		}
+		List<E> res = list;
+		for ( int i = indexes.length - 1; i >= from; i-- ) {
+			res = res.deleteAt( indexes[i] - base );
+		}
+		return res;
+	}
+
+	/**
+	 * Copies <code>length</code> elements from <code>start</code> on of the <code>src</code> to
+	 * <code>dest</code> starting at <code>offset</code>.
+	 */
+	static void copy( Sequence<?> src, int start, Object[] dest, int offset, int length ) {
+		if ( src instanceof Arrayable ) {
+			( (Arrayable) src ).fill( offset, dest, start, length );
+			for ( int i = offset; i < offset + length; i++ ) {
+				Nonnull.element( dest[i] );
+			}
+		} else {
+			for ( int i = 0; i < length; i++ ) {
+				final Object e = src.at( start + i );
+				Nonnull.element( e );
+				dest[offset + i] = e;
+			}
+		}
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	static <E> List<E> listOf( Sequence<? extends E> elems, int start, int length ) {
+		Object[] res = new Object[length];
+		copy( elems, start, res, 0, length );
+		return List.with.elements( (E[]) res );
+	}
+}
@@ -0,0 +1,168 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.Calculate.nextHighestPowerOf2;
+import static de.jbee.lang.seq.EVolutionList.GENERATION_MAX_LENGTH;
+
+import de.jbee.lang.List;
+
+/**
+ * A policy deciding when lists fragmented into many small segments (e.g. by repeated
+ * {@link List#insertAt(int, Object)}, {@link List#replaceAt(int, Object)} or
+ * {@link List#concat(List)}) are compacted automatically. This merges runs of adjacent small
+ * {@link EVolutionList}, {@link ElementaryList} and {@link EnumList} segments into single
+ * generation arrays so that the chain of segments stays short.
+ * 
+ * The policy is checked by the modifying operations. Any other kind of segment (like a
+ * {@link RRBTreeList}) ends the chain considered. Segments having at least half of the
+ * {@link EVolutionList#GENERATION_MAX_LENGTH} elements aren't copied.
+ * 
+ * Views upon a small part of a shared array (as created by {@link List#drop(int)},
+ * {@link List#take(int)} or {@link List#deleteAt(int)}) would keep the whole array reachable.
+ * Those using less than a minimum percentage of the array are copied instead.
+ * 
+ * @see Sequences#setUp(Compaction)
+ */
+public final class Compaction {
+
+	/**
+	 * Never compacts lists automatically. Use {@link List#tidyUp()} manually.
+	 */
+	public static final Compaction NONE = new Compaction( Integer.MAX_VALUE, 0 );
+
+	/**
+	 * Compacts lists having more than 32 small segments and copies views using less than 25% of a
+	 * shared array.
+	 */
+	public static final Compaction DEFAULT = beyond( 32 ).sharingAtLeast( 25 );
+
+	static volatile Compaction policy = DEFAULT;
+
+	private static final int SMALL_SEGMENT_LENGTH = GENERATION_MAX_LENGTH >> 1;
+
+	/**
+	 * Views upon arrays up to this length are never copied since they pin just a few cells.
+	 */
+	private static final int SHARED_MIN_LENGTH = 64;
+
+	/**
+	 * @return A policy compacting lists as soon as they consist of more than the given count of
+	 *         segments (and that count is more than a list of that length needs anyway).
+	 */
+	public static Compaction beyond( int segments ) {
+		if ( segments < 1 ) {
+			throw new IllegalArgumentException( "Segments have to be positive but was: " + segments );
+		}
+		return new Compaction( segments, 0 );
+	}
+
+	/**
+	 * @return The list given or a compacted list with the same elements in case the list is
+	 *         fragmented according to the current policy.
+	 */
+	static <E> List<E> compacted( List<E> list ) {
+		final int depth = EVolutionList.depthOf( list );
+		return policy.isFragmented( depth, list )
+			? compacted( list, depth )
+			: list;
+	}
+
+	/**
+	 * @return true in case a view of <code>length</code> elements upon a shared array of the
+	 *         <code>capacity</code> given should better be a copy of those elements.
+	 */
+	static boolean isUnderUtilised( int length, int capacity ) {
+		return capacity > SHARED_MIN_LENGTH
+				&& length * 100L < (long) policy.minUtilisation * capacity;
+	}
+
+	private final int maxSegments;
+	private final int minUtilisation;
+
+	private Compaction( int maxSegments, int minUtilisation ) {
+		super();
+		this.maxSegments = maxSegments;
+		this.minUtilisation = minUtilisation;
+	}
+
+	/**
+	 * @return A policy like this one that also copies views using less than the given percentage
+	 *         of the cells of a shared array (0 never copies).
+	 */
+	public Compaction sharingAtLeast( int percent ) {
+		if ( percent < 0 || percent > 100 ) {
+			throw new IllegalArgumentException( "Percent has to be within 0 and 100 but was: "
+					+ percent );
+		}
+		return new Compaction( maxSegments, percent );
+	}
+
+	/**
+	 * A compacted list has at most 4 segments for each {@link EVolutionList#GENERATION_MAX_LENGTH}
+	 * elements (plus some at the ends) since each of them is either large or a run whose elements
+	 * together with the next run would exceed the maximum length. The threshold is above this so
+	 * that a compacted list is not compacted again and again.
+	 */
+	private boolean isFragmented( int segments, List<?> list ) {
+		return segments > maxSegments
+				&& segments > 4 * ( list.length() / GENERATION_MAX_LENGTH ) + 8;
+	}
+
+	@Override
+	public String toString() {
+		final String segments = maxSegments == Integer.MAX_VALUE
+			? "never"
+			: "beyond " + maxSegments + " segments";
+		return minUtilisation == 0
+			? segments
+			: segments + " sharing at least " + minUtilisation + "%";
+	}
+
+	/**
+	 * Rebuilds the chain from its end to its start merging runs of small segments.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static <E> List<E> compacted( List<E> list, int depth ) {
+		final List<E>[] segments = (List<E>[]) new List<?>[depth];
+		final int[] lengths = new int[depth];
+		List<E> segment = list;
+		for ( int i = 0; i < depth; i++ ) {
+			segments[i] = segment;
+			lengths[i] = EVolutionList.segmentLengthOf( segment );
+			segment = segment.subsequent();
+		}
+		List<E> res = segment;
+		int i = depth - 1;
+		while ( i >= 0 ) {
+			int j = i;
+			int len = lengths[i];
+			if ( len < SMALL_SEGMENT_LENGTH ) {
+				while ( j > 0 && lengths[j - 1] < SMALL_SEGMENT_LENGTH
+						&& len + lengths[j - 1] <= GENERATION_MAX_LENGTH ) {
+					len += lengths[--j];
+				}
+			}
+			if ( j == i ) {
+				res = withTail( segments[i], len, res );
+			} else {
+				Object[] elems = new Object[len];
+				segments[j].fill( 0, elems, 0, len );
+				res = EVolutionList.growth( len + res.length(), nextHighestPowerOf2( len ), elems,
+						res );
+			}
+			i = j - 1;
+		}
+		return res;
+	}
+
+	private static <E> List<E> withTail( List<E> segment, int length, List<E> tail ) {
+		if ( segment.subsequent() == tail ) {
+			return segment;
+		}
+		if ( segment instanceof EnumList<?> ) {
+			return ( (EnumList<E>) segment ).thisWithTail( tail );
+		}
+		return segment instanceof EVolutionList<?>
+			? ( (EVolutionList<E>) segment ).thisWith( length + tail.length(), tail )
+			: ElementaryList.element( segment.at( 0 ), tail );
+	}
+}
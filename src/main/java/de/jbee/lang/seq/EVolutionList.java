@@ -5,11 +5,22 @@ package de.jbee.lang.seq;
 
 import static de.jbee.lang.Calculate.nextHighestPowerOf2;
 import static java.lang.Math.min;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
 import de.jbee.lang.Array;
+import de.jbee.lang.Comparing;
 import de.jbee.lang.List;
+import de.jbee.lang.SegmentTraversable;
+import de.jbee.lang.SegmentTraversal;
 import de.jbee.lang.Segment;
 import de.jbee.lang.Sequence;
 import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
 import de.jbee.lang.dev.Nonnull;
 
 /**
@@ -29,15 +40,22 @@ import de.jbee.lang.dev.Nonnull;
  * @author Jan Bernitt (jan.bernitt@gmx.de)
  */
 abstract class EVolutionList<E>
-		implements List<E> {
+		implements List<E>, SegmentTraversable<E>, Footprint.Measurable {
 
 	/**
 	 * The maximum count of elements contained in a single generation.
 	 */
-	private static final int GENERATION_MAX_LENGTH = 1 << 16;
+	static final int GENERATION_MAX_LENGTH = 1 << 16;
 
 	private static final Object LOCK = new Object();
 
+	/**
+	 * Lists with a chain of at least this many {@link EVolutionList}, {@link ElementaryList} or
+	 * {@link EnumList} segments use a {@link SegmentIndex} to find the segment of an index instead
+	 * of recursing through the chain.
+	 */
+	static final int SEGMENT_INDEX_DEPTH = 8;
+
 	static <E> List<E> dominant( int length, Object[] elements ) {
 		return dominant( length, elements, List.with.<E> noElements() );
 	}
@@ -46,6 +64,22 @@ abstract class EVolutionList<E>
 		return new DominantList<E>( length, elements, tail );
 	}
 
+	/**
+	 * @return The count of {@link EVolutionList}, {@link ElementaryList} and {@link EnumList}
+	 *         segments in the chain starting with the list given.
+	 */
+	static int depthOf( List<?> list ) {
+		if ( list instanceof EVolutionList<?> ) {
+			return ( (EVolutionList<?>) list ).depth;
+		}
+		if ( list instanceof EnumList<?> ) {
+			return ( (EnumList<?>) list ).depth();
+		}
+		return list instanceof ElementaryList<?>
+			? ( (ElementaryList<?>) list ).depth()
+			: 0;
+	}
+
 	static <E> List<E> growth( int length, int generationSize, Object[] elements, List<E> tail ) {
 		return new GrowthList<E>( length, generationSize, elements, tail );
 	}
@@ -54,10 +88,51 @@ abstract class EVolutionList<E>
 		return value >> 1;
 	}
 
+	/**
+	 * @return The count of elements in the first segment of a list that is a
+	 *         {@link EVolutionList}, {@link ElementaryList} or {@link EnumList}.
+	 */
+	static int segmentLengthOf( List<?> list ) {
+		if ( list instanceof EVolutionList<?> ) {
+			return ( (EVolutionList<?>) list ).segmentLength();
+		}
+		return list instanceof EnumList<?>
+			? ( (EnumList<?>) list ).len()
+			: 1;
+	}
+
+	/**
+	 * @return A view upon a part of the <code>elements</code> or a copy of that part in case the
+	 *         view would use too few of the shared elements.
+	 * @see Compaction#isUnderUtilised(int, int)
+	 */
 	static <E> List<E> recessive( int length, int offset, Object[] elements, List<E> tail ) {
+		final int len = length - tail.length();
+		if ( Compaction.isUnderUtilised( len, elements.length ) ) {
+			Object[] copy = Array.segment( elements, elements.length - len - offset, len );
+			return growth( length, nextHighestPowerOf2( len ), copy, tail );
+		}
 		return new RecessiveList<E>( length, offset, elements, tail );
 	}
 
+	/**
+	 * @return A list of the <code>length</code> elements starting at <code>offset</code> made of
+	 *         segments of at most {@link #GENERATION_MAX_LENGTH} elements. Like compacted segments
+	 *         each is a copy just as long as its elements so no cell is wasted. The first segment
+	 *         is the one that might be shorter.
+	 */
+	static <E> List<E> segmented( Object[] elements, int offset, int length ) {
+		List<E> res = List.with.noElements();
+		int end = offset + length;
+		while ( end > offset ) {
+			final int len = min( GENERATION_MAX_LENGTH, end - offset );
+			end -= len;
+			res = growth( len + res.length(), nextHighestPowerOf2( len ), Array.segment( elements,
+					end, len ), res );
+		}
+		return res;
+	}
+
 	static int twiceOf( int value ) {
 		return value << 1;
 	}
@@ -78,11 +153,25 @@ abstract class EVolutionList<E>
 	 */
 	final List<E> tail;
 
+	/**
+	 * The count of {@link EVolutionList}s, {@link ElementaryList}s and {@link EnumList}s in the
+	 * chain starting with this list.
+	 */
+	private final int depth;
+
+	/**
+	 * Lazily built for deep chains. Since the list is immutable the index never changes. In case
+	 * two threads build it at the same time both get equal indexes - it is safe to publish without
+	 * synchronization since all fields of the index are final.
+	 */
+	private transient SegmentIndex<E> segments;
+
 	EVolutionList( int length, Object[] elements, List<E> tail ) {
 		super();
 		this.length = length;
 		this.elems = elements;
 		this.tail = tail;
+		this.depth = depthOf( tail ) + 1;
 	}
 
 	@Override
@@ -93,36 +182,22 @@ abstract class EVolutionList<E>
 	@Override
 	public final E at( int index ) {
 		final int len = segmentLength();
-		return index >= len
+		if ( index < len ) {
+			return element( index );
+		}
+		return depth < SEGMENT_INDEX_DEPTH
 			? tail.at( index - len )
-			: element( index );
+			: segments().at( index );
 	}
 
 	@Override
 	public final List<E> concat( List<E> other ) {
-		return thisWith( length + other.length(), tail.concat( other ) );
+		return Compaction.compacted( thisWith( length + other.length(), tail.concat( other ) ) );
 	}
 
 	@Override
 	public final List<E> deleteAt( int index ) {
-		if ( index < 0 ) {
-			return this;
-		}
-		final int len = segmentLength();
-		if ( index == 0 ) { // first of this elems
-			return len == 1
-				? tail
-				: sectorWith( length - 1, tail );
-		}
-		if ( index >= len ) { // not in this elems
-			return thisWith( length - 1, tail.deleteAt( index - len ) );
-		}
-		if ( index == len - 1 ) { // last of this elems
-			return sectorWith( length - 1, +1, tail );
-		}
-		// somewhere in between our elems ;(
-		return sectorWith( length - 1, len - index, // tail:
-				sectorWith( length - 1 - index, tail ) );
+		return Compaction.compacted( deletedAt( index ) );
 	}
 
 	@Override
@@ -134,9 +209,12 @@ abstract class EVolutionList<E>
 			return empty();
 		}
 		final int len = segmentLength();
-		return count >= len
+		if ( count < len ) {
+			return sectorWith( length - count, tail );
+		}
+		return depth < SEGMENT_INDEX_DEPTH
 			? tail.drop( count - len )
-			: sectorWith( length - count, tail );
+			: segments().drop( count );
 	}
 
 	@Override
@@ -149,25 +227,16 @@ abstract class EVolutionList<E>
 			if ( copiedLength < upToLen ) {
 				tail.fill( offset + copiedLength, dest, 0, upToLen - copiedLength );
 			}
-		} else {
+		} else if ( depth < SEGMENT_INDEX_DEPTH ) {
 			tail.fill( offset, dest, start - len, upToLen );
+		} else {
+			segments().fill( offset, dest, start, upToLen );
 		}
 	}
 
 	@Override
 	public final List<E> insertAt( int index, E e ) {
-		if ( index == 0 ) {
-			return prepand( e );
-		}
-		final int len = segmentLength();
-		if ( index == 1 ) { // avoid 'views' just using a single element (as first)
-			return List.with.element( e ).prepand( at( 0 ) ).concat( drop( index ) );
-		}
-		if ( index >= len ) {
-			return thisWith( length + 1, tail.insertAt( index - len, e ) );
-		}
-		//TODO try to avoid inappropriate reuse of this stack -> especially for the recessive list
-		return take( index ).concat( drop( index ).prepand( e ) );
+		return Compaction.compacted( insertedAt( index, e ) );
 	}
 
 	@Override
@@ -181,19 +250,19 @@ abstract class EVolutionList<E>
 	}
 
 	@Override
-	public final List<E> replaceAt( int index, E e ) {
-		final int len = segmentLength();
-		if ( index >= len ) {
-			return thisWith( length, tail.replaceAt( index - len, e ) );
+	public void measure( Footprint.Meter meter ) {
+		List<E> segment = this;
+		while ( segment instanceof EVolutionList<?> ) {
+			final EVolutionList<E> l = (EVolutionList<E>) segment;
+			meter.segment( l.elems, l.first(), l.segmentLength() );
+			segment = l.tail;
 		}
-		Nonnull.element( e );
-		if ( index == 0 ) {
-			return drop( 1 ).prepand( e );
-		}
-		if ( index == len - 1 ) {
-			return take( len - 1 ).concat( tail.prepand( e ) );
-		}
-		return take( index ).concat( drop( index + 1 ).prepand( e ) );
+		meter.nested( segment );
+	}
+
+	@Override
+	public final List<E> replaceAt( int index, E e ) {
+		return Compaction.compacted( replacedAt( index, e ) );
 	}
 
 	@Override
@@ -236,16 +305,20 @@ abstract class EVolutionList<E>
 			return growth( length, nextHighestPowerOf2( length ), tidy, empty() );
 		}
 		if ( len > 16 && len > halfOf( elems.length ) ) { // just try to reuse by locking if length is worth a try 
-			synchronized ( elems ) {
-				if ( canOccupy( index ) ) {
-					elems[index] = LOCK;
-					return thisWith( tail.tidyUp() );
-				}
+			if ( occupying( LOCK, index ) ) {
+				return thisWith( tail.tidyUp() );
 			}
 		}
 		return growth( length, elems.length, segmentElements(), tail.tidyUp() );
 	}
 
+	/**
+	 * @return The flat {@link SerializedList} written instead of the chain of segments.
+	 */
+	final Object writeReplace() {
+		return new SerializedList( this );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder b = new StringBuilder();
@@ -271,6 +344,163 @@ abstract class EVolutionList<E>
 		}
 	}
 
+	@Override
+	public void traverse( int start, SegmentTraversal<? super E> traversal ) {
+		final int len = segmentLength();
+		final int first = first();
+		int i = start;
+		int inc = 0;
+		while ( inc >= 0 && i < len ) {
+			inc = traversal.incrementOn( elems, first + i, first + len );
+			i += inc;
+		}
+		if ( inc >= 0 ) {
+			List.traverse.segments( tail, i - len, traversal );
+		}
+	}
+
+	private SegmentIndex<E> segments() {
+		SegmentIndex<E> res = segments;
+		if ( res == null ) {
+			res = new SegmentIndex<E>( this );
+			segments = res;
+		}
+		return res;
+	}
+
+	private List<E> deletedAt( int index ) {
+		if ( index < 0 ) {
+			return this;
+		}
+		final int len = segmentLength();
+		if ( index == 0 ) { // first of this elems
+			return len == 1
+				? tail
+				: sectorWith( length - 1, tail );
+		}
+		if ( index >= len ) { // not in this elems
+			return thisWith( length - 1, tail.deleteAt( index - len ) );
+		}
+		if ( index == len - 1 ) { // last of this elems
+			return sectorWith( length - 1, +1, tail );
+		}
+		// somewhere in between our elems ;(
+		return sectorWith( length - 1, len - index, // tail:
+				sectorWith( length - 1 - index, tail ) );
+	}
+
+	private List<E> insertedAt( int index, E e ) {
+		if ( index == 0 ) {
+			return prepand( e );
+		}
+		final int len = segmentLength();
+		if ( index == 1 ) { // avoid 'views' just using a single element (as first)
+			return List.with.element( e ).prepand( at( 0 ) ).concat( drop( index ) );
+		}
+		if ( index >= len ) {
+			return thisWith( length + 1, tail.insertAt( index - len, e ) );
+		}
+		//TODO try to avoid inappropriate reuse of this stack -> especially for the recessive list
+		return take( index ).concat( drop( index ).prepand( e ) );
+	}
+
+	private List<E> replacedAt( int index, E e ) {
+		final int len = segmentLength();
+		if ( index >= len ) {
+			return thisWith( length, tail.replaceAt( index - len, e ) );
+		}
+		Nonnull.element( e );
+		if ( index == 0 ) {
+			return drop( 1 ).prepand( e );
+		}
+		if ( index == len - 1 ) {
+			return take( len - 1 ).concat( tail.prepand( e ) );
+		}
+		return take( index ).concat( drop( index + 1 ).prepand( e ) );
+	}
+
+	/**
+	 * Inserts all <code>inserted</code> elements at <code>index</code> with a single copy of the
+	 * segment affected.
+	 * 
+	 * @see Bulk#insertAll(List, int, Sequence)
+	 */
+	final List<E> insertAll( int index, Sequence<? extends E> inserted ) {
+		final int len = segmentLength();
+		final int count = inserted.length();
+		if ( index > len ) {
+			return thisWith( length + count, Bulk.insertAll( tail, index - len, inserted ) );
+		}
+		if ( len + count > GENERATION_MAX_LENGTH ) {
+			return take( index ).concat( Bulk.listOf( inserted, 0, count ) ).concat(
+					drop( index ) );
+		}
+		final int first = first();
+		Object[] res = new Object[len + count];
+		System.arraycopy( elems, first, res, 0, index );
+		Bulk.copy( inserted, 0, res, index, count );
+		System.arraycopy( elems, first + index, res, index + count, len - index );
+		return growth( length + count, nextHighestPowerOf2( res.length ), res, tail );
+	}
+
+	/**
+	 * Replaces <code>count</code> elements from <code>index</code> on with a single copy of each
+	 * segment affected.
+	 * 
+	 * @see Bulk#replaceAll(List, int, Sequence, int, int)
+	 */
+	final List<E> replaceAll( int index, Sequence<? extends E> replacements, int offset,
+			int count ) {
+		final int len = segmentLength();
+		if ( index >= len ) {
+			return thisWith( length, Bulk.replaceAll( tail, index - len, replacements, offset,
+					count ) );
+		}
+		final int replaced = min( count, len - index );
+		Object[] res = segmentElements();
+		Bulk.copy( replacements, offset, res, index, replaced );
+		final List<E> replacedTail = replaced == count
+			? tail
+			: Bulk.replaceAll( tail, 0, replacements, offset + replaced, count - replaced );
+		return growth( length, nextHighestPowerOf2( len ), res, replacedTail );
+	}
+
+	/**
+	 * Deletes the elements at the <code>indexes</code> from <code>from</code> on with a single
+	 * copy of each segment affected.
+	 * 
+	 * @see Bulk#deleteAll(List, int[], int, int)
+	 */
+	final List<E> deleteAll( int[] indexes, int from, int base ) {
+		final int len = segmentLength();
+		int end = from;
+		while ( end < indexes.length && indexes[end] - base < len ) {
+			end++;
+		}
+		final List<E> rest = Bulk.deleteAll( tail, indexes, end, base + len );
+		final int deleted = end - from;
+		if ( deleted == 0 ) {
+			return rest == tail
+				? this
+				: thisWith( len + rest.length(), rest );
+		}
+		if ( deleted == len ) {
+			return rest;
+		}
+		final int first = first();
+		Object[] res = new Object[len - deleted];
+		int copied = 0;
+		int kept = 0;
+		for ( int i = from; i < end; i++ ) {
+			final int index = indexes[i] - base;
+			System.arraycopy( elems, first + kept, res, copied, index - kept );
+			copied += index - kept;
+			kept = index + 1;
+		}
+		System.arraycopy( elems, first + kept, res, copied, len - kept );
+		return growth( res.length + rest.length(), nextHighestPowerOf2( res.length ), res, rest );
+	}
+
 	final boolean canOccupy( int index ) {
 		return elems[index] == null;
 	}
@@ -288,6 +518,26 @@ abstract class EVolutionList<E>
 		return (E) elems[first() + index];
 	}
 
+	/**
+	 * @return The first index from <code>low</code> to <code>high</code> (both within this
+	 *         segment) whose element isn't less than the <code>limit</code> when compared to the
+	 *         <code>key</code> or <code>high</code> if there is no such element before.
+	 * @see IndexFor#bound(Sequence, int, int, Object, Comparing, boolean)
+	 */
+	final int bound( int low, int high, Object key, Comparing<Object> order, int limit ) {
+		final Object[] elems = this.elems;
+		final int first = first();
+		while ( low < high ) {
+			final int mid = ( low + high ) >>> 1;
+			if ( order.compare( elems[first + mid], key ) < limit ) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
 	final List<E> empty() {
 		return List.with.noElements();
 	}
@@ -301,13 +551,18 @@ abstract class EVolutionList<E>
 	}
 
 	final boolean prepandedOccupying( E e, int index ) {
-		synchronized ( elems ) {
-			if ( canOccupy( index ) ) {
-				elems[index] = e;
-				return true;
-			}
-			return false;
-		}
+		return occupying( e, index );
+	}
+
+	/**
+	 * Claims the free cell at <code>index</code> of the shared {@link #elems} with the
+	 * <code>value</code> given. Several lists might try to claim the same cell at the same time.
+	 * The first one wins, all others have to copy.
+	 * 
+	 * @return true in case the cell was free and is now occupied by the <code>value</code>.
+	 */
+	final boolean occupying( Object value, int index ) {
+		return canOccupy( index ) && Cells.claim( elems, index, value );
 	}
 
 	/**
@@ -478,7 +733,7 @@ abstract class EVolutionList<E>
 					: twiceOf( generationSize );
 				return dominant( length + 1, nextGeneration( e, size ), this );
 			}
-			Object[] enlarged = Array.segment( elems, 0, nextHighestPowerOf2( elems.length ) );
+			Object[] enlarged = Array.segment( elems, 0, nextHighestPowerOf2( elems.length + 1 ) );
 			enlarged[enlarged.length - 1 - segmentLength()] = e;
 			return growth( length + 1, generationSize, enlarged, tail );
 		}
@@ -548,4 +803,125 @@ abstract class EVolutionList<E>
 
 	}
 
+	/**
+	 * Maps an index to the segment containing it using a binary search over the start indexes of
+	 * all segments in the chain of a list. The last segment is the first tail that isn't a
+	 * {@link EVolutionList}, {@link ElementaryList} or {@link EnumList} (usually the empty list).
+	 */
+	private static final class SegmentIndex<E> {
+
+		/**
+		 * The index of the first element of each segment relative to the indexed list.
+		 */
+		private final int[] starts;
+		private final List<E>[] segments;
+
+		@SuppressWarnings ( "unchecked" )
+		SegmentIndex( EVolutionList<E> list ) {
+			super();
+			final int count = list.depth + 1;
+			this.starts = new int[count];
+			this.segments = (List<E>[]) new List<?>[count];
+			List<E> segment = list;
+			int start = 0;
+			for ( int i = 0; i < list.depth; i++ ) {
+				starts[i] = start;
+				segments[i] = segment;
+				start += segmentLengthOf( segment );
+				segment = segment.subsequent();
+			}
+			starts[list.depth] = start;
+			segments[list.depth] = segment;
+		}
+
+		E at( int index ) {
+			final int i = segmentOf( index );
+			return segments[i].at( index - starts[i] );
+		}
+
+		List<E> drop( int count ) {
+			final int i = segmentOf( count );
+			return segments[i].drop( count - starts[i] );
+		}
+
+		void fill( int offset, Object[] dest, int start, int length ) {
+			final int i = segmentOf( start );
+			segments[i].fill( offset, dest, start - starts[i], length );
+		}
+
+		private int segmentOf( int index ) {
+			final int i = Arrays.binarySearch( starts, index );
+			return i >= 0
+				? i
+				: -i - 2;
+		}
+	}
+
+	/**
+	 * Does the compare-and-set of a cell in a shared elements array without the need to lock the
+	 * array's monitor. The arrays itself stay plain <code>Object[]</code>s so that all other
+	 * operations (like {@link EVolutionList#fill(int, Object[], int, int)}) can still copy them
+	 * using {@link System#arraycopy(Object, int, Object, int, int)}.
+	 * 
+	 * The CAS of <code>sun.misc.Unsafe</code> is looked up reflectively (so that no internal API is
+	 * compiled against) and called through a constant {@link MethodHandle}. In case it isn't
+	 * accessible in the running JVM the claim falls back to the synchronized version.
+	 */
+	private static final class Cells {
+
+		private static final MethodHandle CAS;
+		private static final long BASE;
+		private static final long SCALE;
+
+		static {
+			MethodHandle cas = null;
+			long base = 0L;
+			long scale = 0L;
+			try {
+				final Class<?> type = Class.forName( "sun.misc.Unsafe" );
+				final Field f = type.getDeclaredField( "theUnsafe" );
+				f.setAccessible( true );
+				final Object unsafe = f.get( null );
+				base = ( (Number) type.getMethod( "arrayBaseOffset", Class.class ).invoke( unsafe,
+						Object[].class ) ).longValue();
+				scale = ( (Number) type.getMethod( "arrayIndexScale", Class.class ).invoke( unsafe,
+						Object[].class ) ).longValue();
+				cas = MethodHandles.lookup().findVirtual( type, "compareAndSwapObject",
+						MethodType.methodType( boolean.class, Object.class, long.class, Object.class,
+								Object.class ) ).bindTo( unsafe );
+			} catch ( Exception e ) {
+				cas = null;
+			}
+			CAS = cas;
+			BASE = base;
+			SCALE = scale;
+		}
+
+		private Cells() {
+			throw new UnsupportedOperationException( "util" );
+		}
+
+		/**
+		 * @return true in case the cell at <code>index</code> was empty and now contains the
+		 *         <code>value</code>. The index has to be valid for the array given.
+		 */
+		static boolean claim( Object[] elems, int index, Object value ) {
+			if ( CAS == null ) {
+				synchronized ( elems ) {
+					if ( elems[index] != null ) {
+						return false;
+					}
+					elems[index] = value;
+					return true;
+				}
+			}
+			try {
+				return (boolean) CAS.invokeExact( (Object) elems, BASE + index * SCALE, (Object) null,
+						value );
+			} catch ( Throwable e ) {
+				throw new IllegalStateException( "Failed to claim cell " + index, e );
+			}
+		}
+	}
+
 }
\ No newline at end of file
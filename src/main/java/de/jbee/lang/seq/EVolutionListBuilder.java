@@ -0,0 +1,118 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.EVolutionList.GENERATION_MAX_LENGTH;
+import static de.jbee.lang.seq.EVolutionList.twiceOf;
+import static java.lang.Math.min;
+
+import de.jbee.lang.Arrayable;
+import de.jbee.lang.List;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * Appends elements in place into generations (arrays) growing with the power of 2 (up to the
+ * {@link EVolutionList#GENERATION_MAX_LENGTH}). When built each generation becomes a
+ * {@link EVolutionList} segment having the next generation as its tail. Thereby no array is copied
+ * at all.
+ *
+ * Generations handed out to a list are sealed. The builder will not write to them further on but
+ * continues with a new generation.
+ */
+final class EVolutionListBuilder<E>
+		implements List.ListBuilder<E> {
+
+	private static final int FIRST_GENERATION_LENGTH = 16;
+
+	private Object[][] generations = new Object[8][];
+	private int[] lengths = new int[8];
+	private int generationCount = 0;
+
+	/**
+	 * The generation appended to or <code>null</code> if that has been sealed.
+	 */
+	private Object[] current;
+	private int occupied;
+	private int capacity = FIRST_GENERATION_LENGTH;
+	private int length = 0;
+
+	EVolutionListBuilder() {
+		super();
+		// make visible
+	}
+
+	@Override
+	public List.ListBuilder<E> append( E e ) {
+		Nonnull.element( e );
+		if ( current == null || occupied == current.length ) {
+			nextGeneration();
+		}
+		current[occupied++] = e;
+		length++;
+		return this;
+	}
+
+	@Override
+	public List.ListBuilder<E> append( Sequence<? extends E> elems ) {
+		if ( !( elems instanceof Arrayable ) ) {
+			for ( int i = 0; i < elems.length(); i++ ) {
+				append( elems.at( i ) );
+			}
+			return this;
+		}
+		final Arrayable src = (Arrayable) elems;
+		final int l = elems.length();
+		int start = 0;
+		while ( start < l ) {
+			if ( current == null || occupied == current.length ) {
+				nextGeneration();
+			}
+			final int chunk = min( l - start, current.length - occupied );
+			src.fill( occupied, current, start, chunk );
+			occupied += chunk;
+			start += chunk;
+		}
+		length += l;
+		return this;
+	}
+
+	@Override
+	public List<E> build() {
+		if ( current != null ) {
+			lengths[generationCount - 1] = occupied;
+			current = null;
+		}
+		List<E> res = List.with.noElements();
+		for ( int i = generationCount - 1; i >= 0; i-- ) {
+			final Object[] elems = generations[i];
+			final int len = lengths[i];
+			final int l = res.length() + len;
+			res = len == elems.length
+				? EVolutionList.dominant( l, elems, res )
+				: EVolutionList.recessive( l, elems.length - len, elems, res );
+		}
+		return res;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	private void nextGeneration() {
+		if ( current != null ) {
+			lengths[generationCount - 1] = occupied;
+			capacity = min( GENERATION_MAX_LENGTH, twiceOf( current.length ) );
+		}
+		if ( generationCount == generations.length ) {
+			Object[][] enlarged = new Object[twiceOf( generationCount )][];
+			System.arraycopy( generations, 0, enlarged, 0, generationCount );
+			generations = enlarged;
+			int[] enlargedLengths = new int[enlarged.length];
+			System.arraycopy( lengths, 0, enlargedLengths, 0, generationCount );
+			lengths = enlargedLengths;
+		}
+		current = new Object[capacity];
+		occupied = 0;
+		generations[generationCount++] = current;
+	}
+}
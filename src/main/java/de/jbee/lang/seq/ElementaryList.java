@@ -7,6 +7,7 @@ import de.jbee.lang.Array;
 import de.jbee.lang.List;
 import de.jbee.lang.Sequence;
 import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
 import de.jbee.lang.dev.Nonnull;
 
 /**
@@ -18,7 +19,7 @@ import de.jbee.lang.dev.Nonnull;
  * @author Jan Bernitt (jan.bernitt@gmx.de)
  */
 final class ElementaryList<E>
-		implements List<E> {
+		implements List<E>, Footprint.Measurable {
 
 	/**
 	 * @return A single element list with an empty tail.
@@ -37,11 +38,13 @@ final class ElementaryList<E>
 
 	private final E element;
 	private final List<E> tail;
+	private final int depth;
 
 	private ElementaryList( E element, List<E> tail ) {
 		super();
 		this.element = element;
 		this.tail = tail;
+		this.depth = EVolutionList.depthOf( tail ) + 1;
 	}
 
 	@Override
@@ -79,14 +82,14 @@ final class ElementaryList<E>
 
 	@Override
 	public List<E> concat( List<E> other ) {
-		return thisWithTail( tail.concat( other ) );
+		return Compaction.compacted( thisWithTail( tail.concat( other ) ) );
 	}
 
 	@Override
 	public List<E> deleteAt( int index ) {
 		return index == 0
 			? tail
-			: thisWithTail( tail.deleteAt( index - 1 ) );
+			: Compaction.compacted( thisWithTail( tail.deleteAt( index - 1 ) ) );
 	}
 
 	@Override
@@ -114,7 +117,7 @@ final class ElementaryList<E>
 			? prepand( e )
 			: index == 1
 				? EVolutionList.dominant( length() + 1, new Object[] { element, e }, tail )
-				: thisWithTail( tail.insertAt( index - 1, e ) );
+				: Compaction.compacted( thisWithTail( tail.insertAt( index - 1, e ) ) );
 	}
 
 	@Override
@@ -122,6 +125,16 @@ final class ElementaryList<E>
 		return false;
 	}
 
+	@Override
+	public void measure( Footprint.Meter meter ) {
+		List<E> segment = this;
+		while ( segment instanceof ElementaryList<?> ) {
+			meter.segment( 1 );
+			segment = segment.subsequent();
+		}
+		meter.nested( segment );
+	}
+
 	@Override
 	public List<E> prepand( E e ) {
 		Nonnull.element( e );
@@ -133,7 +146,7 @@ final class ElementaryList<E>
 	public List<E> replaceAt( int index, E e ) {
 		return index == 0
 			? element( e, tail )
-			: thisWithTail( tail.replaceAt( index - 1, e ) );
+			: Compaction.compacted( thisWithTail( tail.replaceAt( index - 1, e ) ) );
 	}
 
 	@Override
@@ -156,12 +169,27 @@ final class ElementaryList<E>
 			: thisWithTail( tidyTail );
 	}
 
+	/**
+	 * @return The {@link SerializedList} written instead of the chain of segments.
+	 */
+	Object writeReplace() {
+		return new SerializedList( this );
+	}
+
 	@Override
 	public String toString() {
 		return "[" + String.valueOf( element ) + "]" + Sequence.CONCAT_OPERATOR_SYMBOL
 				+ tail.toString();
 	}
 
+	/**
+	 * @return The count of {@link EVolutionList}, {@link ElementaryList} and {@link EnumList}
+	 *         segments in the chain starting with this list.
+	 */
+	int depth() {
+		return depth;
+	}
+
 	private List<E> thisWithTail( List<E> tail ) {
 		return new ElementaryList<E>( element, tail );
 	}
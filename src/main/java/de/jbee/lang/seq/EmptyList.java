@@ -107,6 +107,13 @@ final class EmptyList<E>
 		return this;
 	}
 
+	/**
+	 * @return The {@link SerializedList} read back as the empty list.
+	 */
+	Object writeReplace() {
+		return new SerializedList( this );
+	}
+
 	@Override
 	public String toString() {
 		return "[]";
@@ -9,14 +9,14 @@ import de.jbee.lang.Enumerate;
 import de.jbee.lang.Enumerator;
 import de.jbee.lang.EnumeratorFactory;
 import de.jbee.lang.List;
+import de.jbee.lang.SegmentTraversable;
+import de.jbee.lang.SegmentTraversal;
 import de.jbee.lang.Sequence;
 import de.jbee.lang.Traversal;
 import de.jbee.lang.dev.Nonnull;
 
 final class EnumList<E>
-		implements List<E> {
-
-	static final EnumeratorFactory ENUMERATOR_FACTORY = new EnumListEnumeratorFactory();
+		implements List<E>, SegmentTraversable<E> {
 
 	static <T extends java.lang.Enum<?>> List<T> enumElement( T e ) {
 		Class<? extends java.lang.Enum<?>> c = e.getDeclaringClass();
@@ -29,6 +29,7 @@ final class EnumList<E>
 	private final Enum<E> type;
 	private final int firstOrdinal;
 	private final int lastOrdinal;
+	private final int depth;
 
 	static <E> List<E> enumeration( Enum<E> type, E first, E last ) {
 		return enumeration( type, first, last, List.with.<E> noElements() );
@@ -44,6 +45,7 @@ final class EnumList<E>
 		this.tail = tail;
 		this.firstOrdinal = firstOrdianl;
 		this.lastOrdinal = lastOrdinal;
+		this.depth = EVolutionList.depthOf( tail ) + 1;
 	}
 
 	@Override
@@ -65,6 +67,25 @@ final class EnumList<E>
 		}
 	}
 
+	@Override
+	public void traverse( int start, SegmentTraversal<? super E> traversal ) {
+		final int len = len();
+		int i = start;
+		int inc = 0;
+		if ( i < len ) { // there are no elements to hand out so they are filled into a buffer
+			Object[] buffer = new Object[Math.min( SegmentTraversal.BUFFER_LENGTH, len - i )];
+			while ( inc >= 0 && i < len ) {
+				final int l = Math.min( buffer.length, len - i );
+				fill( 0, buffer, i, l );
+				inc = traversal.incrementOn( buffer, 0, l );
+				i += inc;
+			}
+		}
+		if ( inc >= 0 ) {
+			List.traverse.segments( tail, i - len, traversal );
+		}
+	}
+
 	@Override
 	public List<E> append( E e ) {
 		Nonnull.element( e );
@@ -122,17 +143,17 @@ final class EnumList<E>
 		if ( tail.isEmpty() && other instanceof EnumList<?> ) { // can we join 2 enum lists ?
 			EnumList<E> o = (EnumList<E>) other;
 			if ( ascending() == o.ascending() && o.firstOrdinal == lastPlus( 1 ) ) {
-				return enumList( firstOrdinal, o.lastOrdinal );
+				return enumList( firstOrdinal, o.lastOrdinal, o.tail );
 			}
 		}
-		return thisWithTail( tail.concat( other ) );
+		return Compaction.compacted( thisWithTail( tail.concat( other ) ) );
 	}
 
 	@Override
 	public List<E> deleteAt( int index ) {
 		final int len = len();
 		if ( index >= len ) { // its in the tail
-			return thisWithTail( tail.deleteAt( index - len ) );
+			return Compaction.compacted( thisWithTail( tail.deleteAt( index - len ) ) );
 		}
 		if ( index == 0 ) { // first of this enum list
 			return len == 1
@@ -182,7 +203,7 @@ final class EnumList<E>
 		}
 		final int len = len();
 		if ( index >= len ) {
-			return thisWithTail( tail.insertAt( index - len, e ) );
+			return Compaction.compacted( thisWithTail( tail.insertAt( index - len, e ) ) );
 		}
 		// somewhere in between this enumeration
 		return enumList( firstOrdinal, firstPlus( index - 1 ), List.with.element( e ).concat(
@@ -219,7 +240,7 @@ final class EnumList<E>
 	public List<E> replaceAt( int index, E e ) {
 		final int len = len();
 		if ( index >= len ) {
-			thisWithTail( tail.replaceAt( index - len, e ) );
+			return Compaction.compacted( thisWithTail( tail.replaceAt( index - len, e ) ) );
 		}
 		E ei = at( index );
 		if ( ei == e ) { // not use equals - equality might be defined different but identity is safe 
@@ -261,6 +282,13 @@ final class EnumList<E>
 			: thisWithTail( tidyTail );
 	}
 
+	/**
+	 * @return The {@link SerializedList} written instead of the enumerated segments.
+	 */
+	Object writeReplace() {
+		return new SerializedList( this );
+	}
+
 	@Override
 	public String toString() {
 		int len = len();
@@ -294,7 +322,7 @@ final class EnumList<E>
 	 * @return The amount of elements in this enumerated list (*not* considering the {@link #tail}s
 	 *         length).
 	 */
-	private int len() {
+	int len() {
 		return Math.abs( lastOrdinal - firstOrdinal ) + 1;
 	}
 
@@ -328,7 +356,15 @@ final class EnumList<E>
 		return ordinalPlus( firstOrdinal, inc );
 	}
 
-	private List<E> thisWithTail( List<E> tail ) {
+	/**
+	 * @return The count of {@link EVolutionList}, {@link ElementaryList} and {@link EnumList}
+	 *         segments in the chain starting with this list.
+	 */
+	int depth() {
+		return depth;
+	}
+
+	List<E> thisWithTail( List<E> tail ) {
 		return new EnumList<E>( type, firstOrdinal, lastOrdinal, tail );
 	}
 
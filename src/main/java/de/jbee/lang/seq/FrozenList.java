@@ -0,0 +1,275 @@
+package de.jbee.lang.seq;
+
+import de.jbee.lang.Comparing;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Order;
+import de.jbee.lang.SegmentTraversable;
+import de.jbee.lang.SegmentTraversal;
+import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
+
+/**
+ * The elements of a read-mostly {@link de.jbee.lang.Ordered} list in addition laid out as implicit
+ * binary search tree in breadth first (Eytzinger) order: the root is at index 1, the children of
+ * the element at index <code>k</code> at <code>2k</code> and <code>2k+1</code>. The first levels
+ * of the tree that are visited by every lookup thereby share a few cache lines and the next probe
+ * is always at a predictable position. A parallel array gives the index in sorted order of each
+ * tree node.
+ *
+ * <p>
+ * The tree is build once when a {@link de.jbee.lang.Bag#frozen()} list is created. Lookups
+ * ({@link #indexFor(Object)}) are done in the tree, everything else is done by the plain list of
+ * the elements. Therefore all modifications result in a usual (unfrozen) list again.
+ * </p>
+ * <p>
+ * Lookups of {@link Map.Entry}s first try a hash table from the path of their key to the index of
+ * the first entry having that path. It is build on the first such lookup and shared by all
+ * {@link de.jbee.lang.Ordered} lists using the same frozen elements. The table just answers exact
+ * key lookups; when it doesn't know the key the tree is searched as usual to find the insertion
+ * point or (for orders not based on the path) an equal entry having another path.
+ * </p>
+ */
+final class FrozenList<E>
+		implements List<E>, SegmentTraversable<E>, Footprint.Measurable {
+
+	static <E> FrozenList<E> frozen( List<E> elems, Ord<Object> order ) {
+		final List<E> tidy = elems.tidyUp();
+		final int length = tidy.length();
+		final Object[] sorted = new Object[length];
+		tidy.fill( 0, sorted, 0, length );
+		final Object[] tree = new Object[length + 1];
+		final int[] ranks = new int[length + 1];
+		layout( sorted, tree, ranks, 0, 1 );
+		return new FrozenList<E>( order, tidy, tree, ranks );
+	}
+
+	/**
+	 * Fills the subtree rooted at index <code>k</code> with the sorted elements starting at
+	 * <code>index</code> (in-order traversal).
+	 *
+	 * @return The index of the next sorted element not yet placed in the tree.
+	 */
+	private static int layout( Object[] sorted, Object[] tree, int[] ranks, int index, int k ) {
+		if ( k >= tree.length ) {
+			return index;
+		}
+		int i = layout( sorted, tree, ranks, index, 2 * k );
+		tree[k] = sorted[i];
+		ranks[k] = i;
+		return layout( sorted, tree, ranks, i + 1, 2 * k + 1 );
+	}
+
+	private final Ord<Object> order;
+	private final Comparing<Object> cmp;
+	private final List<E> elems;
+	private final Object[] tree;
+	private final int[] ranks;
+
+	/**
+	 * Pairs of hash and index + 1 of the first entry having a key path with that hash; 0 marks a
+	 * free slot. <code>null</code> until the first lookup of a {@link Map.Entry}.
+	 */
+	private volatile int[] keys;
+
+	private FrozenList( Ord<Object> order, List<E> elems, Object[] tree, int[] ranks ) {
+		super();
+		this.order = order;
+		this.cmp = Order.comparing( order );
+		this.elems = elems;
+		this.tree = tree;
+		this.ranks = ranks;
+	}
+
+	/**
+	 * @return The order the tree is build by. Lookups with another order have to search the
+	 *         elements as usual.
+	 */
+	Ord<Object> order() {
+		return order;
+	}
+
+	/**
+	 * Descends the tree without branches going right whenever a node is less than the element
+	 * given. Afterwards the node of the first element not less than the element given is the one
+	 * where the descent went left the last time.
+	 *
+	 * @return The index of the first element equal to the one given (by the {@link #order()}) or
+	 *         the negative insertion point as known from {@link de.jbee.lang.Order#binarySearch}.
+	 */
+	int indexFor( Object e ) {
+		if ( e instanceof Map.Entry<?> ) {
+			final int index = indexForKey( (Map.Entry<?>) e );
+			if ( index >= 0 ) {
+				return index;
+			}
+		}
+		final int length = ranks.length - 1;
+		int k = 1;
+		while ( k <= length ) {
+			k = 2 * k + ( cmp.compare( tree[k], e ) >>> 31 );
+		}
+		k >>>= Integer.numberOfTrailingZeros( ~k ) + 1;
+		if ( k == 0 ) {
+			return - ( length + 1 );
+		}
+		return cmp.compare( tree[k], e ) == 0
+			? ranks[k]
+			: - ( ranks[k] + 1 );
+	}
+
+	/**
+	 * @return The index of the first entry equal to the one given having the same key path or -1
+	 *         if there is no such entry.
+	 */
+	private int indexForKey( Map.Entry<?> e ) {
+		int[] table = keys;
+		if ( table == null ) {
+			table = keyTable();
+			keys = table;
+		}
+		final int slot = slotOf( table, HashTrie.hashOf( e ), e.key().path() );
+		if ( table[2 * slot + 1] == 0 ) {
+			return -1;
+		}
+		final int index = table[2 * slot + 1] - 1;
+		return cmp.compare( elems.at( index ), e ) == 0
+				&& ( index == 0 || cmp.compare( elems.at( index - 1 ), e ) != 0 )
+			? index
+			: -1;
+	}
+
+	private int[] keyTable() {
+		final int length = length();
+		final int[] table = new int[Integer.highestOneBit( Math.max( 1, length ) ) << 3];
+		for ( int i = 0; i < length; i++ ) {
+			final Object e = elems.at( i );
+			if ( e instanceof Map.Entry<?> ) {
+				final int hash = HashTrie.hashOf( e );
+				final int slot = slotOf( table, hash, ( (Map.Entry<?>) e ).key().path() );
+				if ( table[2 * slot + 1] == 0 ) {
+					table[2 * slot] = hash;
+					table[2 * slot + 1] = i + 1;
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * @return The slot of the entry having the key path given or the free slot it would be put in.
+	 */
+	private int slotOf( int[] table, int hash, String path ) {
+		final int mask = ( table.length >> 1 ) - 1;
+		int slot = hash & mask;
+		while ( table[2 * slot + 1] != 0
+				&& ( table[2 * slot] != hash || !path.equals( pathAt( table[2 * slot + 1] - 1 ) ) ) ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		return slot;
+	}
+
+	private String pathAt( int index ) {
+		return ( (Map.Entry<?>) elems.at( index ) ).key().path();
+	}
+
+	@Override
+	public E at( int index ) {
+		return elems.at( index );
+	}
+
+	@Override
+	public int length() {
+		return elems.length();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return elems.isEmpty();
+	}
+
+	@Override
+	public List<E> prepand( E e ) {
+		return elems.prepand( e );
+	}
+
+	@Override
+	public List<E> append( E e ) {
+		return elems.append( e );
+	}
+
+	@Override
+	public List<E> insertAt( int index, E e ) {
+		return elems.insertAt( index, e );
+	}
+
+	@Override
+	public List<E> replaceAt( int index, E e ) {
+		return elems.replaceAt( index, e );
+	}
+
+	@Override
+	public List<E> deleteAt( int index ) {
+		return index < 0
+			? this
+			: elems.deleteAt( index );
+	}
+
+	@Override
+	public List<E> take( int count ) {
+		return count >= length()
+			? this
+			: elems.take( count );
+	}
+
+	@Override
+	public List<E> drop( int count ) {
+		return count <= 0
+			? this
+			: elems.drop( count );
+	}
+
+	@Override
+	public List<E> concat( List<E> other ) {
+		return other.isEmpty()
+			? this
+			: elems.concat( other );
+	}
+
+	@Override
+	public List<E> subsequent() {
+		return List.with.noElements();
+	}
+
+	@Override
+	public List<E> tidyUp() {
+		return this;
+	}
+
+	@Override
+	public void fill( int offset, Object[] dest, int start, int length ) {
+		elems.fill( offset, dest, start, length );
+	}
+
+	@Override
+	public void traverse( int start, Traversal<? super E> traversal ) {
+		elems.traverse( start, traversal );
+	}
+
+	@Override
+	public void traverse( int start, SegmentTraversal<? super E> traversal ) {
+		List.traverse.segments( elems, start, traversal );
+	}
+
+	@Override
+	public void measure( Footprint.Meter meter ) {
+		meter.node( 2 * tree.length );
+		meter.nested( elems );
+	}
+
+	@Override
+	public String toString() {
+		return elems.toString();
+	}
+}
@@ -0,0 +1,623 @@
+package de.jbee.lang.seq;
+
+import static java.lang.Math.min;
+
+import java.io.Serializable;
+
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Ordering;
+import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * A persistent hash array mapped trie (HAMT) used as the elements of hashed {@link Map}s,
+ * {@link de.jbee.lang.Set}s and {@link de.jbee.lang.Multimap}s.
+ *
+ * <p>
+ * The elements are in the order of the {@link HashOrder}: First by the hash (see
+ * {@link #hashOf(Object)}) and than by the order given for those having the same hash. The trie
+ * uses the hash from highest to lowest bits (5 at each level) so walking the trie from left to
+ * right visits the elements in exactly that order. Each node knows the count of elements below it.
+ * Thereby all index based operations are possible as well.
+ * </p>
+ * <p>
+ * Lookups ({@link #indexFor(Object)}) and inserts at the index given by the order are
+ * O(log32(n)). All other modifications that wouldn't keep the order result in a copy to a usual
+ * {@link List}.
+ * </p>
+ * <p>
+ * Each node just has as many children as bits set in its bitmap. This makes the 4, 8, 16, 24 and 32
+ * groups nodes sketched in the <code>OctetMap</code> draft unnecessary.
+ * </p>
+ */
+final class HashTrie<E>
+		implements List<E>, Footprint.Measurable {
+
+	private static final int BITS = 5;
+	private static final int MASK = ( 1 << BITS ) - 1;
+	private static final int ROOT_SHIFT = Integer.SIZE - BITS;
+
+	private static final int STOP = -1;
+
+	private static final Node EMPTY = new Branch( 0, new Node[0], 0 );
+
+	static <E> HashTrie<E> empty( Ord<Object> order ) {
+		return new HashTrie<E>( new HashOrder( order ), EMPTY );
+	}
+
+	/**
+	 * A {@link Map.Entry} is hashed by its key's path. All other elements by their
+	 * {@link Object#hashCode()}. The hash is spread so that also the highest bits (used first) are
+	 * well distributed.
+	 */
+	static int hashOf( Object e ) {
+		int h = e instanceof Map.Entry<?>
+			? ( (Map.Entry<?>) e ).key().path().hashCode()
+			: e.hashCode();
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	static int chunk( int hash, int shift ) {
+		return shift >= 0
+			? ( hash >>> shift ) & MASK
+			: ( hash << -shift ) & MASK;
+	}
+
+	static boolean unsignedLess( int one, int other ) {
+		return ( one ^ Integer.MIN_VALUE ) < ( other ^ Integer.MIN_VALUE );
+	}
+
+	private final HashOrder order;
+	private final Node root;
+
+	private HashTrie( HashOrder order, Node root ) {
+		super();
+		this.order = order;
+		this.root = root;
+	}
+
+	/**
+	 * @return The order the elements are in. It has to be used for the
+	 *         {@link de.jbee.lang.Ordered} list containing this trie.
+	 */
+	Ord<Object> order() {
+		return order;
+	}
+
+	/**
+	 * @return The index of the first element equal to the one given (by the {@link #order()}) or
+	 *         the negative insertion point as known from {@link de.jbee.lang.Order#binarySearch}.
+	 */
+	int indexFor( Object e ) {
+		return root.indexFor( ROOT_SHIFT, hashOf( e ), e, order );
+	}
+
+	@Override
+	public E at( int index ) {
+		checkBounds( index );
+		return element( root.at( index ) );
+	}
+
+	@Override
+	public int length() {
+		return root.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return root.size() == 0;
+	}
+
+	@Override
+	public List<E> prepand( E e ) {
+		return insertAt( 0, e );
+	}
+
+	@Override
+	public List<E> append( E e ) {
+		return insertAt( length(), e );
+	}
+
+	@Override
+	public List<E> insertAt( int index, E e ) {
+		Nonnull.element( e );
+		if ( index >= 0 && index <= length() && inOrderAt( index, e ) ) {
+			return with( root.insert( ROOT_SHIFT, hashOf( e ), e, index, order ) );
+		}
+		return elements().insertAt( index, e );
+	}
+
+	@Override
+	public List<E> replaceAt( int index, E e ) {
+		Nonnull.element( e );
+		if ( order.ord( at( index ), e ).isEq() ) {
+			return with( root.replaceAt( index, e ) );
+		}
+		return elements().replaceAt( index, e );
+	}
+
+	@Override
+	public List<E> deleteAt( int index ) {
+		if ( index < 0 ) {
+			return this;
+		}
+		checkBounds( index );
+		final Node deleted = root.deleteAt( index );
+		return with( deleted == null
+			? EMPTY
+			: deleted );
+	}
+
+	@Override
+	public List<E> take( int count ) {
+		if ( count >= length() ) {
+			return this;
+		}
+		return count <= 0
+			? with( EMPTY )
+			: elements().take( count );
+	}
+
+	@Override
+	public List<E> drop( int count ) {
+		if ( count <= 0 ) {
+			return this;
+		}
+		return count >= length()
+			? with( EMPTY )
+			: elements().drop( count );
+	}
+
+	@Override
+	public List<E> concat( List<E> other ) {
+		return other.isEmpty()
+			? this
+			: elements().concat( other );
+	}
+
+	@Override
+	public List<E> subsequent() {
+		return List.with.noElements();
+	}
+
+	@Override
+	public List<E> tidyUp() {
+		return this;
+	}
+
+	@Override
+	public void fill( int offset, Object[] dest, int start, int length ) {
+		root.fill( start, dest, offset, length );
+	}
+
+	@Override
+	public void traverse( int start, Traversal<? super E> traversal ) {
+		root.traverse( start, traversal );
+	}
+
+	@Override
+	public void measure( Footprint.Meter meter ) {
+		if ( !isEmpty() ) {
+			root.measure( meter );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder();
+		final int length = length();
+		for ( int i = 0; i < length; i++ ) {
+			b.append( ',' );
+			b.append( String.valueOf( at( i ) ) );
+		}
+		return length == 0
+			? "[]"
+			: "[" + b.substring( 1 ) + "]";
+	}
+
+	private void checkBounds( int index ) {
+		if ( index < 0 || index >= length() ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	private E element( Object e ) {
+		return (E) e;
+	}
+
+	/**
+	 * @return A usual list having the same elements as this trie.
+	 */
+	private List<E> elements() {
+		return List.with.elements( this );
+	}
+
+	private boolean inOrderAt( int index, E e ) {
+		return ( index == 0 || order.ord( at( index - 1 ), e ).isLe() )
+				&& ( index == length() || order.ord( e, at( index ) ).isLe() );
+	}
+
+	private HashTrie<E> with( Node root ) {
+		return root == this.root
+			? this
+			: new HashTrie<E>( order, root );
+	}
+
+	/**
+	 * Orders by the {@link HashTrie#hashOf(Object)} first (unsigned) and uses the order given for
+	 * elements having the same hash.
+	 */
+	static final class HashOrder
+			implements Ord<Object> {
+
+		private final Ord<Object> order;
+
+		HashOrder( Ord<Object> order ) {
+			super();
+			this.order = order;
+		}
+
+		@Override
+		public Ordering ord( Object left, Object right ) {
+			final int leftHash = hashOf( left );
+			final int rightHash = hashOf( right );
+			if ( leftHash == rightHash ) {
+				return order.ord( left, right );
+			}
+			return unsignedLess( leftHash, rightHash )
+				? Ordering.LT
+				: Ordering.GT;
+		}
+
+		/**
+		 * @return The order used for elements having the same hash.
+		 */
+		Ord<Object> equalHashOrder() {
+			return order;
+		}
+
+		@Override
+		public String toString() {
+			return "hashed(" + order + ")";
+		}
+	}
+
+	private static abstract class Node
+			implements Serializable {
+
+		Node() {
+			// make visible
+		}
+
+		abstract int size();
+
+		abstract Object at( int index );
+
+		/**
+		 * @param shift
+		 *            the shift of the hash to get the bits used at the level of this node.
+		 * @param index
+		 *            the index (relative to this node) the element is inserted at in case there
+		 *            are other elements having the same hash.
+		 */
+		abstract Node insert( int shift, int hash, Object e, int index, Ord<Object> order );
+
+		abstract Node replaceAt( int index, Object e );
+
+		/**
+		 * @return The node without the element at <code>index</code> or <code>null</code> if it
+		 *         was the last element of this node.
+		 */
+		abstract Node deleteAt( int index );
+
+		abstract int indexFor( int shift, int hash, Object e, Ord<Object> order );
+
+		/**
+		 * @return The count of elements filled into <code>dest</code>
+		 */
+		abstract int fill( int start, Object[] dest, int offset, int length );
+
+		/**
+		 * @return The count of elements to skip in the next node or {@link HashTrie#STOP}.
+		 */
+		abstract int traverse( int skip, Traversal<?> traversal );
+
+		abstract void measure( Footprint.Meter meter );
+	}
+
+	private static final class Branch
+			extends Node {
+
+		private final int bitmap;
+		private final Node[] children;
+		private final int size;
+
+		Branch( int bitmap, Node[] children, int size ) {
+			super();
+			this.bitmap = bitmap;
+			this.children = children;
+			this.size = size;
+		}
+
+		@Override
+		int size() {
+			return size;
+		}
+
+		@Override
+		Object at( int index ) {
+			int i = index;
+			for ( Node child : children ) {
+				final int s = child.size();
+				if ( i < s ) {
+					return child.at( i );
+				}
+				i -= s;
+			}
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+
+		@Override
+		Node insert( int shift, int hash, Object e, int index, Ord<Object> order ) {
+			final int bit = 1 << chunk( hash, shift );
+			final int pos = Integer.bitCount( bitmap & ( bit - 1 ) );
+			if ( ( bitmap & bit ) == 0 ) {
+				Node[] inserted = new Node[children.length + 1];
+				System.arraycopy( children, 0, inserted, 0, pos );
+				inserted[pos] = new Leaf( hash, new Object[] { e } );
+				System.arraycopy( children, pos, inserted, pos + 1, children.length - pos );
+				return new Branch( bitmap | bit, inserted, size + 1 );
+			}
+			return with( pos, children[pos].insert( shift - BITS, hash, e, index - sizeBefore( pos ),
+					order ), size + 1 );
+		}
+
+		@Override
+		Node replaceAt( int index, Object e ) {
+			final int pos = childAt( index );
+			return with( pos, children[pos].replaceAt( index - sizeBefore( pos ), e ), size );
+		}
+
+		@Override
+		Node deleteAt( int index ) {
+			final int pos = childAt( index );
+			final Node deleted = children[pos].deleteAt( index - sizeBefore( pos ) );
+			if ( deleted != null ) {
+				if ( children.length == 1 && deleted instanceof Leaf ) {
+					return deleted; // a single leaf can move up to the parent's level
+				}
+				return with( pos, deleted, size - 1 );
+			}
+			if ( children.length == 1 ) {
+				return null;
+			}
+			Node[] res = new Node[children.length - 1];
+			System.arraycopy( children, 0, res, 0, pos );
+			System.arraycopy( children, pos + 1, res, pos, res.length - pos );
+			if ( res.length == 1 && res[0] instanceof Leaf ) {
+				return res[0];
+			}
+			int bit = bitmap;
+			for ( int i = 0; i < pos; i++ ) { // remove lowest bits set so the lowest bit left is the one of pos
+				bit &= bit - 1;
+			}
+			return new Branch( bitmap & ~Integer.lowestOneBit( bit ), res, size - 1 );
+		}
+
+		@Override
+		int indexFor( int shift, int hash, Object e, Ord<Object> order ) {
+			final int bit = 1 << chunk( hash, shift );
+			final int pos = Integer.bitCount( bitmap & ( bit - 1 ) );
+			final int before = sizeBefore( pos );
+			if ( ( bitmap & bit ) == 0 ) {
+				return -before - 1;
+			}
+			final int index = children[pos].indexFor( shift - BITS, hash, e, order );
+			return index >= 0
+				? before + index
+				: index - before;
+		}
+
+		@Override
+		int fill( int start, Object[] dest, int offset, int length ) {
+			int s = start;
+			int filled = 0;
+			for ( Node child : children ) {
+				if ( filled >= length ) {
+					return filled;
+				}
+				final int childSize = child.size();
+				if ( s >= childSize ) {
+					s -= childSize;
+				} else {
+					filled += child.fill( s, dest, offset + filled, length - filled );
+					s = 0;
+				}
+			}
+			return filled;
+		}
+
+		@Override
+		int traverse( int skip, Traversal<?> traversal ) {
+			int s = skip;
+			for ( Node child : children ) {
+				final int childSize = child.size();
+				if ( s >= childSize ) {
+					s -= childSize;
+				} else {
+					s = child.traverse( s, traversal );
+					if ( s == STOP ) {
+						return STOP;
+					}
+				}
+			}
+			return s;
+		}
+
+		@Override
+		void measure( Footprint.Meter meter ) {
+			meter.node( children.length );
+			for ( Node child : children ) {
+				child.measure( meter );
+			}
+		}
+
+		private int childAt( int index ) {
+			int i = index;
+			for ( int pos = 0; pos < children.length; pos++ ) {
+				final int s = children[pos].size();
+				if ( i < s ) {
+					return pos;
+				}
+				i -= s;
+			}
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+
+		private int sizeBefore( int pos ) {
+			int before = 0;
+			for ( int i = 0; i < pos; i++ ) {
+				before += children[i].size();
+			}
+			return before;
+		}
+
+		private Branch with( int pos, Node child, int size ) {
+			Node[] res = children.clone();
+			res[pos] = child;
+			return new Branch( bitmap, res, size );
+		}
+	}
+
+	/**
+	 * All elements having the same hash. Usually this is just one.
+	 */
+	private static final class Leaf
+			extends Node {
+
+		private final int hash;
+		private final Object[] elems;
+
+		Leaf( int hash, Object[] elems ) {
+			super();
+			this.hash = hash;
+			this.elems = elems;
+		}
+
+		@Override
+		int size() {
+			return elems.length;
+		}
+
+		@Override
+		Object at( int index ) {
+			return elems[index];
+		}
+
+		@Override
+		Node insert( int shift, int hash, Object e, int index, Ord<Object> order ) {
+			if ( hash != this.hash ) {
+				return split( shift, this, new Leaf( hash, new Object[] { e } ) );
+			}
+			final int local = Math.max( 0, min( index, elems.length ) );
+			Object[] res = new Object[elems.length + 1];
+			System.arraycopy( elems, 0, res, 0, local );
+			res[local] = e;
+			System.arraycopy( elems, local, res, local + 1, elems.length - local );
+			return new Leaf( hash, res );
+		}
+
+		@Override
+		Node replaceAt( int index, Object e ) {
+			Object[] res = elems.clone();
+			res[index] = e;
+			return new Leaf( hash, res );
+		}
+
+		@Override
+		Node deleteAt( int index ) {
+			if ( elems.length == 1 ) {
+				return null;
+			}
+			Object[] res = new Object[elems.length - 1];
+			System.arraycopy( elems, 0, res, 0, index );
+			System.arraycopy( elems, index + 1, res, index, res.length - index );
+			return new Leaf( hash, res );
+		}
+
+		@Override
+		int indexFor( int shift, int hash, Object e, Ord<Object> order ) {
+			if ( hash != this.hash ) {
+				return unsignedLess( hash, this.hash )
+					? -1
+					: -elems.length - 1;
+			}
+			int low = 0;
+			int high = elems.length;
+			while ( low < high ) { // first that is not less than e
+				final int mid = ( low + high ) >>> 1;
+				if ( order.ord( elems[mid], e ).isLt() ) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low < elems.length && order.ord( elems[low], e ).isEq()
+				? low
+				: -low - 1;
+		}
+
+		@Override
+		int fill( int start, Object[] dest, int offset, int length ) {
+			final int filled = min( length, elems.length - start );
+			System.arraycopy( elems, start, dest, offset, filled );
+			return filled;
+		}
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		int traverse( int skip, Traversal<?> traversal ) {
+			final Traversal<Object> t = (Traversal<Object>) traversal;
+			int i = skip;
+			while ( i < elems.length ) {
+				final int inc = t.incrementOn( elems[i] );
+				if ( inc < 0 ) {
+					return STOP;
+				}
+				i += inc;
+			}
+			return i - elems.length;
+		}
+
+		@Override
+		void measure( Footprint.Meter meter ) {
+			meter.segment( elems, 0, elems.length );
+		}
+
+		/**
+		 * @return A branch at the level of the <code>shift</code> given containing both leafs.
+		 */
+		private static Node split( int shift, Leaf one, Leaf other ) {
+			final int oneChunk = chunk( one.hash, shift );
+			final int otherChunk = chunk( other.hash, shift );
+			final int size = one.size() + other.size();
+			if ( oneChunk == otherChunk ) {
+				return new Branch( 1 << oneChunk, new Node[] { split( shift - BITS, one, other ) },
+						size );
+			}
+			return new Branch( ( 1 << oneChunk ) | ( 1 << otherChunk ), oneChunk < otherChunk
+				? new Node[] { one, other }
+				: new Node[] { other, one }, size );
+		}
+	}
+
+}
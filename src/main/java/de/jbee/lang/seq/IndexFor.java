@@ -1,6 +1,7 @@
 package de.jbee.lang.seq;
 
 import static de.jbee.lang.Order.effective;
+import de.jbee.lang.Comparing;
 import de.jbee.lang.Eq;
 import de.jbee.lang.Equal;
 import de.jbee.lang.Is;
@@ -26,6 +27,60 @@ public class IndexFor {
 			: -index - 1;
 	}
 
+	/**
+	 * A binary search for the bound within the range of a sorted list. Chains of
+	 * {@link EVolutionList}, {@link ElementaryList} and {@link EnumList} segments are searched
+	 * segment by segment: those ending before the bound are skipped by comparing just their last
+	 * element and the bound is searched within the (backing array of the) segment containing it.
+	 * So the probes don't recurse through the chain.
+	 * 
+	 * @param upper true to search the first element greater than the <code>key</code>, false to
+	 *            search the first that is not less.
+	 * @return The index of the bound or the end of the range if all elements are before it.
+	 */
+	public static <E> int bound( Sequence<E> list, int startInclusive, int endExclusive,
+			Object key, Comparing<Object> order, boolean upper ) {
+		final int limit = upper
+			? 1
+			: 0;
+		Sequence<E> segment = list instanceof OrderedList<?, ?>
+			? ( (OrderedList<E, ?>) list ).elems()
+			: list;
+		int low = startInclusive;
+		int offset = 0;
+		while ( low < endExclusive && segment instanceof List<?>
+				&& EVolutionList.depthOf( (List<?>) segment ) > 0 ) {
+			final List<E> s = (List<E>) segment;
+			final int end = offset + EVolutionList.segmentLengthOf( s );
+			if ( low < end ) {
+				final int last = Math.min( end, endExclusive ) - 1;
+				if ( order.compare( s.at( last - offset ), key ) >= limit ) {
+					return offset + ( s instanceof EVolutionList<?>
+						? ( (EVolutionList<E>) s ).bound( low - offset, last - offset, key, order,
+								limit )
+						: bound( s, low - offset, last - offset, key, order, limit ) );
+				}
+				low = last + 1;
+			}
+			offset = end;
+			segment = s.subsequent();
+		}
+		return offset + bound( segment, low - offset, endExclusive - offset, key, order, limit );
+	}
+
+	private static <E> int bound( Sequence<E> list, int low, int high, Object key,
+			Comparing<Object> order, int limit ) {
+		while ( low < high ) {
+			final int mid = ( low + high ) >>> 1;
+			if ( order.compare( list.at( mid ), key ) < limit ) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
 	public final ListIndex nothing = new NotContainedListIndex();
 	public final ListIndex first = new OnPositionListIndex( 0 );
 	public final ListIndex last = new OnPositionListIndex( -1 );
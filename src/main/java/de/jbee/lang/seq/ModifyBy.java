@@ -1,10 +1,14 @@
 package de.jbee.lang.seq;
 
 import static de.jbee.lang.seq.IndexFor.exists;
+
+import java.util.Arrays;
+
 import de.jbee.lang.List;
 import de.jbee.lang.ListAlteration;
 import de.jbee.lang.ListIndex;
 import de.jbee.lang.ListModification;
+import de.jbee.lang.Sequence;
 import de.jbee.lang.dev.Nonnull;
 
 /**
@@ -54,6 +58,31 @@ public class ModifyBy {
 		return new InsertListModification<E>( index, inserted );
 	}
 
+	/**
+	 * Inserts all elements at once. Instead of inserting them one by one each segment affected is
+	 * copied once.
+	 */
+	public <E> ListModification<E> insertAll( int index, Sequence<? extends E> elems ) {
+		return new InsertAllModification<E>( index, elems );
+	}
+
+	/**
+	 * Replaces the elements from <code>index</code> on with the elements given at once.
+	 */
+	public <E> ListModification<E> replaceAll( int index, Sequence<? extends E> elems ) {
+		return new ReplaceAllModification<E>( index, elems );
+	}
+
+	/**
+	 * Deletes the elements at all of the <code>indexes</code> given at once. They refer to the
+	 * list before any of them is deleted.
+	 */
+	public <E> ListModification<E> deleteAll( int... indexes ) {
+		return indexes.length == 0
+			? this.<E> none()
+			: new DeleteAllModification<E>( distinctSorted( indexes ) );
+	}
+
 	public <E> ListModification<E> replaceAt( int index, E element ) {
 		return replaceAt( List.indexFor.elemAt( index ), element );
 	}
@@ -121,6 +150,23 @@ public class ModifyBy {
 		return new ConsecutiveListModification<E>( fst, snd );
 	}
 
+	private static int[] distinctSorted( int[] indexes ) {
+		int[] res = indexes.clone();
+		Arrays.sort( res );
+		if ( res[0] < 0 ) {
+			throw new IndexOutOfBoundsException( "No such element: " + res[0] );
+		}
+		int length = 1;
+		for ( int i = 1; i < res.length; i++ ) {
+			if ( res[i] != res[length - 1] ) {
+				res[length++] = res[i];
+			}
+		}
+		return length == res.length
+			? res
+			: Arrays.copyOf( res, length );
+	}
+
 	/**
 	 * The NO-OP {@link ListModification}.
 	 */
@@ -355,7 +401,65 @@ public class ModifyBy {
 			if ( index >= list.length() ) {
 				return list.concat( insertedList );
 			}
-			return list.take( index ).concat( insertedList ).concat( list.drop( index ) );
+			return Bulk.insertAll( list, index, insertedList );
+		}
+
+	}
+
+	private static final class InsertAllModification<E>
+			implements ListModification<E> {
+
+		private final int index;
+		private final Sequence<? extends E> elems;
+
+		InsertAllModification( int index, Sequence<? extends E> elems ) {
+			super();
+			this.index = index;
+			this.elems = elems;
+		}
+
+		@Override
+		public List<E> on( List<E> list ) {
+			return Bulk.insertAll( list, index, elems );
+		}
+
+	}
+
+	private static final class ReplaceAllModification<E>
+			implements ListModification<E> {
+
+		private final int index;
+		private final Sequence<? extends E> elems;
+
+		ReplaceAllModification( int index, Sequence<? extends E> elems ) {
+			super();
+			this.index = index;
+			this.elems = elems;
+		}
+
+		@Override
+		public List<E> on( List<E> list ) {
+			return Bulk.replaceAll( list, index, elems, 0, elems.length() );
+		}
+
+	}
+
+	private static final class DeleteAllModification<E>
+			implements ListModification<E> {
+
+		/**
+		 * Sorted ascending without duplicates.
+		 */
+		private final int[] indexes;
+
+		DeleteAllModification( int[] indexes ) {
+			super();
+			this.indexes = indexes;
+		}
+
+		@Override
+		public List<E> on( List<E> list ) {
+			return Bulk.deleteAll( list, indexes, 0, 0 );
 		}
 
 	}
@@ -4,6 +4,7 @@ import static de.jbee.lang.seq.ElementList.elements;
 import static de.jbee.lang.seq.IndexFor.insertionIndex;
 import static de.jbee.lang.seq.Sequences.entry;
 import de.jbee.lang.Bag;
+import de.jbee.lang.Comparing;
 import de.jbee.lang.Element;
 import de.jbee.lang.IndexDeterminable;
 import de.jbee.lang.List;
@@ -12,12 +13,17 @@ import de.jbee.lang.Multimap;
 import de.jbee.lang.Ord;
 import de.jbee.lang.Order;
 import de.jbee.lang.Ordered;
+import de.jbee.lang.SegmentTraversable;
+import de.jbee.lang.SegmentTraversal;
+import de.jbee.lang.Sequence;
 import de.jbee.lang.Set;
 import de.jbee.lang.Traversal;
 import de.jbee.lang.Map.Key;
+import de.jbee.lang.dev.Footprint;
 
 abstract class OrderedList<E, L extends Ordered & List<E>>
-		implements IndexDeterminable<E>, Ordered, List<E> {
+		implements IndexDeterminable<E>, Ordered, List<E>, SegmentTraversable<E>,
+		Footprint.Measurable {
 
 	/**
 	 * This level is just to add methods that are just visible to all subclasses.
@@ -64,11 +70,31 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		return new MapList<E>( entries );
 	}
 
+	/**
+	 * The entries are considered to be ordered by given order and containing no duplicate keys.
+	 */
+	static <E> Map<E> mapOf( List<Map.Entry<E>> entries, Ord<Object> order ) {
+		return new MapList<E>( order, entries );
+	}
+
 	static <E> Multimap<E> multimapOf( List<Map.Entry<E>> entries, Ord<Object> keyOrder,
 			Ord<Object> valueOrder ) {
 		return new MultimapList<E>( keyOrder, valueOrder, entries );
 	}
 
+	/**
+	 * Merge mode keeping all elements. Added elements follow equal ones already contained.
+	 */
+	static final int MERGE_ALL = 0;
+	/**
+	 * Merge mode keeping elements already contained and the first of equal elements added.
+	 */
+	static final int MERGE_KEEPING = 1;
+	/**
+	 * Merge mode replacing elements already contained by the last of equal elements added.
+	 */
+	static final int MERGE_REPLACING = 2;
+
 	private final Ord<Object> order;
 	private final List<E> elems;
 
@@ -83,6 +109,13 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		return elems.toString();
 	}
 
+	/**
+	 * @return The {@link SerializedList} written instead of this list and its elements.
+	 */
+	Object writeReplace() {
+		return new SerializedList( this, order, null );
+	}
+
 	@Override
 	public final List<E> append( E e ) {
 		//TODO might keep Set/Bag alive - check 
@@ -99,15 +132,10 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		if ( index < 0 || index >= l ) {
 			return thisWith( List.with.<E> noElements() );
 		}
-		E e = at( index );
-		while ( index > 0 && containsAt( index - 1, e ) ) { // search backwards for duplicates
-			index--;
-		}
-		int end = index + 1;
-		while ( end < l && containsAt( end, e ) ) { // search forwards for duplicates
-			end++;
-		}
-		return thisWith( List.alterBy.slice( index, end ).from( elems() ) );
+		final E e = at( index );
+		final int first = Order.lowerBound( elems, 0, index, e, order );
+		final int end = Order.upperBound( elems, index + 1, l, e, order );
+		return thisWith( List.alterBy.slice( first, end ).from( elems() ) );
 	}
 
 	@Override
@@ -155,6 +183,18 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 	}
 
 	protected final int indexFor( E e, Ord<Object> order, int startInclusive, int endExclusive ) {
+		if ( elems instanceof HashTrie<?> && startInclusive <= 0 && endExclusive >= length() ) {
+			HashTrie<E> trie = (HashTrie<E>) elems;
+			if ( trie.order() == order ) {
+				return trie.indexFor( e );
+			}
+		}
+		if ( elems instanceof FrozenList<?> && startInclusive <= 0 && endExclusive >= length() ) {
+			FrozenList<E> frozen = (FrozenList<E>) elems;
+			if ( frozen.order() == order ) {
+				return frozen.indexFor( e );
+			}
+		}
 		return Order.binarySearch( elems(), startInclusive, endExclusive, e, order );
 	}
 
@@ -168,6 +208,12 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		return elems.length();
 	}
 
+	@Override
+	public final void measure( Footprint.Meter meter ) {
+		meter.node( 0 );
+		meter.nested( elems );
+	}
+
 	@Override
 	public final Ord<Object> order() {
 		return order;
@@ -198,6 +244,15 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		return thisWith( elems.tidyUp() );
 	}
 
+	/**
+	 * Lists of hashed elements already have a lookup that is faster than any search.
+	 */
+	public final L frozen() {
+		return isHashed() || elems instanceof FrozenList<?>
+			? self()
+			: thisWith( FrozenList.frozen( elems, order ) );
+	}
+
 	@Override
 	public L subsequent() {
 		return thisWith( elems().subsequent() );
@@ -208,6 +263,11 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		elems.traverse( start, traversal );
 	}
 
+	@Override
+	public final void traverse( int start, SegmentTraversal<? super E> traversal ) {
+		List.traverse.segments( elems, start, traversal );
+	}
+
 	final List<E> elems() {
 		return elems;
 	}
@@ -237,14 +297,92 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 		return order;
 	}
 
+	/**
+	 * Lists of hashed elements keep their {@link HashTrie} by adding elements one by one.
+	 */
+	final boolean isHashed() {
+		return elems instanceof HashTrie<?>;
+	}
+
 	final boolean containsAt( int index, E e ) {
-		return index < elems.length() && order.ord( e, at( index ) ).isEq();
+		return index < elems.length() && Order.compare( order, e, at( index ) ) == 0;
 	}
 
 	final L insert( E e, int index ) {
 		return thisWith( elems().insertAt( index, e ) );
 	}
 
+	/**
+	 * Sorts the <code>added</code> elements and merges them with the elements of this list. That is
+	 * O(n + k log k) instead of O(k log n) searches plus k insertions. The merged elements are
+	 * {@link EVolutionList#segmented(Object[], int, int)} like a compacted list.
+	 * 
+	 * @param mode one of {@link #MERGE_ALL}, {@link #MERGE_KEEPING} or {@link #MERGE_REPLACING}
+	 * @return The merged elements.
+	 */
+	final List<E> merged( Sequence<? extends E> added, int mode ) {
+		return merged( added, mode, null );
+	}
+
+	/**
+	 * Like {@link #merged(Sequence, int)} but also notices equal elements while merging.
+	 * 
+	 * @param equal the first cell is set <code>true</code> when the merged elements contain equal
+	 *            ones (within the added elements or to contained ones). Just noticed for
+	 *            {@link #MERGE_ALL}; might be <code>null</code>.
+	 */
+	final List<E> merged( Sequence<? extends E> added, int mode, boolean[] equal ) {
+		final Ord<Object> order = entryOrder();
+		final Comparing<Object> cmp = Order.comparing( order );
+		int k = added.length();
+		if ( k == 0 ) {
+			return elems;
+		}
+		Object[] batch = new Object[k];
+		Bulk.copy( added, 0, batch, 0, k );
+		Order.sort( batch, order );
+		if ( mode != MERGE_ALL ) {
+			k = OrderedListBuilder.unique( batch, k, order, mode == MERGE_REPLACING );
+		} else if ( equal != null ) {
+			for ( int b = 1; b < k && !equal[0]; b++ ) {
+				equal[0] = cmp.compare( batch[b - 1], batch[b] ) == 0;
+			}
+		}
+		final int n = elems.length();
+		Object[] res = new Object[n + k];
+		final int end = res.length;
+		elems.fill( 0, res, 0, n );
+		// merge from the end: the gap of k cells between the existing elements and the end makes
+		// sure that no existing element is overwritten before it is moved
+		int i = end - k - 1;
+		int j = k - 1;
+		int w = end - 1;
+		while ( j >= 0 ) {
+			if ( i < 0 ) {
+				res[w--] = batch[j--];
+			} else {
+				final int c = cmp.compare( res[i], batch[j] );
+				if ( c > 0 ) {
+					res[w--] = res[i--];
+				} else if ( c < 0 || mode == MERGE_ALL ) {
+					if ( c == 0 && equal != null ) {
+						equal[0] = true;
+					}
+					res[w--] = batch[j--];
+				} else if ( mode == MERGE_KEEPING ) {
+					j--;
+				} else { // replacing
+					res[w--] = batch[j--];
+					i--;
+				}
+			}
+		}
+		while ( i >= 0 ) {
+			res[w--] = res[i--];
+		}
+		return EVolutionList.segmented( res, w + 1, end - 1 - w );
+	}
+
 	private static class BagList<E>
 			extends OrderedList<E, Bag<E>>
 			implements Bag<E> {
@@ -258,6 +396,18 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return thisWith( elems().insertAt( insertionIndexFor( e ), e ) );
 		}
 
+		@Override
+		public Bag<E> addAll( Sequence<? extends E> elems ) {
+			if ( !isHashed() ) {
+				return thisWith( merged( elems, MERGE_ALL ) );
+			}
+			Bag<E> res = this;
+			for ( int i = 0; i < elems.length(); i++ ) {
+				res = res.add( elems.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		Bag<E> self() {
 			return this;
@@ -294,6 +444,22 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return bag( elems().insertAt( idx, e ), order() );
 		}
 
+		@Override
+		public Bag<E> addAll( Sequence<? extends E> elems ) {
+			if ( !isHashed() ) {
+				final boolean[] equal = new boolean[1];
+				final List<E> merged = merged( elems, MERGE_ALL, equal );
+				return equal[0]
+					? bag( merged, order() )
+					: thisWith( merged );
+			}
+			Bag<E> res = this;
+			for ( int i = 0; i < elems.length(); i++ ) {
+				res = res.add( elems.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		public Set<E> entriesAt( int index ) {
 			if ( index < 0 || index >= length() ) {
@@ -311,6 +477,18 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return insert( e, idx );
 		}
 
+		@Override
+		public Set<E> insertAll( Sequence<? extends E> elems ) {
+			if ( !isHashed() ) {
+				return thisWith( merged( elems, MERGE_KEEPING ) );
+			}
+			Set<E> res = this;
+			for ( int i = 0; i < elems.length(); i++ ) {
+				res = res.insert( elems.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		Set<E> self() {
 			return this;
@@ -377,6 +555,22 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return multimapOf( elems().insertAt( idx, e ), order(), Order.keep );
 		}
 
+		@Override
+		public Multimap<V> addAll( Sequence<? extends Map.Entry<V>> entries ) {
+			if ( !isHashed() ) {
+				final boolean[] equal = new boolean[1];
+				final List<Map.Entry<V>> merged = merged( entries, MERGE_ALL, equal );
+				return equal[0]
+					? multimapOf( merged, order(), Order.keep )
+					: thisWith( merged );
+			}
+			Multimap<V> res = this;
+			for ( int i = 0; i < entries.length(); i++ ) {
+				res = res.add( entries.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		public Map<V> entriesAt( int index ) {
 			if ( index < 0 || index >= length() ) {
@@ -396,6 +590,18 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return insert( e, idx );
 		}
 
+		@Override
+		public Map<V> insertAll( Sequence<? extends Map.Entry<V>> entries ) {
+			if ( !isHashed() ) {
+				return thisWith( merged( entries, MERGE_REPLACING ) );
+			}
+			Map<V> res = this;
+			for ( int i = 0; i < entries.length(); i++ ) {
+				res = res.insert( entries.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		Map<V> self() {
 			return this;
@@ -471,20 +677,25 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return thisWith( elems().insertAt( insertionIndexFor( e ), e ) ); //TODO same as bag impl. -> DRY
 		}
 
+		@Override
+		public Multimap<V> addAll( Sequence<? extends Map.Entry<V>> entries ) {
+			if ( !isHashed() ) {
+				return thisWith( merged( entries, MERGE_ALL ) );
+			}
+			Multimap<V> res = this;
+			for ( int i = 0; i < entries.length(); i++ ) {
+				res = res.add( entries.at( i ) );
+			}
+			return res;
+		}
+
 		@Override
 		public Bag<V> valuesAt( int index ) {
 			final Map.Entry<V> e = at( index );
 			final Ord<Object> keyOrder = order();
-			int first = index;
-			while ( first > 0 && keyOrder.ord( e, at( first - 1 ) ).isEq() ) {
-				first--;
-			}
-			final int l = length();
-			int idx = first + 1;
-			while ( idx < l && keyOrder.ord( e, at( idx ) ).isEq() ) {
-				idx++;
-			}
-			return bag( elements( List.alterBy.slice( first, idx ).from( elems() ) ), valueOrder );
+			final int first = Order.lowerBound( elems(), 0, index, e, keyOrder );
+			final int end = Order.upperBound( elems(), index + 1, length(), e, keyOrder );
+			return bag( elements( List.alterBy.slice( first, end ).from( elems() ) ), valueOrder );
 		}
 
 		@Override
@@ -492,5 +703,10 @@ abstract class OrderedList<E, L extends Ordered & List<E>>
 			return add( entry( key, value ) );
 		}
 
+		@Override
+		Object writeReplace() {
+			return new SerializedList( this, order(), valueOrder );
+		}
+
 	}
 }
@@ -0,0 +1,245 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.EVolutionList.twiceOf;
+import static de.jbee.lang.seq.Sequences.entry;
+
+import de.jbee.lang.Array;
+import de.jbee.lang.Arrayable;
+import de.jbee.lang.Bag;
+import de.jbee.lang.Comparing;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Order;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Set;
+import de.jbee.lang.Map.Key;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * Collects the elements of a {@link Bag}, {@link Set} or {@link Map} unsorted in a single array.
+ * They are sorted (and made unique) in place once when building. Elements appended afterwards are
+ * again added unsorted so that the next build just has to sort those and merge them into the
+ * already sorted ones.
+ * 
+ * Elements added one by one in (strict) order, like those read from a source already sorted, are
+ * recognised as such. Building them neither sorts nor has to make them unique.
+ */
+abstract class OrderedListBuilder<E> {
+
+	static <E> Bag.BagBuilder<E> bagBuilder( Ord<Object> order ) {
+		return new BagListBuilder<E>( order );
+	}
+
+	static <E> Set.SetBuilder<E> setBuilder( Ord<Object> order ) {
+		return new SetListBuilder<E>( order );
+	}
+
+	static <V> Map.MapBuilder<V> mapBuilder( Ord<Object> order ) {
+		return new MapListBuilder<V>( order );
+	}
+
+	final Ord<Object> order;
+	private final Comparing<Object> cmp;
+
+	private Object[] elems = new Object[16];
+	private int length = 0;
+	/**
+	 * The count of elements at the beginning of {@link #elems} known to be in order.
+	 */
+	private int sortedLength = 0;
+
+	OrderedListBuilder( Ord<Object> order ) {
+		super();
+		this.order = order;
+		this.cmp = Order.comparing( order );
+	}
+
+	public final int length() {
+		return length;
+	}
+
+	final void add( E e ) {
+		Nonnull.element( e );
+		ensureCapacity( length + 1 );
+		if ( sortedLength == length && ( length == 0 || cmp.compare( elems[length - 1], e ) < 0 ) ) {
+			sortedLength++;
+		}
+		elems[length++] = e;
+	}
+
+	final void add( Sequence<? extends E> elems ) {
+		final int l = elems.length();
+		ensureCapacity( length + l );
+		if ( elems instanceof Arrayable ) {
+			( (Arrayable) elems ).fill( length, this.elems, 0, l );
+			length += l;
+		} else {
+			for ( int i = 0; i < l; i++ ) {
+				add( elems.at( i ) );
+			}
+		}
+	}
+
+	/**
+	 * @param unique true in case equal elements should be reduced to one.
+	 * @param keepLast true in case the last of equal elements should be kept, otherwise the first
+	 *            is kept. Just used when elements are made unique.
+	 * @return A list of the sorted elements using a copy of the builder's array.
+	 */
+	final List<E> sortedElements( boolean unique, boolean keepLast ) {
+		if ( sortedLength < length ) {
+			Order.sort( elems, order, sortedLength, length );
+			if ( sortedLength > 0 ) {
+				mergeSortedElements();
+			}
+			if ( unique ) {
+				uniqueElements( keepLast );
+			}
+			sortedLength = length;
+		}
+		if ( length == 0 ) {
+			return List.with.noElements();
+		}
+		return EVolutionList.segmented( elems, 0, length );
+	}
+
+	/**
+	 * Merges the elements appended (and sorted) after the {@link #sortedLength} into the ones
+	 * sorted before. Of equal elements those sorted before come first.
+	 */
+	private void mergeSortedElements() {
+		final Object[] sorted = Array.segment( elems, 0, sortedLength );
+		int i = 0;
+		int j = sortedLength;
+		int k = 0;
+		while ( i < sorted.length && j < length ) {
+			elems[k++] = cmp.compare( elems[j], sorted[i] ) < 0
+				? elems[j++]
+				: sorted[i++];
+		}
+		System.arraycopy( sorted, i, elems, k, sorted.length - i );
+	}
+
+	private void uniqueElements( boolean keepLast ) {
+		final int unique = unique( elems, length, order, keepLast );
+		Array.fill( elems, null, unique, length - unique );
+		length = unique;
+	}
+
+	/**
+	 * Reduces equal elements within the first <code>length</code> sorted elements to one moving
+	 * the unique elements to the beginning of the array.
+	 * 
+	 * @return the count of unique elements
+	 */
+	static int unique( Object[] elems, int length, Ord<Object> order, boolean keepLast ) {
+		if ( length < 2 ) {
+			return length;
+		}
+		final Comparing<Object> cmp = Order.comparing( order );
+		int j = 0;
+		for ( int i = 1; i < length; i++ ) {
+			if ( cmp.compare( elems[j], elems[i] ) == 0 ) {
+				if ( keepLast ) {
+					elems[j] = elems[i];
+				}
+			} else {
+				elems[++j] = elems[i];
+			}
+		}
+		return j + 1;
+	}
+
+	private void ensureCapacity( int minLength ) {
+		if ( minLength > elems.length ) {
+			Object[] enlarged = new Object[Math.max( minLength, twiceOf( elems.length ) )];
+			System.arraycopy( elems, 0, enlarged, 0, length );
+			elems = enlarged;
+		}
+	}
+
+	private static final class BagListBuilder<E>
+			extends OrderedListBuilder<E>
+			implements Bag.BagBuilder<E> {
+
+		BagListBuilder( Ord<Object> order ) {
+			super( order );
+		}
+
+		@Override
+		public Bag.BagBuilder<E> append( E e ) {
+			add( e );
+			return this;
+		}
+
+		@Override
+		public Bag.BagBuilder<E> append( Sequence<? extends E> elems ) {
+			add( elems );
+			return this;
+		}
+
+		@Override
+		public Bag<E> build() {
+			return OrderedList.bagOf( sortedElements( false, false ), order );
+		}
+	}
+
+	private static final class SetListBuilder<E>
+			extends OrderedListBuilder<E>
+			implements Set.SetBuilder<E> {
+
+		SetListBuilder( Ord<Object> order ) {
+			super( order );
+		}
+
+		@Override
+		public Set.SetBuilder<E> append( E e ) {
+			add( e );
+			return this;
+		}
+
+		@Override
+		public Set.SetBuilder<E> append( Sequence<? extends E> elems ) {
+			add( elems );
+			return this;
+		}
+
+		@Override
+		public Set<E> build() {
+			return OrderedList.setOf( sortedElements( true, false ), order );
+		}
+	}
+
+	private static final class MapListBuilder<V>
+			extends OrderedListBuilder<Map.Entry<V>>
+			implements Map.MapBuilder<V> {
+
+		MapListBuilder( Ord<Object> order ) {
+			super( order );
+		}
+
+		@Override
+		public Map.MapBuilder<V> insert( Key key, V value ) {
+			add( entry( key, value ) );
+			return this;
+		}
+
+		@Override
+		public Map.MapBuilder<V> append( Map.Entry<V> e ) {
+			add( e );
+			return this;
+		}
+
+		@Override
+		public Map.MapBuilder<V> append( Sequence<? extends Map.Entry<V>> entries ) {
+			add( entries );
+			return this;
+		}
+
+		@Override
+		public Map<V> build() {
+			return OrderedList.mapOf( sortedElements( true, true ), order );
+		}
+	}
+}
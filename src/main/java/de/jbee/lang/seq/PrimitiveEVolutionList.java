@@ -0,0 +1,1005 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.Calculate.nextHighestPowerOf2;
+import static de.jbee.lang.seq.EVolutionList.halfOf;
+import static de.jbee.lang.seq.EVolutionList.twiceOf;
+import static java.lang.Math.min;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.jbee.lang.DoubleList;
+import de.jbee.lang.IntList;
+import de.jbee.lang.List;
+import de.jbee.lang.LongList;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * The primitive counterpart of the {@link EVolutionList}. The generations are <code>int[]</code>,
+ * <code>long[]</code> or <code>double[]</code> arrays that are shared and occupied by the same
+ * dominant, growth and recessive rules.
+ *
+ * <p>
+ * Since a primitive array cannot mark a free cell with <code>null</code> all lists using the same
+ * array share the {@link #occupied} counter. It knows the lowest occupied index. A list can occupy
+ * the cell before its first element as long as nobody else did so before.
+ * </p>
+ * <p>
+ * The structural rules are implemented once for all primitive types. Therefore values are passed
+ * as the raw bits of a <code>long</code> and stored by the {@link #store(Object, int, long)} of
+ * the specific type.
+ * </p>
+ */
+abstract class PrimitiveEVolutionList<L extends PrimitiveEVolutionList<L>>
+		implements Serializable {
+
+	/**
+	 * The maximum count of elements contained in a single generation.
+	 */
+	private static final int GENERATION_MAX_LENGTH = 1 << 16;
+
+	static final IntList.IntLister INTS = new IntsLister();
+	static final LongList.LongLister LONGS = new LongsLister();
+	static final DoubleList.DoubleLister DOUBLES = new DoublesLister();
+
+	enum Evolution {
+		/**
+		 * Tries to continue to use (fill) the array.
+		 */
+		DOMINANT,
+		/**
+		 * Is tidy and grows by copying to arrays of twice the size until the generation size is
+		 * reached.
+		 */
+		GROWTH,
+		/**
+		 * A *view* to a section of the array. It never occupies further cells.
+		 */
+		RECESSIVE
+	}
+
+	/**
+	 * @return The value of {@link #occupied} that marks the cell before <code>first</code> as
+	 *         locked so nobody can occupy further cells of the shared array.
+	 */
+	static int lockedBefore( int first ) {
+		return -1 - first;
+	}
+
+	final Evolution evolution;
+
+	/**
+	 * list's size in total with {@link #tail}-list elements
+	 */
+	final int length;
+
+	/**
+	 * The primitive array shared by all lists of the same generation. Filled from highest to lowest
+	 * index.
+	 */
+	final Object elems;
+
+	/**
+	 * The length of the {@link #elems} array.
+	 */
+	final int capacity;
+
+	/**
+	 * The index in {@link #elems} of the first element of this segment.
+	 */
+	final int first;
+
+	/**
+	 * The lowest index of {@link #elems} occupied by any list sharing the array or a negative value
+	 * when locked (see {@link #lockedBefore(int)}).
+	 */
+	final AtomicInteger occupied;
+
+	/**
+	 * Just used by {@link Evolution#GROWTH} lists: The next generation will be created when the
+	 * length of this elements reaches/exceeds this size.
+	 */
+	final int generationSize;
+
+	/**
+	 * The next {@link #subsequent()} segment. The empty list is its own tail.
+	 */
+	final L tail;
+
+	@SuppressWarnings ( "unchecked" )
+	PrimitiveEVolutionList( Evolution evolution, int length, Object elems, int capacity, int first,
+			AtomicInteger occupied, int generationSize, L tail ) {
+		super();
+		this.evolution = evolution;
+		this.length = length;
+		this.elems = elems;
+		this.capacity = capacity;
+		this.first = first;
+		this.occupied = occupied;
+		this.generationSize = generationSize;
+		this.tail = tail == null
+			? (L) this
+			: tail;
+	}
+
+	public final int length() {
+		return length;
+	}
+
+	public final boolean isEmpty() {
+		return length == 0;
+	}
+
+	public final L take( int count ) {
+		if ( count <= 0 ) {
+			return empty();
+		}
+		if ( count >= length ) {
+			return self();
+		}
+		final int len = segmentLength();
+		if ( count == len ) {
+			return thisWith( len, empty() );
+		}
+		if ( count < len ) {
+			return sectorWith( count, first, empty() );
+		}
+		return thisWith( count, tail.take( count - len ) );
+	}
+
+	public final L drop( int count ) {
+		if ( count <= 0 ) {
+			return self();
+		}
+		if ( count >= length ) {
+			return empty();
+		}
+		final int len = segmentLength();
+		return count >= len
+			? tail.drop( count - len )
+			: sectorWith( length - count, first + count, tail );
+	}
+
+	public final L deleteAt( int index ) {
+		if ( index < 0 || index >= length ) {
+			return self();
+		}
+		final int len = segmentLength();
+		if ( index >= len ) {
+			return thisWith( length - 1, tail.deleteAt( index - len ) );
+		}
+		if ( index == 0 ) {
+			return len == 1
+				? tail
+				: sectorWith( length - 1, first + 1, tail );
+		}
+		return take( index ).concat( drop( index + 1 ) );
+	}
+
+	public final L concat( L other ) {
+		if ( other.isEmpty() ) {
+			return self();
+		}
+		if ( isEmpty() ) {
+			return other;
+		}
+		return thisWith( length + other.length, tail.concat( other ) );
+	}
+
+	public final L subsequent() {
+		return tail;
+	}
+
+	public final L tidyUp() {
+		if ( isEmpty() ) {
+			return self();
+		}
+		final int len = segmentLength();
+		if ( evolution == Evolution.RECESSIVE ) {
+			return growth( length, capacity, segmentElements(), len, tail.tidyUp() );
+		}
+		if ( first == 0 || occupied.get() == lockedBefore( first ) ) { // all cells occupied or nobody will occupy further cells
+			return thisWith( tail.tidyUp() );
+		}
+		if ( length < 16 ) { // for short lists we are also contract the tail to a single tidy segment
+			Object tidy = newArray( length );
+			fill( 0, tidy, 0, length );
+			return growth( length, nextHighestPowerOf2( length ), tidy, length, empty() );
+		}
+		if ( len > 16 && len > halfOf( capacity )
+				&& occupied.compareAndSet( first, lockedBefore( first ) ) ) {
+			return thisWith( tail.tidyUp() );
+		}
+		return growth( length, capacity, segmentElements(), len, tail.tidyUp() );
+	}
+
+	@Override
+	public String toString() {
+		if ( isEmpty() ) {
+			return "[]";
+		}
+		StringBuilder b = new StringBuilder();
+		final int len = segmentLength();
+		for ( int i = 0; i < len; i++ ) {
+			b.append( ',' );
+			b.append( String.valueOf( box( elems, first + i ) ) );
+		}
+		return "[" + b.substring( 1 ) + "]" + Sequence.CONCAT_OPERATOR_SYMBOL + tail.toString();
+	}
+
+	/**
+	 * Copies elements into a primitive <code>dest</code> array of the same type.
+	 *
+	 * @see List#fill(int, Object[], int, int)
+	 */
+	final void fill( int offset, Object dest, int start, int upToLen ) {
+		PrimitiveEVolutionList<L> l = this;
+		int i = start;
+		int copied = 0;
+		while ( copied < upToLen && !l.isEmpty() ) {
+			final int len = l.segmentLength();
+			if ( i < len ) {
+				final int copiedLength = min( upToLen - copied, len - i );
+				System.arraycopy( l.elems, l.first + i, dest, offset + copied, copiedLength );
+				copied += copiedLength;
+				i = 0;
+			} else {
+				i -= len;
+			}
+			l = l.tail;
+		}
+	}
+
+	/**
+	 * @return The segment (list) containing the element at <code>index</code> of this list.
+	 */
+	final L segmentAt( int index ) {
+		if ( index < 0 || index >= length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		L l = self();
+		int i = index;
+		int len = l.segmentLength();
+		while ( i >= len ) {
+			i -= len;
+			l = l.tail;
+			len = l.segmentLength();
+		}
+		return l;
+	}
+
+	/**
+	 * @return The index in the {@link #elems} of the {@link #segmentAt(int)} the same
+	 *         <code>index</code> that holds the element.
+	 */
+	final int cellAt( L segment, int index ) {
+		return segment.first + index - length + segment.length;
+	}
+
+	final L prepanding( long bits ) {
+		if ( isEmpty() ) {
+			return nextGeneration( bits, 2, self() );
+		}
+		final int len = segmentLength();
+		final int index = first - 1;
+		switch ( evolution ) {
+		case DOMINANT:
+			if ( index < 0 ) { // elems capacity exceeded
+				return nextGeneration( bits, twiceOf( capacity ), self() );
+			}
+			if ( occupying( index ) ) {
+				store( elems, index, bits );
+				return list( Evolution.DOMINANT, length + 1, elems, capacity, index, occupied, 0, tail );
+			}
+			// if more the halve of the elems is used do we recycle them as recessive tail and start a new clean head for the new list
+			if ( len > halfOf( capacity ) ) {
+				return nextGeneration( bits, twiceOf( capacity ), sectorWith( length, first, tail ) );
+			}
+			// otherwise we want to stay tidy so we copy our elements
+			Object copy = newArray( capacity );
+			System.arraycopy( elems, first, copy, first, len );
+			store( copy, index, bits );
+			return list( Evolution.DOMINANT, length + 1, copy, capacity, index, new AtomicInteger(
+					index ), 0, tail );
+		case GROWTH:
+			if ( index >= 0 && occupying( index ) ) {
+				store( elems, index, bits );
+				return list( Evolution.GROWTH, length + 1, elems, capacity, index, occupied,
+						generationSize, tail );
+			}
+			// tidy up causes full occupied lists - instead of copying from that all the time we reuse it as tail if it is long enough
+			if ( capacity > halfOf( generationSize ) ) {
+				final int size = capacity < generationSize
+					? generationSize
+					: twiceOf( generationSize );
+				return nextGeneration( bits, size, self() );
+			}
+			return growth( bits, twiceOf( capacity ), generationSize );
+		default:
+			if ( len < 8 || len < halfOf( capacity ) ) {
+				return growth( bits, nextHighestPowerOf2( len + 1 ), capacity );
+			}
+			return nextGeneration( bits, capacity, self() );
+		}
+	}
+
+	final L inserting( int index, long bits ) {
+		if ( index <= 0 || isEmpty() ) {
+			return prepanding( bits );
+		}
+		final int len = segmentLength();
+		if ( index >= len ) {
+			return thisWith( length + 1, tail.inserting( index - len, bits ) );
+		}
+		return take( index ).concat( drop( index ).prepanding( bits ) );
+	}
+
+	final L replacing( int index, long bits ) {
+		if ( index < 0 || index >= length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		final int len = segmentLength();
+		if ( index >= len ) {
+			return thisWith( length, tail.replacing( index - len, bits ) );
+		}
+		return take( index ).concat( drop( index + 1 ).prepanding( bits ) );
+	}
+
+	/**
+	 * @return A list of the first <code>length</code> elements of the primitive array given.
+	 */
+	final L of( Object array, int length ) {
+		if ( length == 0 ) {
+			return empty();
+		}
+		final int size = nextHighestPowerOf2( length );
+		Object elems = newArray( size );
+		System.arraycopy( array, 0, elems, size - length, length );
+		return list( Evolution.DOMINANT, length, elems, size, size - length, new AtomicInteger(
+				size - length ), 0, empty() );
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	final <E> void traverseBoxed( int start, Traversal<? super E> traversal ) {
+		PrimitiveEVolutionList<L> l = this;
+		int i = start;
+		while ( !l.isEmpty() ) {
+			final int len = l.segmentLength();
+			while ( i < len ) {
+				final int inc = traversal.incrementOn( (E) box( l.elems, l.first + i ) );
+				if ( inc < 0 ) {
+					return;
+				}
+				i += inc;
+			}
+			i -= len;
+			l = l.tail;
+		}
+	}
+
+	/**
+	 * @return The count of {@link #elems} that are used by this lists.
+	 */
+	final int segmentLength() {
+		return length - tail.length;
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	final L self() {
+		return (L) this;
+	}
+
+	/**
+	 * Claims the free cell at <code>index</code> (directly before the {@link #first} element). Several
+	 * lists might try to claim the same cell at the same time. The first one wins, all others have
+	 * to copy.
+	 */
+	private boolean occupying( int index ) {
+		return occupied.compareAndSet( index + 1, index );
+	}
+
+	private Object segmentElements() {
+		final int len = segmentLength();
+		Object segment = newArray( len );
+		System.arraycopy( elems, first, segment, 0, len );
+		return segment;
+	}
+
+	private L thisWith( L maybeSameTail ) {
+		return maybeSameTail == tail
+			? self()
+			: thisWith( length, maybeSameTail );
+	}
+
+	/**
+	 * The usage of the elements in this segment/generation doesn't change but the tail does and
+	 * therefore sometimes the overall length too.
+	 */
+	private L thisWith( int length, L tail ) {
+		return list( evolution, length, elems, capacity, first, occupied, generationSize, tail );
+	}
+
+	/**
+	 * A 'view' upon the {@link #elems} of this list that just uses some of its elements starting
+	 * at index <code>first</code>. Growth lists copy the elements to stay tidy.
+	 */
+	private L sectorWith( int length, int first, L tail ) {
+		if ( evolution == Evolution.GROWTH ) {
+			final int len = length - tail.length;
+			Object segment = newArray( len );
+			System.arraycopy( elems, first, segment, 0, len );
+			return growth( length, capacity, segment, len, tail );
+		}
+		return list( Evolution.RECESSIVE, length, elems, capacity, first, occupied, 0, tail );
+	}
+
+	private L growth( int length, int generationSize, Object elems, int capacity, L tail ) {
+		final int first = capacity - ( length - tail.length );
+		return list( Evolution.GROWTH, length, elems, capacity, first, new AtomicInteger( first ),
+				generationSize, tail );
+	}
+
+	/**
+	 * @return A growth list with this segment's elements copied to a new array of the
+	 *         <code>size</code> given and the new element before them.
+	 */
+	private L growth( long bits, int size, int generationSize ) {
+		final int len = segmentLength();
+		Object enlarged = newArray( size );
+		System.arraycopy( elems, first, enlarged, size - len, len );
+		store( enlarged, size - len - 1, bits );
+		return growth( length + 1, generationSize, enlarged, size, tail );
+	}
+
+	private L nextGeneration( long bits, int size, L tail ) {
+		final int capacity = min( GENERATION_MAX_LENGTH, size ); // grow with power of 2 until 65536
+		Object elems = newArray( capacity );
+		store( elems, capacity - 1, bits );
+		return list( Evolution.DOMINANT, tail.length + 1, elems, capacity, capacity - 1,
+				new AtomicInteger( capacity - 1 ), 0, tail );
+	}
+
+	abstract L list( Evolution evolution, int length, Object elems, int capacity, int first,
+			AtomicInteger occupied, int generationSize, L tail );
+
+	abstract L empty();
+
+	abstract Object newArray( int length );
+
+	abstract void store( Object elems, int index, long bits );
+
+	abstract Object box( Object elems, int index );
+
+	/**
+	 * @return The raw bits of the boxed value given.
+	 */
+	abstract long bitsOf( Object e );
+
+	static final class IntEVolutionList
+			extends PrimitiveEVolutionList<IntEVolutionList>
+			implements IntList {
+
+		static final IntEVolutionList EMPTY = new IntEVolutionList( Evolution.DOMINANT, 0,
+				new int[0], 0, 0, new AtomicInteger( 0 ), 0, null );
+
+		IntEVolutionList( Evolution evolution, int length, Object elems, int capacity, int first,
+				AtomicInteger occupied, int generationSize, IntEVolutionList tail ) {
+			super( evolution, length, elems, capacity, first, occupied, generationSize, tail );
+		}
+
+		@Override
+		public int at( int index ) {
+			final IntEVolutionList segment = segmentAt( index );
+			return ( (int[]) segment.elems )[cellAt( segment, index )];
+		}
+
+		@Override
+		public IntList prepand( int e ) {
+			return prepanding( e );
+		}
+
+		@Override
+		public IntList append( int e ) {
+			return inserting( length, e );
+		}
+
+		@Override
+		public IntList insertAt( int index, int e ) {
+			return inserting( index, e );
+		}
+
+		@Override
+		public IntList replaceAt( int index, int e ) {
+			return replacing( index, e );
+		}
+
+		@Override
+		public IntList concat( IntList other ) {
+			return concat( other instanceof IntEVolutionList
+				? (IntEVolutionList) other
+				: EMPTY.of( toArray( other ), other.length() ) );
+		}
+
+		@Override
+		public void fill( int offset, int[] dest, int start, int length ) {
+			fill( offset, (Object) dest, start, length );
+		}
+
+		@Override
+		public void traverse( int start, IntTraversal traversal ) {
+			IntEVolutionList l = this;
+			int i = start;
+			while ( !l.isEmpty() ) {
+				final int len = l.segmentLength();
+				final int[] ints = (int[]) l.elems;
+				while ( i < len ) {
+					final int inc = traversal.incrementOn( ints[l.first + i] );
+					if ( inc < 0 ) {
+						return;
+					}
+					i += inc;
+				}
+				i -= len;
+				l = l.tail;
+			}
+		}
+
+		@Override
+		public List<Integer> boxed() {
+			return new BoxedList<Integer, IntEVolutionList>( this );
+		}
+
+		@Override
+		IntEVolutionList list( Evolution evolution, int length, Object elems, int capacity,
+				int first, AtomicInteger occupied, int generationSize, IntEVolutionList tail ) {
+			return new IntEVolutionList( evolution, length, elems, capacity, first, occupied,
+					generationSize, tail );
+		}
+
+		@Override
+		IntEVolutionList empty() {
+			return EMPTY;
+		}
+
+		@Override
+		Object newArray( int length ) {
+			return new int[length];
+		}
+
+		@Override
+		void store( Object elems, int index, long bits ) {
+			( (int[]) elems )[index] = (int) bits;
+		}
+
+		@Override
+		Object box( Object elems, int index ) {
+			return Integer.valueOf( ( (int[]) elems )[index] );
+		}
+
+		@Override
+		long bitsOf( Object e ) {
+			return ( (Integer) e ).intValue();
+		}
+
+		private static int[] toArray( IntList list ) {
+			int[] elems = new int[list.length()];
+			list.fill( 0, elems, 0, elems.length );
+			return elems;
+		}
+	}
+
+	static final class LongEVolutionList
+			extends PrimitiveEVolutionList<LongEVolutionList>
+			implements LongList {
+
+		static final LongEVolutionList EMPTY = new LongEVolutionList( Evolution.DOMINANT, 0,
+				new long[0], 0, 0, new AtomicInteger( 0 ), 0, null );
+
+		LongEVolutionList( Evolution evolution, int length, Object elems, int capacity, int first,
+				AtomicInteger occupied, int generationSize, LongEVolutionList tail ) {
+			super( evolution, length, elems, capacity, first, occupied, generationSize, tail );
+		}
+
+		@Override
+		public long at( int index ) {
+			final LongEVolutionList segment = segmentAt( index );
+			return ( (long[]) segment.elems )[cellAt( segment, index )];
+		}
+
+		@Override
+		public LongList prepand( long e ) {
+			return prepanding( e );
+		}
+
+		@Override
+		public LongList append( long e ) {
+			return inserting( length, e );
+		}
+
+		@Override
+		public LongList insertAt( int index, long e ) {
+			return inserting( index, e );
+		}
+
+		@Override
+		public LongList replaceAt( int index, long e ) {
+			return replacing( index, e );
+		}
+
+		@Override
+		public LongList concat( LongList other ) {
+			return concat( other instanceof LongEVolutionList
+				? (LongEVolutionList) other
+				: EMPTY.of( toArray( other ), other.length() ) );
+		}
+
+		@Override
+		public void fill( int offset, long[] dest, int start, int length ) {
+			fill( offset, (Object) dest, start, length );
+		}
+
+		@Override
+		public void traverse( int start, LongTraversal traversal ) {
+			LongEVolutionList l = this;
+			int i = start;
+			while ( !l.isEmpty() ) {
+				final int len = l.segmentLength();
+				final long[] longs = (long[]) l.elems;
+				while ( i < len ) {
+					final int inc = traversal.incrementOn( longs[l.first + i] );
+					if ( inc < 0 ) {
+						return;
+					}
+					i += inc;
+				}
+				i -= len;
+				l = l.tail;
+			}
+		}
+
+		@Override
+		public List<Long> boxed() {
+			return new BoxedList<Long, LongEVolutionList>( this );
+		}
+
+		@Override
+		LongEVolutionList list( Evolution evolution, int length, Object elems, int capacity,
+				int first, AtomicInteger occupied, int generationSize, LongEVolutionList tail ) {
+			return new LongEVolutionList( evolution, length, elems, capacity, first, occupied,
+					generationSize, tail );
+		}
+
+		@Override
+		LongEVolutionList empty() {
+			return EMPTY;
+		}
+
+		@Override
+		Object newArray( int length ) {
+			return new long[length];
+		}
+
+		@Override
+		void store( Object elems, int index, long bits ) {
+			( (long[]) elems )[index] = bits;
+		}
+
+		@Override
+		Object box( Object elems, int index ) {
+			return Long.valueOf( ( (long[]) elems )[index] );
+		}
+
+		@Override
+		long bitsOf( Object e ) {
+			return ( (Long) e ).longValue();
+		}
+
+		private static long[] toArray( LongList list ) {
+			long[] elems = new long[list.length()];
+			list.fill( 0, elems, 0, elems.length );
+			return elems;
+		}
+	}
+
+	static final class DoubleEVolutionList
+			extends PrimitiveEVolutionList<DoubleEVolutionList>
+			implements DoubleList {
+
+		static final DoubleEVolutionList EMPTY = new DoubleEVolutionList( Evolution.DOMINANT, 0,
+				new double[0], 0, 0, new AtomicInteger( 0 ), 0, null );
+
+		DoubleEVolutionList( Evolution evolution, int length, Object elems, int capacity,
+				int first, AtomicInteger occupied, int generationSize, DoubleEVolutionList tail ) {
+			super( evolution, length, elems, capacity, first, occupied, generationSize, tail );
+		}
+
+		@Override
+		public double at( int index ) {
+			final DoubleEVolutionList segment = segmentAt( index );
+			return ( (double[]) segment.elems )[cellAt( segment, index )];
+		}
+
+		@Override
+		public DoubleList prepand( double e ) {
+			return prepanding( Double.doubleToRawLongBits( e ) );
+		}
+
+		@Override
+		public DoubleList append( double e ) {
+			return inserting( length, Double.doubleToRawLongBits( e ) );
+		}
+
+		@Override
+		public DoubleList insertAt( int index, double e ) {
+			return inserting( index, Double.doubleToRawLongBits( e ) );
+		}
+
+		@Override
+		public DoubleList replaceAt( int index, double e ) {
+			return replacing( index, Double.doubleToRawLongBits( e ) );
+		}
+
+		@Override
+		public DoubleList concat( DoubleList other ) {
+			return concat( other instanceof DoubleEVolutionList
+				? (DoubleEVolutionList) other
+				: EMPTY.of( toArray( other ), other.length() ) );
+		}
+
+		@Override
+		public void fill( int offset, double[] dest, int start, int length ) {
+			fill( offset, (Object) dest, start, length );
+		}
+
+		@Override
+		public void traverse( int start, DoubleTraversal traversal ) {
+			DoubleEVolutionList l = this;
+			int i = start;
+			while ( !l.isEmpty() ) {
+				final int len = l.segmentLength();
+				final double[] doubles = (double[]) l.elems;
+				while ( i < len ) {
+					final int inc = traversal.incrementOn( doubles[l.first + i] );
+					if ( inc < 0 ) {
+						return;
+					}
+					i += inc;
+				}
+				i -= len;
+				l = l.tail;
+			}
+		}
+
+		@Override
+		public List<Double> boxed() {
+			return new BoxedList<Double, DoubleEVolutionList>( this );
+		}
+
+		@Override
+		DoubleEVolutionList list( Evolution evolution, int length, Object elems, int capacity,
+				int first, AtomicInteger occupied, int generationSize, DoubleEVolutionList tail ) {
+			return new DoubleEVolutionList( evolution, length, elems, capacity, first, occupied,
+					generationSize, tail );
+		}
+
+		@Override
+		DoubleEVolutionList empty() {
+			return EMPTY;
+		}
+
+		@Override
+		Object newArray( int length ) {
+			return new double[length];
+		}
+
+		@Override
+		void store( Object elems, int index, long bits ) {
+			( (double[]) elems )[index] = Double.longBitsToDouble( bits );
+		}
+
+		@Override
+		Object box( Object elems, int index ) {
+			return Double.valueOf( ( (double[]) elems )[index] );
+		}
+
+		@Override
+		long bitsOf( Object e ) {
+			return Double.doubleToRawLongBits( ( (Double) e ).doubleValue() );
+		}
+
+		private static double[] toArray( DoubleList list ) {
+			double[] elems = new double[list.length()];
+			list.fill( 0, elems, 0, elems.length );
+			return elems;
+		}
+	}
+
+	/**
+	 * A {@link List} view on a primitive list. The elements stay unboxed and are boxed on access.
+	 * All modifications are done on the primitive list so the result is a view again.
+	 */
+	static final class BoxedList<E, L extends PrimitiveEVolutionList<L>>
+			implements List<E> {
+
+		final L list;
+
+		BoxedList( L list ) {
+			super();
+			this.list = list;
+		}
+
+		@Override
+		public List<E> prepand( E e ) {
+			return boxed( list.prepanding( bitsOf( e ) ) );
+		}
+
+		@Override
+		public List<E> append( E e ) {
+			return boxed( list.inserting( list.length, bitsOf( e ) ) );
+		}
+
+		@Override
+		public List<E> insertAt( int index, E e ) {
+			return boxed( list.inserting( index, bitsOf( e ) ) );
+		}
+
+		@Override
+		public List<E> replaceAt( int index, E e ) {
+			return boxed( list.replacing( index, bitsOf( e ) ) );
+		}
+
+		@Override
+		public List<E> deleteAt( int index ) {
+			return boxed( list.deleteAt( index ) );
+		}
+
+		@Override
+		public List<E> take( int count ) {
+			return boxed( list.take( count ) );
+		}
+
+		@Override
+		public List<E> drop( int count ) {
+			return boxed( list.drop( count ) );
+		}
+
+		@Override
+		public List<E> tidyUp() {
+			return boxed( list.tidyUp() );
+		}
+
+		@Override
+		public List<E> subsequent() {
+			return boxed( list.subsequent() );
+		}
+
+		@Override
+		public List<E> concat( List<E> other ) {
+			if ( other instanceof BoxedList<?, ?> ) {
+				BoxedList<?, ?> boxed = (BoxedList<?, ?>) other;
+				if ( boxed.list.getClass() == list.getClass() ) {
+					@SuppressWarnings ( "unchecked" )
+					L otherList = (L) boxed.list;
+					return boxed( list.concat( otherList ) );
+				}
+			}
+			return List.with.elements( this ).concat( other );
+		}
+
+		@Override
+		@SuppressWarnings ( "unchecked" )
+		public E at( int index ) {
+			final L segment = list.segmentAt( index );
+			return (E) list.box( segment.elems, list.cellAt( segment, index ) );
+		}
+
+		@Override
+		public int length() {
+			return list.length;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return list.isEmpty();
+		}
+
+		@Override
+		public void fill( int offset, Object[] dest, int start, int length ) {
+			for ( int i = 0; i < length; i++ ) {
+				dest[offset + i] = at( start + i );
+			}
+		}
+
+		@Override
+		public void traverse( int start, Traversal<? super E> traversal ) {
+			list.traverseBoxed( start, traversal );
+		}
+
+		@Override
+		public String toString() {
+			return list.toString();
+		}
+
+		private long bitsOf( E e ) {
+			Nonnull.element( e );
+			return list.bitsOf( e );
+		}
+
+		private List<E> boxed( L l ) {
+			return l == list
+				? this
+				: new BoxedList<E, L>( l );
+		}
+	}
+
+	private static final class IntsLister
+			implements IntList.IntLister {
+
+		IntsLister() {
+			// make visible
+		}
+
+		@Override
+		public IntList noElements() {
+			return IntEVolutionList.EMPTY;
+		}
+
+		@Override
+		public IntList element( int e ) {
+			return IntEVolutionList.EMPTY.prepand( e );
+		}
+
+		@Override
+		public IntList elements( int... elems ) {
+			return IntEVolutionList.EMPTY.of( elems, elems.length );
+		}
+	}
+
+	private static final class LongsLister
+			implements LongList.LongLister {
+
+		LongsLister() {
+			// make visible
+		}
+
+		@Override
+		public LongList noElements() {
+			return LongEVolutionList.EMPTY;
+		}
+
+		@Override
+		public LongList element( long e ) {
+			return LongEVolutionList.EMPTY.prepand( e );
+		}
+
+		@Override
+		public LongList elements( long... elems ) {
+			return LongEVolutionList.EMPTY.of( elems, elems.length );
+		}
+	}
+
+	private static final class DoublesLister
+			implements DoubleList.DoubleLister {
+
+		DoublesLister() {
+			// make visible
+		}
+
+		@Override
+		public DoubleList noElements() {
+			return DoubleEVolutionList.EMPTY;
+		}
+
+		@Override
+		public DoubleList element( double e ) {
+			return DoubleEVolutionList.EMPTY.prepand( e );
+		}
+
+		@Override
+		public DoubleList elements( double... elems ) {
+			return DoubleEVolutionList.EMPTY.of( elems, elems.length );
+		}
+	}
+}
@@ -0,0 +1,645 @@
+package de.jbee.lang.seq;
+
+import static java.lang.Math.min;
+
+import java.io.Serializable;
+
+import de.jbee.lang.Arrayable;
+import de.jbee.lang.List;
+import de.jbee.lang.SegmentTraversable;
+import de.jbee.lang.SegmentTraversal;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Traversal;
+import de.jbee.lang.dev.Footprint;
+import de.jbee.lang.dev.Nonnull;
+
+/**
+ * A relaxed radix balanced tree (RRB-tree) of up to 32 children per node. The elements are stored
+ * in leaf arrays of up to 32 elements. Each branch has a table of the accumulated sizes of its
+ * children. Thereby nodes don't have to be full (relaxed). A index is found by the radix (5 bits
+ * per level) as a first guess that is corrected by the size table.
+ *
+ * <p>
+ * {@link #at(int)} and {@link #replaceAt(int, Object)} are O(log32(n)). Inserts and deletes at any
+ * index split or merge nodes just along the path to the leaf. {@link #concat(List)} joins the
+ * trees at the lower ones height. {@link #take(int)} and {@link #drop(int)} cut along the path to
+ * the index. All of them are O(log(n)).
+ * </p>
+ * <p>
+ * The {@link de.jbee.lang.Segment}s of this list are its leafs.
+ * </p>
+ *
+ * @see Sequences#setUp(List.Lister)
+ */
+final class RRBTreeList<E>
+		implements List<E>, SegmentTraversable<E>, Footprint.Measurable {
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+
+	private static final int STOP = -1;
+
+	private static final RRBTreeList<Object> EMPTY = new RRBTreeList<Object>( new Object[0], 0 );
+
+	@SuppressWarnings ( "unchecked" )
+	static <E> RRBTreeList<E> empty() {
+		return (RRBTreeList<E>) EMPTY;
+	}
+
+	/**
+	 * @return A tree with all the leafs filled up (except the last one).
+	 */
+	static <E> RRBTreeList<E> of( Object[] elems, int start, int length ) {
+		if ( length == 0 ) {
+			return empty();
+		}
+		Object[] nodes = new Object[( length + WIDTH - 1 ) / WIDTH];
+		for ( int i = 0; i < nodes.length; i++ ) {
+			final int from = i * WIDTH;
+			Object[] leaf = new Object[min( WIDTH, length - from )];
+			System.arraycopy( elems, start + from, leaf, 0, leaf.length );
+			nodes[i] = leaf;
+		}
+		int height = 0;
+		while ( nodes.length > 1 ) {
+			height++;
+			Object[] parents = new Object[( nodes.length + WIDTH - 1 ) / WIDTH];
+			for ( int i = 0; i < parents.length; i++ ) {
+				final int from = i * WIDTH;
+				Object[] children = new Object[min( WIDTH, nodes.length - from )];
+				System.arraycopy( nodes, from, children, 0, children.length );
+				parents[i] = branch( children, height );
+			}
+			nodes = parents;
+		}
+		return new RRBTreeList<E>( nodes[0], height );
+	}
+
+	static <E> RRBTreeList<E> of( Sequence<E> elems ) {
+		if ( elems instanceof RRBTreeList<?> ) {
+			return (RRBTreeList<E>) elems;
+		}
+		final int length = elems.length();
+		Object[] copy = new Object[length];
+		if ( elems instanceof Arrayable ) {
+			( (Arrayable) elems ).fill( 0, copy, 0, length );
+		} else {
+			for ( int i = 0; i < length; i++ ) {
+				copy[i] = elems.at( i );
+			}
+		}
+		return of( copy, 0, length );
+	}
+
+	private final Object root;
+	private final int height;
+	private final int length;
+
+	private RRBTreeList( Object root, int height ) {
+		super();
+		this.root = root;
+		this.height = height;
+		this.length = sizeOf( root, height );
+	}
+
+	@Override
+	@SuppressWarnings ( "unchecked" )
+	public E at( int index ) {
+		checkBounds( index );
+		Object node = root;
+		int i = index;
+		for ( int h = height; h > 0; h-- ) {
+			Branch b = (Branch) node;
+			final int slot = b.slotOf( i, h );
+			i -= b.sizeBefore( slot );
+			node = b.children[slot];
+		}
+		return (E) ( (Object[]) node )[i];
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public void measure( Footprint.Meter meter ) {
+		if ( length > 0 ) {
+			measure( root, height, meter );
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	@Override
+	public List<E> prepand( E e ) {
+		return insertAt( 0, e );
+	}
+
+	@Override
+	public List<E> append( E e ) {
+		return insertAt( length, e );
+	}
+
+	@Override
+	public List<E> insertAt( int index, E e ) {
+		Nonnull.element( e );
+		if ( index < 0 || index > length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+		return grown( insert( root, height, index, e ) );
+	}
+
+	@Override
+	public List<E> replaceAt( int index, E e ) {
+		Nonnull.element( e );
+		checkBounds( index );
+		return new RRBTreeList<E>( replace( root, height, index, e ), height );
+	}
+
+	@Override
+	public List<E> deleteAt( int index ) {
+		if ( index < 0 ) {
+			return this;
+		}
+		checkBounds( index );
+		return shrunk( delete( root, height, index ) );
+	}
+
+	@Override
+	public List<E> take( int count ) {
+		if ( count >= length ) {
+			return this;
+		}
+		return count <= 0
+			? RRBTreeList.<E> empty()
+			: shrunk( take( root, height, count ) );
+	}
+
+	@Override
+	public List<E> drop( int count ) {
+		if ( count <= 0 ) {
+			return this;
+		}
+		return count >= length
+			? RRBTreeList.<E> empty()
+			: shrunk( drop( root, height, count ) );
+	}
+
+	@Override
+	public List<E> concat( List<E> other ) {
+		if ( other.isEmpty() ) {
+			return this;
+		}
+		if ( isEmpty() ) {
+			return other;
+		}
+		RRBTreeList<E> tree = of( other );
+		final Object[] joined = join( root, height, tree.root, tree.height );
+		return grown( joined, Math.max( height, tree.height ) );
+	}
+
+	@Override
+	public List<E> subsequent() {
+		return drop( firstLeaf().length );
+	}
+
+	@Override
+	public List<E> tidyUp() {
+		return this; // leafs and branches never refer to elements that are not members
+	}
+
+	@Override
+	public void fill( int offset, Object[] dest, int start, int length ) {
+		fill( root, height, start, dest, offset, length );
+	}
+
+	@Override
+	public void traverse( int start, Traversal<? super E> traversal ) {
+		traverse( root, height, start, traversal );
+	}
+
+	@Override
+	public void traverse( int start, SegmentTraversal<? super E> traversal ) {
+		traverse( root, height, start, traversal );
+	}
+
+	/**
+	 * @return The {@link SerializedList} written instead of the tree.
+	 */
+	Object writeReplace() {
+		return new SerializedList( this );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder();
+		for ( int i = 0; i < length; i++ ) {
+			b.append( ',' );
+			b.append( String.valueOf( at( i ) ) );
+		}
+		return length == 0
+			? "[]"
+			: "[" + b.substring( 1 ) + "]";
+	}
+
+	private void checkBounds( int index ) {
+		if ( index < 0 || index >= length ) {
+			throw new IndexOutOfBoundsException( "No such element: " + index );
+		}
+	}
+
+	private Object[] firstLeaf() {
+		Object node = root;
+		for ( int h = height; h > 0; h-- ) {
+			node = ( (Branch) node ).children[0];
+		}
+		return (Object[]) node;
+	}
+
+	private RRBTreeList<E> grown( Object[] nodes ) {
+		return grown( nodes, height );
+	}
+
+	/**
+	 * @return A tree of the 1 or 2 <code>nodes</code> given. 2 nodes get a new root.
+	 */
+	private static <E> RRBTreeList<E> grown( Object[] nodes, int height ) {
+		return nodes.length == 1
+			? new RRBTreeList<E>( nodes[0], height )
+			: new RRBTreeList<E>( branch( nodes, height + 1 ), height + 1 );
+	}
+
+	/**
+	 * @return A tree of the <code>node</code> given. Roots with just one child are removed.
+	 */
+	private RRBTreeList<E> shrunk( Object node ) {
+		if ( node == null ) {
+			return empty();
+		}
+		Object root = node;
+		int h = height;
+		while ( h > 0 && ( (Branch) root ).children.length == 1 ) {
+			root = ( (Branch) root ).children[0];
+			h--;
+		}
+		return new RRBTreeList<E>( root, h );
+	}
+
+	static Branch branch( Object[] children, int height ) {
+		int[] sizes = new int[children.length];
+		int size = 0;
+		for ( int i = 0; i < children.length; i++ ) {
+			size += sizeOf( children[i], height - 1 );
+			sizes[i] = size;
+		}
+		return new Branch( children, sizes );
+	}
+
+	static int sizeOf( Object node, int height ) {
+		return height == 0
+			? ( (Object[]) node ).length
+			: ( (Branch) node ).size();
+	}
+
+	private static void measure( Object node, int height, Footprint.Meter meter ) {
+		if ( height == 0 ) {
+			final Object[] leaf = (Object[]) node;
+			meter.segment( leaf, 0, leaf.length );
+			return;
+		}
+		final Branch b = (Branch) node;
+		meter.node( 2 * b.children.length ); // children and sizes
+		for ( Object child : b.children ) {
+			measure( child, height - 1, meter );
+		}
+	}
+
+	/**
+	 * @return 1 or 2 nodes (in case of a split) of the same height as the <code>node</code> given.
+	 */
+	private static Object[] insert( Object node, int height, int index, Object e ) {
+		if ( height == 0 ) {
+			return split( inserted( (Object[]) node, index, e ), 0 );
+		}
+		Branch b = (Branch) node;
+		final int slot = index == b.size()
+			? b.children.length - 1
+			: b.slotOf( index, height );
+		Object[] inserted = insert( b.children[slot], height - 1, index - b.sizeBefore( slot ), e );
+		return split( replaced( b.children, slot, inserted ), height );
+	}
+
+	private static Object replace( Object node, int height, int index, Object e ) {
+		if ( height == 0 ) {
+			Object[] leaf = ( (Object[]) node ).clone();
+			leaf[index] = e;
+			return leaf;
+		}
+		Branch b = (Branch) node;
+		final int slot = b.slotOf( index, height );
+		Object[] children = b.children.clone();
+		children[slot] = replace( children[slot], height - 1, index - b.sizeBefore( slot ), e );
+		return new Branch( children, b.sizes );
+	}
+
+	/**
+	 * @return The node without the element at <code>index</code> or <code>null</code> if it was
+	 *         the last element of the node.
+	 */
+	private static Object delete( Object node, int height, int index ) {
+		if ( height == 0 ) {
+			Object[] leaf = (Object[]) node;
+			return leaf.length == 1
+				? null
+				: removed( leaf, index, 1 );
+		}
+		Branch b = (Branch) node;
+		final int slot = b.slotOf( index, height );
+		Object deleted = delete( b.children[slot], height - 1, index - b.sizeBefore( slot ) );
+		if ( deleted != null ) {
+			Object[] children = b.children.clone();
+			children[slot] = deleted;
+			return branch( children, height );
+		}
+		return b.children.length == 1
+			? null
+			: branch( removed( b.children, slot, 1 ), height );
+	}
+
+	private static Object take( Object node, int height, int count ) {
+		if ( height == 0 ) {
+			Object[] leaf = new Object[count];
+			System.arraycopy( node, 0, leaf, 0, count );
+			return leaf;
+		}
+		Branch b = (Branch) node;
+		final int slot = b.slotOf( count - 1, height );
+		Object[] children = new Object[slot + 1];
+		System.arraycopy( b.children, 0, children, 0, slot );
+		children[slot] = take( b.children[slot], height - 1, count - b.sizeBefore( slot ) );
+		return branch( children, height );
+	}
+
+	private static Object drop( Object node, int height, int count ) {
+		if ( height == 0 ) {
+			Object[] leaf = (Object[]) node;
+			return removed( leaf, 0, count );
+		}
+		Branch b = (Branch) node;
+		final int slot = b.slotOf( count, height );
+		Object[] children = removed( b.children, 0, slot );
+		children[0] = drop( children[0], height - 1, count - b.sizeBefore( slot ) );
+		return branch( children, height );
+	}
+
+	/**
+	 * Joins the right spine of <code>left</code> with the left spine of <code>right</code> at
+	 * the height of the lower tree.
+	 *
+	 * @return 1 or 2 nodes (in case of a split) of the height of the higher tree.
+	 */
+	private static Object[] join( Object left, int leftHeight, Object right, int rightHeight ) {
+		if ( leftHeight == rightHeight ) {
+			if ( leftHeight == 0 ) {
+				Object[] leftLeaf = (Object[]) left;
+				Object[] rightLeaf = (Object[]) right;
+				return leftLeaf.length + rightLeaf.length <= WIDTH
+					? new Object[] { inserted( leftLeaf, leftLeaf.length, rightLeaf ) }
+					: new Object[] { left, right };
+			}
+			Branch l = (Branch) left;
+			Branch r = (Branch) right;
+			final int last = l.children.length - 1;
+			Object[] seam = join( l.children[last], leftHeight - 1, r.children[0], rightHeight - 1 );
+			Object[] children = inserted( replaced( l.children, last, seam ), last + seam.length,
+					removed( r.children, 0, 1 ) );
+			return split( children, leftHeight );
+		}
+		if ( leftHeight > rightHeight ) {
+			Branch l = (Branch) left;
+			final int last = l.children.length - 1;
+			Object[] joined = join( l.children[last], leftHeight - 1, right, rightHeight );
+			return split( replaced( l.children, last, joined ), leftHeight );
+		}
+		Branch r = (Branch) right;
+		Object[] joined = join( left, leftHeight, r.children[0], rightHeight - 1 );
+		return split( replaced( r.children, 0, joined ), rightHeight );
+	}
+
+	/**
+	 * @return 1 node having all the <code>elems</code> given as children or 2 nodes each having
+	 *         half of them in case there are more than fit into one node.
+	 */
+	private static Object[] split( Object[] elems, int height ) {
+		if ( elems.length <= WIDTH ) {
+			return new Object[] { node( elems, height ) };
+		}
+		final int half = elems.length / 2;
+		Object[] left = new Object[half];
+		Object[] right = new Object[elems.length - half];
+		System.arraycopy( elems, 0, left, 0, half );
+		System.arraycopy( elems, half, right, 0, right.length );
+		return new Object[] { node( left, height ), node( right, height ) };
+	}
+
+	private static Object node( Object[] elems, int height ) {
+		return height == 0
+			? elems
+			: branch( elems, height );
+	}
+
+	private static Object[] inserted( Object[] elems, int index, Object... inserted ) {
+		Object[] res = new Object[elems.length + inserted.length];
+		System.arraycopy( elems, 0, res, 0, index );
+		System.arraycopy( inserted, 0, res, index, inserted.length );
+		System.arraycopy( elems, index, res, index + inserted.length, elems.length - index );
+		return res;
+	}
+
+	private static Object[] removed( Object[] elems, int index, int count ) {
+		Object[] res = new Object[elems.length - count];
+		System.arraycopy( elems, 0, res, 0, index );
+		System.arraycopy( elems, index + count, res, index, res.length - index );
+		return res;
+	}
+
+	/**
+	 * @return The <code>elems</code> with the one at <code>index</code> replaced by the
+	 *         <code>replacements</code>.
+	 */
+	private static Object[] replaced( Object[] elems, int index, Object[] replacements ) {
+		return inserted( removed( elems, index, 1 ), index, replacements );
+	}
+
+	/**
+	 * @return The count of elements filled into <code>dest</code>
+	 */
+	private static int fill( Object node, int height, int start, Object[] dest, int offset,
+			int length ) {
+		if ( height == 0 ) {
+			Object[] leaf = (Object[]) node;
+			final int filled = min( length, leaf.length - start );
+			System.arraycopy( leaf, start, dest, offset, filled );
+			return filled;
+		}
+		Branch b = (Branch) node;
+		int s = start;
+		int filled = 0;
+		for ( int i = 0; i < b.children.length && filled < length; i++ ) {
+			final int size = sizeOf( b.children[i], height - 1 );
+			if ( s >= size ) {
+				s -= size;
+			} else {
+				filled += fill( b.children[i], height - 1, s, dest, offset + filled, length
+						- filled );
+				s = 0;
+			}
+		}
+		return filled;
+	}
+
+	/**
+	 * @return The count of elements to skip in the next node or {@link #STOP}.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static int traverse( Object node, int height, int skip, Traversal<?> traversal ) {
+		if ( height == 0 ) {
+			final Traversal<Object> t = (Traversal<Object>) traversal;
+			Object[] leaf = (Object[]) node;
+			int i = skip;
+			while ( i < leaf.length ) {
+				final int inc = t.incrementOn( leaf[i] );
+				if ( inc < 0 ) {
+					return STOP;
+				}
+				i += inc;
+			}
+			return i - leaf.length;
+		}
+		int s = skip;
+		for ( Object child : ( (Branch) node ).children ) {
+			final int size = sizeOf( child, height - 1 );
+			if ( s >= size ) {
+				s -= size;
+			} else {
+				s = traverse( child, height - 1, s, traversal );
+				if ( s == STOP ) {
+					return STOP;
+				}
+			}
+		}
+		return s;
+	}
+
+	/**
+	 * @return The count of elements to skip in the next node or {@link #STOP}.
+	 */
+	private static int traverse( Object node, int height, int skip,
+			SegmentTraversal<?> traversal ) {
+		if ( height == 0 ) {
+			Object[] leaf = (Object[]) node;
+			int i = skip;
+			while ( i < leaf.length ) {
+				final int inc = traversal.incrementOn( leaf, i, leaf.length );
+				if ( inc < 0 ) {
+					return STOP;
+				}
+				i += inc;
+			}
+			return i - leaf.length;
+		}
+		int s = skip;
+		for ( Object child : ( (Branch) node ).children ) {
+			final int size = sizeOf( child, height - 1 );
+			if ( s >= size ) {
+				s -= size;
+			} else {
+				s = traverse( child, height - 1, s, traversal );
+				if ( s == STOP ) {
+					return STOP;
+				}
+			}
+		}
+		return s;
+	}
+
+	static final class Branch
+			implements Serializable {
+
+		final Object[] children;
+
+		/**
+		 * The accumulated sizes of the children: The size of all children up to and including
+		 * the one at the same index.
+		 */
+		final int[] sizes;
+
+		Branch( Object[] children, int[] sizes ) {
+			super();
+			this.children = children;
+			this.sizes = sizes;
+		}
+
+		int size() {
+			return sizes[sizes.length - 1];
+		}
+
+		int sizeBefore( int slot ) {
+			return slot == 0
+				? 0
+				: sizes[slot - 1];
+		}
+
+		/**
+		 * Each child of a node at the <code>height</code> given can have 32^height elements at
+		 * most. So the radix is the lowest slot the index can be found in.
+		 */
+		int slotOf( int index, int height ) {
+			final int shift = BITS * height;
+			int slot = shift >= Integer.SIZE
+				? 0
+				: min( index >>> shift, sizes.length - 1 );
+			while ( sizes[slot] <= index ) {
+				slot++;
+			}
+			return slot;
+		}
+	}
+
+	static final class RRBTreeLister
+			implements List.Lister {
+
+		RRBTreeLister() {
+			// make visible
+		}
+
+		@Override
+		public <E> List<E> element( E e ) {
+			Nonnull.element( e );
+			return of( new Object[] { e }, 0, 1 );
+		}
+
+		@Override
+		public <E> List<E> elements( E... elems ) {
+			for ( E e : elems ) {
+				Nonnull.element( e );
+			}
+			return of( elems, 0, elems.length );
+		}
+
+		@Override
+		public <E> List<E> elements( Sequence<E> elems ) {
+			return of( elems );
+		}
+
+		@Override
+		public <E> List<E> noElements() {
+			return empty();
+		}
+
+	}
+}
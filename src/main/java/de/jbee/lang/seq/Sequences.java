@@ -7,16 +7,21 @@ import static de.jbee.lang.Enumerate.LETTERS;
 import static de.jbee.lang.seq.EnumList.enumElement;
 import static de.jbee.lang.seq.EnumList.enumeration;
 
+import java.io.Serializable;
+
 import com.sun.xml.internal.bind.v2.runtime.reflect.Lister;
 
 import de.jbee.lang.Arrayable;
 import de.jbee.lang.Bag;
 import de.jbee.lang.Calculate;
+import de.jbee.lang.DoubleList;
 import de.jbee.lang.Enum;
 import de.jbee.lang.Enumerate;
 import de.jbee.lang.Enumerator;
 import de.jbee.lang.EnumeratorFactory;
+import de.jbee.lang.IntList;
 import de.jbee.lang.List;
+import de.jbee.lang.LongList;
 import de.jbee.lang.Map;
 import de.jbee.lang.Segment;
 import de.jbee.lang.Sequence;
@@ -35,7 +40,14 @@ import de.jbee.lang.Set;
 public final class Sequences {
 
 	static final List.Lister LISTER = new DefaultLister();
-	static final EnumeratorFactory ENUMERATOR_FACTORY = EnumList.ENUMERATOR_FACTORY;
+
+	/**
+	 * A {@link List.Lister} creating {@link RRBTreeList}s. Use it with {@link #setUp(List.Lister)}.
+	 */
+	public static final List.Lister RRB_TREE_LISTER = new RRBTreeList.RRBTreeLister();
+	// just the nested classes: initializing a list class like RRBTreeList or EnumList initializes
+	// the List interface that refers back to constants of this class not yet set
+	static final EnumeratorFactory ENUMERATOR_FACTORY = new EnumList.EnumListEnumeratorFactory();
 	static final EnumeratorFactory LISTER_ENUMERATOR_FACTORY = new ListerEnumeratorFactory();
 
 	//TODO should be private
@@ -45,6 +57,10 @@ public final class Sequences {
 	private static final ProxyLister listProxy = new ProxyLister();
 	public static final UtileLister list = new UtileLister( listProxy );
 
+	public static final IntList.IntLister ints = PrimitiveEVolutionList.INTS;
+	public static final LongList.LongLister longs = PrimitiveEVolutionList.LONGS;
+	public static final DoubleList.DoubleLister doubles = PrimitiveEVolutionList.DOUBLES;
+
 	private static final ProxyEnumeratorFactory enumeratorProxy = new ProxyEnumeratorFactory(
 			Sequences.ENUMERATOR_FACTORY );
 	public static final Range.RangeTo enumerator = Range.factory( enumeratorProxy );
@@ -69,11 +85,24 @@ public final class Sequences {
 
 	/**
 	 * Change the list implementation used by changing the general list factory.
+	 * 
+	 * @see #RRB_TREE_LISTER
 	 */
-	static void setUp( List.Lister lister ) {
+	public static void setUp( List.Lister lister ) {
 		listProxy.factory = lister;
 	}
 
+	/**
+	 * Change the policy deciding when fragmented lists are compacted automatically by modifying
+	 * operations.
+	 * 
+	 * @see Compaction#NONE
+	 * @see Compaction#beyond(int)
+	 */
+	public static void setUp( Compaction compaction ) {
+		Compaction.policy = compaction;
+	}
+
 	@SuppressWarnings ( "unchecked" )
 	static <T> void setUp( Class<T> type, Enumerator<T> enumerator ) {
 		if ( type == Integer.class ) {
@@ -417,7 +446,7 @@ public final class Sequences {
 	}
 
 	private static final class Entry<V>
-			implements Map.Entry<V> {
+			implements Map.Entry<V>, Serializable {
 
 		private final Map.Key key;
 		private final V value;
@@ -464,7 +493,7 @@ public final class Sequences {
 	}
 
 	private static final class Key
-			implements Map.Key {
+			implements Map.Key, Serializable {
 
 		private final String path;
 
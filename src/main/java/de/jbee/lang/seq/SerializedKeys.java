@@ -0,0 +1,83 @@
+package de.jbee.lang.seq;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import de.jbee.lang.Map;
+
+/**
+ * The compact serialized form of the keys of sorted {@link Map.Entry}s shared by the serialized
+ * forms of lists and datasets. Each key is written as the length of the prefix shared with the
+ * path of the key before and the rest of its path. Sorted paths like
+ * <code>members:1.name</code>, <code>members:1.age</code> mostly share a long prefix. Lengths are
+ * written using 7 bits per byte, so small numbers take just one byte.
+ */
+public final class SerializedKeys {
+
+	private SerializedKeys() {
+		throw new UnsupportedOperationException( "util" );
+	}
+
+	/**
+	 * Writes the paths of the keys of the {@link Map.Entry}s within <code>entries</code> from
+	 * <code>start</code> (inclusive) to <code>end</code> (exclusive).
+	 */
+	public static void writeKeys( ObjectOutput out, Object[] entries, int start, int end )
+			throws IOException {
+		String previous = "";
+		for ( int i = start; i < end; i++ ) {
+			final String path = ( (Map.Entry<?>) entries[i] ).key().path();
+			final int max = Math.min( previous.length(), path.length() );
+			int common = 0;
+			while ( common < max && previous.charAt( common ) == path.charAt( common ) ) {
+				common++;
+			}
+			writeLength( out, common );
+			out.writeUTF( path.substring( common ) );
+			previous = path;
+		}
+	}
+
+	/**
+	 * @return The <code>length</code> paths written by
+	 *         {@link #writeKeys(ObjectOutput, Object[], int, int)}.
+	 */
+	public static String[] readKeys( ObjectInput in, int length )
+			throws IOException {
+		final String[] paths = new String[length];
+		String previous = "";
+		for ( int i = 0; i < length; i++ ) {
+			final int common = readLength( in );
+			previous = previous.substring( 0, common ).concat( in.readUTF() );
+			paths[i] = previous;
+		}
+		return paths;
+	}
+
+	/**
+	 * Writes a non-negative number using 7 bits per byte, so small numbers take just one byte.
+	 */
+	public static void writeLength( ObjectOutput out, int length )
+			throws IOException {
+		int value = length;
+		while ( ( value & ~0x7F ) != 0 ) {
+			out.writeByte( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		out.writeByte( value );
+	}
+
+	public static int readLength( ObjectInput in )
+			throws IOException {
+		int value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in.readUnsignedByte();
+			value |= ( b & 0x7F ) << shift;
+			shift += 7;
+		} while ( ( b & 0x80 ) != 0 );
+		return value;
+	}
+}
@@ -0,0 +1,257 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.IndexFor.insertionIndex;
+import static de.jbee.lang.seq.SerializedKeys.readKeys;
+import static de.jbee.lang.seq.SerializedKeys.readLength;
+import static de.jbee.lang.seq.SerializedKeys.writeKeys;
+import static de.jbee.lang.seq.SerializedKeys.writeLength;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import de.jbee.lang.Bag;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Multimap;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Order;
+import de.jbee.lang.Set;
+
+/**
+ * The serialized form written instead of a {@link List} (and so of {@link Bag}s, {@link Set}s,
+ * {@link Map}s and {@link Multimap}s). The default serialization would walk the chain of
+ * segments recursively and write all cells of the element arrays shared with other lists.
+ *
+ * <p>
+ * A list is written as its length followed by its elements. Ordered lists in addition write
+ * their kind and order. Entries having keys made by {@link Sequences#key(CharSequence)} are
+ * written as two columns: the {@link SerializedKeys} followed by the values. All lists are read
+ * back as a single tidy segment; hashed and {@link Bag#frozen()} lists are hashed or frozen again.
+ * </p>
+ * <p>
+ * The constants of {@link Order} and {@link Map.Entry#ORDER} are written by their number within
+ * {@link #ORDERS}. All other orders are written as objects. The orders composed by {@link Order}
+ * are serializable and read back composed of the constants; orders given by the user have to be
+ * serializable as well.
+ * </p>
+ */
+final class SerializedList
+		implements Externalizable {
+
+	private static final byte LIST = 0;
+	private static final byte BAG = 1;
+	private static final byte SET = 2;
+	private static final byte MAP = 3;
+	private static final byte MULTIMAP = 4;
+
+	private static final byte HASHED = 1;
+	private static final byte FROZEN = 2;
+
+	/**
+	 * The orders written by their index. New orders have to be appended to keep the numbers.
+	 */
+	private static final Ord<?>[] ORDERS = { Order.inherent, Order.keep, Order.reverse,
+			Order.quantifiable, Order.numerical, Order.abecedarian, Order.alphabetical,
+			Order.identity, Order.enumerative, Order.chronological, Order.calendrical,
+			Order.hashCode, Map.Entry.ORDER };
+
+	private static final Class<?> KEY = Sequences.key( "" ).getClass();
+
+	private byte kind;
+	private byte flags;
+	private Ord<Object> order;
+	private Ord<Object> valueOrder;
+	private List<Object> list;
+
+	public SerializedList() {
+		// make visible
+	}
+
+	SerializedList( List<?> list ) {
+		this( list, null, null );
+	}
+
+	/**
+	 * @param order The order of an ordered list or <code>null</code> for a plain list
+	 * @param valueOrder The order of the values of a {@link Multimap} or <code>null</code>
+	 */
+	@SuppressWarnings ( "unchecked" )
+	SerializedList( List<?> list, Ord<Object> order, Ord<Object> valueOrder ) {
+		super();
+		this.kind = kindOf( list );
+		this.list = (List<Object>) list;
+		this.valueOrder = valueOrder;
+		if ( list instanceof OrderedList<?, ?> ) {
+			final OrderedList<?, ?> ordered = (OrderedList<?, ?>) list;
+			if ( ordered.isHashed() ) {
+				flags = HASHED;
+				this.order = ( (HashTrie.HashOrder) order ).equalHashOrder();
+			} else {
+				flags = ordered.elems() instanceof FrozenList<?>
+					? FROZEN
+					: 0;
+				this.order = order;
+			}
+		}
+	}
+
+	private static byte kindOf( List<?> list ) {
+		if ( list instanceof Map<?> ) {
+			return MAP;
+		}
+		if ( list instanceof Multimap<?> ) {
+			return MULTIMAP;
+		}
+		if ( list instanceof Set<?> ) {
+			return SET;
+		}
+		return list instanceof Bag<?>
+			? BAG
+			: LIST;
+	}
+
+	@Override
+	public void writeExternal( ObjectOutput out )
+			throws IOException {
+		out.writeByte( kind );
+		if ( kind != LIST ) {
+			out.writeByte( flags );
+			writeOrder( out, order );
+			if ( kind == MULTIMAP ) {
+				writeOrder( out, valueOrder );
+			}
+		}
+		final int length = list.length();
+		final Object[] elems = new Object[length];
+		list.fill( 0, elems, 0, length );
+		writeLength( out, length );
+		final boolean keyed = ( kind == MAP || kind == MULTIMAP ) && isKeyed( elems );
+		out.writeBoolean( keyed );
+		if ( keyed ) {
+			writeKeys( out, elems, 0, length );
+			for ( int i = 0; i < length; i++ ) {
+				out.writeObject( ( (Map.Entry<?>) elems[i] ).value() );
+			}
+		} else {
+			for ( int i = 0; i < length; i++ ) {
+				out.writeObject( elems[i] );
+			}
+		}
+	}
+
+	@Override
+	public void readExternal( ObjectInput in )
+			throws IOException, ClassNotFoundException {
+		kind = in.readByte();
+		if ( kind != LIST ) {
+			flags = in.readByte();
+			order = readOrder( in );
+			if ( kind == MULTIMAP ) {
+				valueOrder = readOrder( in );
+			}
+		}
+		final int length = readLength( in );
+		final Object[] elems = new Object[length];
+		if ( in.readBoolean() ) {
+			final String[] paths = readKeys( in, length );
+			for ( int i = 0; i < length; i++ ) {
+				elems[i] = Sequences.entry( Sequences.key( paths[i] ), in.readObject() );
+			}
+		} else {
+			for ( int i = 0; i < length; i++ ) {
+				elems[i] = in.readObject();
+			}
+		}
+		list = listOf( elems );
+	}
+
+	/**
+	 * @return The list read.
+	 */
+	Object readResolve() {
+		return list;
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	private List<Object> listOf( Object[] elems )
+			throws InvalidObjectException {
+		final boolean hashed = ( flags & HASHED ) != 0;
+		final List<Object> tidy = hashed
+			? hashed( elems )
+			: List.with.elements( elems );
+		final Ord<Object> order = hashed
+			? ( (HashTrie<Object>) tidy ).order()
+			: this.order;
+		final List<Map.Entry<Object>> entries = (List<Map.Entry<Object>>) (List<?>) tidy;
+		List<?> res;
+		switch ( kind ) {
+		case LIST:
+			return tidy;
+		case BAG:
+			res = OrderedList.bagOf( tidy, order );
+			break;
+		case SET:
+			res = OrderedList.setOf( tidy, order );
+			break;
+		case MAP:
+			res = OrderedList.mapOf( entries, order );
+			break;
+		case MULTIMAP:
+			res = OrderedList.multimapOf( entries, order, valueOrder );
+			break;
+		default:
+			throw new InvalidObjectException( "Unknown kind of list: " + kind );
+		}
+		return (List<Object>) ( ( flags & FROZEN ) != 0
+			? ( (Bag<?>) res ).frozen()
+			: res );
+	}
+
+	/**
+	 * Hashed lists are build again since the elements are in the order of the hashes (which might
+	 * differ from those of the JVM that wrote them). Each element is inserted in front of the
+	 * equal ones, so they are inserted from the last to keep the order of equal elements in bags
+	 * and multimaps of hashed elements.
+	 */
+	private HashTrie<Object> hashed( Object[] elems ) {
+		HashTrie<Object> res = HashTrie.empty( order );
+		for ( int i = elems.length - 1; i >= 0; i-- ) {
+			res = (HashTrie<Object>) res.insertAt( insertionIndex( res.indexFor( elems[i] ) ),
+					elems[i] );
+		}
+		return res;
+	}
+
+	private static boolean isKeyed( Object[] elems ) {
+		for ( Object e : elems ) {
+			if ( !( e instanceof Map.Entry<?> ) || ( (Map.Entry<?>) e ).key().getClass() != KEY ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeOrder( ObjectOutput out, Ord<Object> order )
+			throws IOException {
+		for ( int i = 0; i < ORDERS.length; i++ ) {
+			if ( ORDERS[i] == order ) {
+				out.writeByte( i );
+				return;
+			}
+		}
+		out.writeByte( -1 );
+		out.writeObject( order );
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	private static Ord<Object> readOrder( ObjectInput in )
+			throws IOException, ClassNotFoundException {
+		final byte index = in.readByte();
+		return index < 0
+			? (Ord<Object>) in.readObject()
+			: (Ord<Object>) ORDERS[index];
+	}
+}
@@ -41,6 +41,11 @@ class UtileBagLister
 		return OrderedList.bagOf( refinedToBagConstraints( elems, order ), order );
 	}
 
+	@Override
+	public <E> Bag.BagBuilder<E> builder( Ord<Object> order ) {
+		return OrderedListBuilder.bagBuilder( order );
+	}
+
 	private <E> List<E> refinedToBagConstraints( List<E> elems, Ord<Object> order ) {
 		if ( elems.length() <= 1 ) {
 			return elems;
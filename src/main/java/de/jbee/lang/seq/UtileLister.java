@@ -1,9 +1,16 @@
 package de.jbee.lang.seq;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import de.jbee.lang.Array;
+import de.jbee.lang.Bag;
 import de.jbee.lang.Calculate;
+import de.jbee.lang.IndexAccess;
 import de.jbee.lang.List;
+import de.jbee.lang.Map;
 import de.jbee.lang.Sequence;
+import de.jbee.lang.Set;
 
 public class UtileLister
 		implements List.Lister {
@@ -37,6 +44,35 @@ public class UtileLister
 		return utilised.noElements();
 	}
 
+	/**
+	 * @return A new builder to append a (large) number of elements without creating a list for
+	 *         each of them.
+	 */
+	public <E> List.ListBuilder<E> builder() {
+		return new EVolutionListBuilder<E>();
+	}
+
+	/**
+	 * @return A sequential stream of the elements of the sequence given (without copying them).
+	 *         This can be any {@link List} (also {@link Bag}s, {@link Set}s and {@link Map}s) or
+	 *         other {@link Sequence} like <code>Dataset.Items</code>.
+	 * 
+	 * @see IndexAccess#spliterator(Sequence)
+	 */
+	public <E> Stream<E> stream( Sequence<E> seq ) {
+		return StreamSupport.stream( IndexAccess.spliterator( seq ), false );
+	}
+
+	/**
+	 * @return A parallel stream of the elements of the sequence given. {@link List}s are split
+	 *         along their segments.
+	 * 
+	 * @see #stream(Sequence)
+	 */
+	public <E> Stream<E> parallelStream( Sequence<E> seq ) {
+		return StreamSupport.stream( IndexAccess.spliterator( seq ), true );
+	}
+
 	public List<Character> charactersIn( CharSequence seq ) {
 		//TODO a StringList impl. that just wraps strings as a list
 		Character[] elems = new Character[seq.length()];
@@ -12,4 +12,15 @@ public class UtileMapLister
 		return OrderedList.mapOf( Set.with.<Map.Entry<E>> noElements( order ) );
 	}
 
+	@Override
+	public <E> Map.MapBuilder<E> builder( Ord<Object> order ) {
+		return OrderedListBuilder.mapBuilder( order );
+	}
+
+	@Override
+	public <E> Map<E> noHashedEntries() {
+		HashTrie<Map.Entry<E>> entries = HashTrie.empty( Map.Entry.ORDER );
+		return OrderedList.mapOf( entries, entries.order() );
+	}
+
 }
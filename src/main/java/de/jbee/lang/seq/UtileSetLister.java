@@ -45,6 +45,17 @@ public class UtileSetLister
 		return elements( order, List.with.<E> noElements() );
 	}
 
+	@Override
+	public <E> Set<E> noHashedElements( Ord<Object> order ) {
+		HashTrie<E> elems = HashTrie.empty( order );
+		return OrderedList.setOf( elems, elems.order() );
+	}
+
+	@Override
+	public <E> Set.SetBuilder<E> builder( Ord<Object> order ) {
+		return OrderedListBuilder.setBuilder( order );
+	}
+
 	private <E> List<E> refinedToSetConstraints( List<E> elems, Ord<Object> order ) {
 		if ( elems.length() <= 1 ) {
 			return elems;
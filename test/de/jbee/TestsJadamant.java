@@ -5,12 +5,15 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 import de.jbee.data.TestDataset;
+import de.jbee.data.TestPath;
 import de.jbee.lang.TestCalculate;
 import de.jbee.lang.TestOrder;
+import de.jbee.lang.TestTraverse;
 import de.jbee.lang.seq.TestsSequences;
 
 @RunWith ( Suite.class )
-@SuiteClasses ( { TestsSequences.class, TestDataset.class, TestOrder.class, TestCalculate.class } )
+@SuiteClasses ( { TestsSequences.class, TestDataset.class, TestPath.class, TestOrder.class,
+		TestCalculate.class, TestTraverse.class } )
 public class TestsJadamant {
 	// all tests for the the project
 }
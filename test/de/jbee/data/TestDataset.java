@@ -3,15 +3,20 @@ package de.jbee.data;
 import static de.jbee.data.Property.each;
 import static de.jbee.lang.seq.Sequences.key;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
 
+import de.jbee.data.Dataset.Items;
 import de.jbee.data.Dataset.Records;
 import de.jbee.data.Dataset.ValueProperty;
+import de.jbee.lang.ListIndex;
 import de.jbee.lang.Map;
+import de.jbee.lang.Order;
 import de.jbee.lang.Sequence;
+import de.jbee.lang.seq.TestSerializedList;
 
 public class TestDataset {
 
@@ -91,6 +96,7 @@ public class TestDataset {
 		Dataset<Deep> deep = obj.record( Deeper.deep );
 		assertThat( deep.length(), is( 5 ) );
 		assertThat( deep.value( Deep.percent ), is( 100f ) );
+		assertThat( deep.record( Deep.shallow ).value( Shallow.name ), is( "erni" ) );
 		Dataset<Shallow> shallow = deep.record( Deep.shallow );
 		assertThat( shallow.length(), is( 3 ) );
 		assertThat( shallow.value( Shallow.name ), is( "erni" ) );
@@ -115,14 +121,55 @@ public class TestDataset {
 		Dataset<Shallow> shallowItems = obj.record( ShallowItems.members );
 		assertThat( shallowItems.length(), is( 3 ) );
 		assertThat( shallowItems.value( Shallow.name ), is( "erni" ) );
-		Dataset<Shallow> second = shallowItems.items( each( Shallow.class ) ).at( 2 );
+		Dataset<Shallow> second = shallowItems.items( each( Shallow.class ) ).at( 1 );
 		assertThat( second.length(), is( 3 ) );
 		assertThat( second.value( Shallow.name ), is( "bert" ) );
-		Dataset<Shallow> third = shallowItems.items( each( Shallow.class ) ).at( 3 );
+		Dataset<Shallow> third = shallowItems.items( each( Shallow.class ) ).at( 2 );
 		assertThat( third.length(), is( 3 ) );
 		assertThat( third.value( Shallow.name ), is( "tiffi" ) );
 	}
 
+	@Test
+	public void itemsOfAListRecordCanBePaged() {
+		Map<Object> properties = Map.with.noEntries( Dataset.ORDER );
+		for ( int i = 1; i <= 25; i++ ) {
+			properties = properties.insert( key( "members:" + i + "." + Records.TYPE ), Shallow.class );
+			properties = properties.insert( key( "members:" + i + ".total" ), i );
+		}
+		properties = properties.insert( key( "other:1." + Records.TYPE ), Shallow.class );
+		Dataset<ShallowItems> obj = Datamap.dataset( properties );
+		Items<Shallow> items = obj.record( ShallowItems.members ).items( each( Shallow.class ) );
+		assertThat( items.length(), is( 25 ) );
+		Items<Shallow> page = items.drop( 10 ).take( 10 );
+		assertThat( page.length(), is( 10 ) );
+		assertThat( page.at( 0 ).value( Shallow.total ), is( 11 ) );
+		assertThat( page.at( 9 ).value( Shallow.total ), is( 20 ) );
+		assertThat( page.at( 10 ).isEmpty(), is( true ) );
+		assertThat( page.indexFor( key( "members:15" ) ), is( 4 ) );
+		assertThat( page.indexFor( key( "members:10" ) ), is( ListIndex.NOT_CONTAINED ) );
+		for ( int i = 0; i < page.length(); i++ ) {
+			assertThat( page.at( i ).value( Shallow.total ), is( 11 + i ) );
+		}
+		assertThat( items.drop( 20 ).take( 10 ).length(), is( 5 ) );
+		assertThat( items.range( Path.recordPath( "members:24" ), Path.ROOT ).length(), is( 2 ) );
+	}
+
+	@Test
+	public void datasetsCanBeBuiltFromPropertiesInOrder() {
+		Dataset<Deeper> obj = Datamap.<Deeper> builder().append( key( "deep." + Records.TYPE ),
+				Deep.class ).append( key( "deep.flat." + Records.TYPE ), Shallow.class ).append(
+				key( "deep.flat.name" ), "erni" ).append( key( "deep.flat.total" ), 2 ).append(
+				key( "deep.percent" ), 100f ).build();
+		Dataset<Deep> deep = obj.record( Deeper.deep );
+		assertThat( deep.length(), is( 5 ) );
+		assertThat( deep.value( Deep.percent ), is( 100f ) );
+		assertThat( deep.record( Deep.shallow ).value( Shallow.name ), is( "erni" ) );
+		assertThat( deep.record( Deep.shallow ).value( Shallow.name ), is( "erni" ) );
+		obj = Datamap.<Deeper> builder().append( key( "deep.percent" ), 50f ).append(
+				key( "deep." + Records.TYPE ), Deep.class ).build();
+		assertThat( obj.record( Deeper.deep ).value( Deep.percent ), is( 50f ) );
+	}
+
 	@Test
 	public void normalRecordsCanBeTreatedAsItemsHavingOneItem() {
 		Map<Object> properties = Map.with.noEntries( Dataset.ORDER );
@@ -136,4 +183,62 @@ public class TestDataset {
 		assertThat( shallow.value( Shallow.total ), is( 2 ) );
 		assertThat( shallow.value( Shallow.name ), is( "erni" ) );
 	}
+
+	@Test
+	public void itemsOfColumnsCanBeReadUsingDirectProperties() {
+		Dataset<ShallowItems> obj = Datamap.columns( Path.recordPath( "members" ), Shallow.class,
+				new Path[] { Path.recordPath( "total" ), Path.recordPath( "name" ) }, new Object[] {
+					new Object[] { 42, 23, 5, 1 }, new String[] { "erni", "bert", "tiffi", "samson" } } );
+		assertThat( obj.length(), is( 12 ) );
+		assertThat( ( (Records) obj ).order(), sameInstance( Order.keep ) );
+		Dataset<Shallow> shallowItems = obj.record( ShallowItems.members );
+		assertThat( shallowItems.length(), is( 3 ) );
+		assertThat( shallowItems.value( Shallow.name ), is( "erni" ) );
+		assertThat( shallowItems.value( Shallow.total ), is( 42 ) );
+		Items<Shallow> items = shallowItems.items( each( Shallow.class ) );
+		assertThat( items.length(), is( 4 ) );
+		Dataset<Shallow> second = items.at( 1 );
+		assertThat( second.length(), is( 3 ) );
+		assertThat( second.value( Shallow.name ), is( "bert" ) );
+		assertThat( items.at( 3 ).value( Shallow.total ), is( 1 ) );
+	}
+
+	@Test
+	public void itemsOfColumnsCanBePaged() {
+		Dataset<ShallowItems> obj = Datamap.columns( Path.recordPath( "members" ), Shallow.class,
+				new Path[] { Path.recordPath( "total" ) }, new Object[] { new int[] { 1, 2, 3, 4,
+					5 } } );
+		Items<Shallow> items = obj.record( ShallowItems.members ).items( each( Shallow.class ) );
+		Items<Shallow> page = items.drop( 1 ).take( 2 );
+		assertThat( page.length(), is( 2 ) );
+		assertThat( page.at( 0 ).value( Shallow.total ), is( 2 ) );
+		assertThat( page.at( 1 ).value( Shallow.total ), is( 3 ) );
+		assertThat( page.at( 2 ).isEmpty(), is( true ) );
+		assertThat( page.indexFor( key( "members:3" ) ), is( 1 ) );
+		assertThat( items.drop( 5 ).isEmpty(), is( true ) );
+		assertThat( items.range( Path.recordPath( "members:4" ), Path.ROOT ).length(), is( 2 ) );
+		assertThat( obj.record( ShallowItems.members ).value( Shallow.name ), is( "unnamed" ) );
+	}
+
+	@Test
+	public void datasetsCanBeSerialized() {
+		Dataset<Deeper> obj = Datamap.<Deeper> builder().append( key( "deep." + Records.TYPE ),
+				Deep.class ).append( key( "deep.flat." + Records.TYPE ), Shallow.class ).append(
+				key( "deep.flat.name" ), "erni" ).append( key( "deep.percent" ), 100f ).append(
+				key( "name" ), "bert" ).build();
+		Dataset<Deeper> copy = TestSerializedList.copyOf( obj );
+		assertThat( copy.length(), is( 5 ) );
+		assertThat( copy.record( Deeper.deep ).record( Deep.shallow ).value( Shallow.name ),
+				is( "erni" ) );
+		Dataset<Deep> deep = TestSerializedList.copyOf( obj.record( Deeper.deep ) );
+		assertThat( deep.length(), is( 4 ) );
+		assertThat( deep.value( Deep.percent ), is( 100f ) );
+		assertThat( deep.record( Deep.shallow ).value( Shallow.name ), is( "erni" ) );
+		Dataset<ShallowItems> columns = TestSerializedList.copyOf( Datamap.columns(
+				Path.recordPath( "members" ), Shallow.class, new Path[] { Path.recordPath( "total" ) },
+				new Object[] { new int[] { 1, 2, 3 } } ) );
+		Items<Shallow> items = columns.record( ShallowItems.members ).items( each( Shallow.class ) );
+		assertThat( items.at( 2 ).value( Shallow.total ), is( 3 ) );
+		assertThat( TestSerializedList.copyOf( Datamap.empty() ), sameInstance( Datamap.empty() ) );
+	}
 }
@@ -0,0 +1,71 @@
+package de.jbee.data;
+
+import static de.jbee.data.Path.itemPath;
+import static de.jbee.data.Path.recordPath;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import de.jbee.lang.Map;
+
+public class TestPath {
+
+	@Test
+	public void pathsAreInterned() {
+		Path members = recordPath( "members" );
+		assertThat( recordPath( "members.name" ), sameInstance( members.dot( recordPath( "name" ) ) ) );
+		assertThat( recordPath( "members:1.name" ), is( members.dot( itemPath( 1 ) ).dot(
+				recordPath( "name" ) ) ) );
+		assertThat( members.dot( recordPath( "1.name" ) ).path(), is( "members:1.name" ) );
+		assertThat( recordPath( "a.b.c" ).depth(), is( 3 ) );
+		assertThat( recordPath( "" ), sameInstance( Path.ROOT ) );
+	}
+
+	@Test
+	public void pathsBelowItemsAreEqualButNotInterned() {
+		Path name = recordPath( "members:1.name" );
+		Path same = recordPath( "members:1.name" );
+		assertThat( same, not( sameInstance( name ) ) );
+		assertThat( same, is( name ) );
+		assertThat( same.hashCode(), is( name.hashCode() ) );
+		assertThat( name.parent().parent(), sameInstance( same.parent().parent() ) );
+	}
+
+	@Test
+	public void itemIsTheItemPathWithinTheList() {
+		Path members = recordPath( "members" );
+		assertThat( members.item( 12 ), is( members.dot( itemPath( 12 ) ) ) );
+		assertThat( members.item( 12 ).path(), is( "members:12" ) );
+		assertThat( members.item( 12 ).endsWithItem(), is( true ) );
+		assertThat( members.item( 12 ).itemParent(), sameInstance( members ) );
+		assertThat( Path.ROOT.item( 3 ), is( itemPath( 3 ) ) );
+	}
+
+	@Test
+	public void parentOfAnItemIsTheRecordContainingTheList() {
+		Path name = recordPath( "members:1.name" );
+		assertThat( name.parent(), is( recordPath( "members:1" ) ) );
+		assertThat( name.parent().parent(), sameInstance( Path.ROOT ) );
+		assertThat( recordPath( "a.b:2" ).parent(), sameInstance( recordPath( "a" ) ) );
+		assertThat( Path.ROOT.parent(), sameInstance( Path.ROOT ) );
+	}
+
+	@Test
+	public void itemParentRemovesTheLastItemSegment() {
+		assertThat( recordPath( "members:1" ).endsWithItem(), is( true ) );
+		assertThat( recordPath( "members:1" ).itemParent(), sameInstance( recordPath( "members" ) ) );
+		assertThat( recordPath( "members:1.name" ).endsWithItem(), is( false ) );
+		assertThat( itemPath( 1 ).endsWithItem(), is( false ) );
+	}
+
+	@Test
+	public void lastIsSortedAfterAllChildren() {
+		Path a = recordPath( "a.b" );
+		assertThat( a.last().path(), is( "a.b." + Map.Key.PREFIX_TERMINATOR ) );
+		assertThat( a.last(), sameInstance( a.last() ) );
+		assertThat( Path.ROOT.last().path(), is( Map.Key.PREFIX_TERMINATOR ) );
+	}
+}
@@ -36,11 +36,100 @@ public class TestOrder {
 		assertThat( search( "deep.flat." + Map.Key.PREFIX_TERMINATOR, elems ), is( -5 ) );
 	}
 
+	@Test
+	public void testBinarySearch_FirstOfDuplicatesCase() {
+		Integer[] values = { 1, 2, 2, 2, 2, 2, 2, 2, 3 };
+		assertThat( search( 2, values ), is( 1 ) );
+		assertThat( Order.binarySearch( Array.sequence( values ), 4, 9, 2, Order.inherent ), is( 4 ) );
+	}
+
+	@Test
+	public void testLowerUpperBound_DuplicatesCase() {
+		Sequence<Integer> values = Array.sequence( new Integer[] { 1, 3, 3, 3, 5 } );
+		assertThat( Order.lowerBound( values, 0, 5, 3, Order.inherent ), is( 1 ) );
+		assertThat( Order.upperBound( values, 0, 5, 3, Order.inherent ), is( 4 ) );
+		assertThat( Order.lowerBound( values, 0, 5, 4, Order.inherent ), is( 4 ) );
+		assertThat( Order.upperBound( values, 0, 5, 4, Order.inherent ), is( 4 ) );
+		assertThat( Order.lowerBound( values, 0, 5, 0, Order.inherent ), is( 0 ) );
+		assertThat( Order.upperBound( values, 0, 5, 9, Order.inherent ), is( 5 ) );
+	}
+
+	@Test
+	public void testLowerUpperBound_RangeCase() {
+		Sequence<Integer> values = Array.sequence( new Integer[] { 1, 3, 3, 3, 5 } );
+		assertThat( Order.lowerBound( values, 2, 3, 3, Order.inherent ), is( 2 ) );
+		assertThat( Order.upperBound( values, 2, 3, 3, Order.inherent ), is( 3 ) );
+		assertThat( Order.lowerBound( values, -1, 10, 5, Order.inherent ), is( 4 ) );
+		assertThat( Order.upperBound( values, 3, 1, 3, Order.inherent ), is( 3 ) );
+	}
+
+	@Test
+	public void testLowerUpperBound_SegmentedListCase() {
+		List<String> l = List.with.noElements();
+		for ( int i = 200; i >= 0; i-- ) {
+			l = l.prepand( String.valueOf( (char) ( 'a' + i / 8 ) ) );
+			if ( i % 50 == 0 ) {
+				l = List.with.element( l.at( 0 ) ).concat( l );
+			}
+		}
+		Ord<Object> order = Order.typeaware( Order.alphabetical, String.class );
+		for ( char c = 'a' - 1; c <= 'a' + 26; c++ ) {
+			String key = String.valueOf( c );
+			int lower = 0;
+			while ( lower < l.length() && order.ord( l.at( lower ), key ).isLt() ) {
+				lower++;
+			}
+			int upper = lower;
+			while ( upper < l.length() && order.ord( l.at( upper ), key ).isEq() ) {
+				upper++;
+			}
+			assertThat( Order.lowerBound( l, 0, l.length(), key, order ), is( lower ) );
+			assertThat( Order.upperBound( l, 0, l.length(), key, order ), is( upper ) );
+			assertThat( Order.lowerBound( l, 30, 170, key, order ), is( Math.min( 170, Math.max(
+					30, lower ) ) ) );
+		}
+	}
+
 	@Test
 	public void testInherentOrder_AscendingNumbersCase() {
 		assertThat( Order.inherent.ord( 1, 2 ), is( Ordering.LT ) );
 	}
 
+	@Test
+	public void testCompare_SameAsOrd() {
+		Object[] values = { null, 1, -7, Integer.MIN_VALUE, Integer.MAX_VALUE, 2L, Long.MIN_VALUE,
+			1.5d, "a", "ab", "b", "", 'x', 'a', Ordering.GT, Ordering.LT };
+		Ord<Object> sub = Order.sub2( Order.typeaware( Order.numerical, Number.class ),
+				Order.typeaware( Order.alphabetical, String.class ) );
+		assertSameAsOrd( values, Order.inherent );
+		assertSameAsOrd( values, Order.inverse( Order.inherent ) );
+		assertSameAsOrd( values, Order.nullsLast( sub ) );
+		assertSameAsOrd( values, Order.nullsave( Order.hashCode ) );
+	}
+
+	@Test
+	public void testCompare_IntegerOverflowCase() {
+		assertThat( Order.numerical.ord( Integer.MIN_VALUE, 1 ), is( Ordering.LT ) );
+		assertThat( Order.numerical.ord( Long.MAX_VALUE, -1L ), is( Ordering.GT ) );
+		assertThat( Order.compare( Order.numerical, Integer.MAX_VALUE, -1 ) > 0, is( true ) );
+	}
+
+	@Test
+	public void testCompare_InverseOrderCase() {
+		assertThat( Order.inverse( Order.numerical ).ord( 1, 2 ), is( Ordering.GT ) );
+		assertThat( Order.compare( Order.inverse( Order.numerical ), 1, 2 ) > 0, is( true ) );
+	}
+
+	private static void assertSameAsOrd( Object[] values, Ord<Object> order ) {
+		Comparing<Object> cmp = Order.comparing( order );
+		for ( Object left : values ) {
+			for ( Object right : values ) {
+				assertThat( Ordering.fromComparison( cmp.compare( left, right ) ), is( order.ord(
+						left, right ) ) );
+			}
+		}
+	}
+
 	private <T> int search( T value, T[] values ) {
 		return search( value, Array.sequence( values ), Order.inherent );
 	}
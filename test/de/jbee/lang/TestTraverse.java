@@ -0,0 +1,120 @@
+package de.jbee.lang;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class TestTraverse {
+
+	private static final Op<Integer> PLUS = new Op<Integer>() {
+
+		@Override
+		public Integer operate( Integer left, Integer right ) {
+			return left + right;
+		}
+	};
+
+	private static final Op<String> CONCAT = new Op<String>() {
+
+		@Override
+		public String operate( String left, String right ) {
+			return left + right;
+		}
+	};
+
+	private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+
+		@Override
+		public boolean is( Integer obj ) {
+			return obj % 2 == 0;
+		}
+	};
+
+	@Test
+	public void testFold_LeftToRight() {
+		List<String> l = List.with.elements( "a", "b", "c" );
+		assertThat( Traverse.fold( CONCAT, "-" ).on( l ), is( "-abc" ) );
+	}
+
+	@Test
+	public void testReduce_SameAsFold() {
+		List<Integer> l = numbers( 100000 );
+		assertThat( Traverse.reduce( PLUS, 0 ).on( l ), is( Traverse.fold( PLUS, 0 ).on( l ) ) );
+		assertThat( Traverse.reduce( PLUS, 0 ).on( List.with.<Integer> noElements() ), is( 0 ) );
+	}
+
+	@Test
+	public void testReduce_KeepsOrder() {
+		List<String> l = List.with.noElements();
+		StringBuilder expected = new StringBuilder();
+		for ( int i = 0; i < 20000; i++ ) {
+			String e = String.valueOf( (char) ( 'a' + i % 26 ) );
+			l = l.append( e );
+			expected.append( e );
+		}
+		assertThat( Traverse.reduce( CONCAT, "" ).on( l ), is( expected.toString() ) );
+	}
+
+	@Test
+	public void testCount() {
+		assertThat( Traverse.count( EVEN ).on( numbers( 100000 ) ), is( 50000 ) );
+	}
+
+	@Test
+	public void testAnyAll() {
+		List<Integer> l = numbers( 100000 );
+		assertThat( Traverse.any( EVEN ).on( l ), is( true ) );
+		assertThat( Traverse.all( EVEN ).on( l ), is( false ) );
+		assertThat( Traverse.any( EVEN ).on( List.with.elements( 1, 3, 5 ) ), is( false ) );
+		assertThat( Traverse.all( EVEN ).on( List.with.elements( 2, 4 ) ), is( true ) );
+		assertThat( Traverse.all( EVEN ).on( List.with.<Integer> noElements() ), is( true ) );
+	}
+
+	@Test
+	public void testSpliterator_SplitsCoverAllElements() {
+		final int size = 10000;
+		List<Integer> l = numbers( size );
+		final boolean[] seen = new boolean[size];
+		Spliterator<Integer> rest = IndexAccess.spliterator( l );
+		assertThat( rest.estimateSize(), is( (long) size ) );
+		Consumer<Integer> mark = new Consumer<Integer>() {
+
+			@Override
+			public void accept( Integer e ) {
+				assertThat( seen[e], is( false ) );
+				seen[e] = true;
+			}
+		};
+		Spliterator<Integer> prefix = rest.trySplit();
+		while ( prefix != null ) {
+			Spliterator<Integer> half = prefix.trySplit();
+			if ( half != null ) {
+				half.tryAdvance( mark );
+				half.forEachRemaining( mark );
+			}
+			prefix.forEachRemaining( mark );
+			prefix = rest.trySplit();
+		}
+		while ( rest.tryAdvance( mark ) ) {
+			// just advance
+		}
+		for ( int i = 0; i < size; i++ ) {
+			assertThat( seen[i], is( true ) );
+		}
+	}
+
+	/**
+	 * @return A list of numbers from 0 to size-1 consisting of multiple segments.
+	 */
+	private static List<Integer> numbers( int size ) {
+		List<Integer> l = List.with.noElements();
+		for ( int i = size - 1; i >= 0; i-- ) {
+			l = l.prepand( i );
+		}
+		return l;
+	}
+}
@@ -8,6 +8,7 @@ import org.junit.Test;
 
 import de.jbee.lang.Bag;
 import de.jbee.lang.Order;
+import de.jbee.lang.List;
 
 public class TestBag {
 
@@ -101,6 +102,14 @@ public class TestBag {
 		assertThat( b.entriesAt( 5 ), hasEqualElementsAsIn( 'c', 'c', 'c' ) );
 	}
 
+	@Test
+	public void testAddAll_MultipleEntries() {
+		Bag<Character> b = emptyCharacterBag().add( 'c' ).add( 'a' );
+		b = b.addAll( List.with.elements( 'b', 'c', 'a', 'd', 'c' ) );
+		assertThat( b, hasEqualElementsAsIn( 'a', 'a', 'b', 'c', 'c', 'c', 'd' ) );
+		assertThat( b.entriesAt( 4 ), hasEqualElementsAsIn( 'c', 'c', 'c' ) );
+	}
+
 	private Bag<Character> emptyCharacterBag() {
 		return Bag.with.noElements( Order.typeaware( Order.abecedarian, Character.class ) );
 	}
@@ -9,7 +9,7 @@ public class TestEnumLister
 
 	@BeforeClass
 	public static void setUp() {
-		Sequences.setUp( EnumList.ENUMERATOR_FACTORY );
+		Sequences.setUp( Sequences.ENUMERATOR_FACTORY );
 		Sequences.setUpCharacters( Sequences.enumerator.enumerate( Enumerate.CHARACTERS ) );
 		Sequences.setUpLetters( Sequences.enumerator.enumerate( Enumerate.LETTERS ) );
 	}
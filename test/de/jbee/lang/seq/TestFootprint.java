@@ -0,0 +1,119 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.Sequences.key;
+import static de.jbee.lang.seq.Sequences.segmentation;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.jbee.lang.Bag;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Order;
+import de.jbee.lang.dev.Footprint;
+
+public class TestFootprint {
+
+	@Test
+	public void testFootprint_TidyList() {
+		List<String> l = strings( 1000 );
+		Footprint f = Footprint.of( l );
+		assertThat( f.segments(), is( segmentation( l ) ) );
+		assertThat( f.occupiedCells(), is( 1000 ) );
+		assertThat( f.retainedCells(), is( 0 ) );
+		assertThat( f.sharedArrays(), is( 0 ) );
+		int cells = 0;
+		for ( int generation : f.generations() ) {
+			cells += generation;
+		}
+		assertThat( cells, is( f.occupiedCells() + f.unusedCells() ) );
+		assertTrue( f.estimatedBytes() > 4 * cells );
+	}
+
+	@Test
+	public void testFootprint_RetainedBySharedArray() {
+		Sequences.setUp( Compaction.NONE );
+		try {
+			List<String> l = strings( 1000 );
+			List<String> dropped = l.drop( 300 ).take( 10 );
+			Footprint f = Footprint.of( dropped );
+			assertThat( f.occupiedCells(), is( 10 ) );
+			assertTrue( f.retainedCells() > 0 );
+			assertTrue( f.sharedArrays() > 0 );
+			Footprint tidy = Footprint.of( dropped.tidyUp() );
+			assertThat( tidy.occupiedCells(), is( 10 ) );
+			assertThat( tidy.retainedCells(), is( 0 ) );
+			assertTrue( tidy.estimatedBytes() < f.estimatedBytes() );
+		} finally {
+			Sequences.setUp( Compaction.DEFAULT );
+		}
+	}
+
+	@Test
+	public void testFootprint_Map() {
+		Map<Integer> m = Map.with.noEntries( Map.Entry.ORDER );
+		for ( int i = 0; i < 100; i++ ) {
+			m = m.insert( key( "k" + i ), i );
+		}
+		Footprint f = Footprint.of( m );
+		assertThat( f.occupiedCells(), is( 100 ) );
+		assertTrue( f.segments() > 0 );
+	}
+
+	@Test
+	public void testFootprint_HashedMap() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		for ( int i = 0; i < 100; i++ ) {
+			m = m.insert( key( "k" + i ), i );
+		}
+		Footprint f = Footprint.of( m );
+		assertThat( f.occupiedCells(), is( 100 ) );
+		assertThat( f.unusedCells(), is( 0 ) );
+		assertTrue( f.segments() > 1 );
+		assertTrue( f.estimatedBytes() > 4 * f.occupiedCells() );
+	}
+
+	@Test
+	public void testFootprint_MergedBag() {
+		final int length = EVolutionList.GENERATION_MAX_LENGTH + 1000;
+		Bag<Integer> b = Bag.with.noElements( Order.typeaware( Order.numerical, Integer.class ) );
+		b = b.addAll( List.numbers.fromTo( 1, length ) );
+		Footprint f = Footprint.of( b );
+		assertThat( f.occupiedCells(), is( length ) );
+		assertThat( f.unusedCells(), is( 0 ) );
+		for ( int generation : f.generations() ) {
+			assertTrue( generation <= EVolutionList.GENERATION_MAX_LENGTH );
+		}
+		assertThat( b.at( 0 ), is( 1 ) );
+		assertThat( b.at( length - 1 ), is( length ) );
+	}
+
+	@Test
+	public void testFootprint_RRBTreeList() {
+		Object[] elems = new Object[1000];
+		for ( int i = 0; i < elems.length; i++ ) {
+			elems[i] = i;
+		}
+		Footprint f = Footprint.of( RRBTreeList.of( elems, 0, elems.length ) );
+		assertThat( f.segments(), is( 32 ) );
+		assertThat( f.occupiedCells(), is( 1000 ) );
+		assertThat( f.unusedCells(), is( 0 ) );
+	}
+
+	@Test
+	public void testFootprint_EnumList() {
+		Footprint f = Footprint.of( List.numbers.fromTo( 1, 100 ) );
+		assertThat( f.segments(), is( 1 ) );
+		assertThat( f.generations().length, is( 0 ) );
+	}
+
+	private static List<String> strings( int size ) {
+		List<String> l = List.with.noElements();
+		for ( int i = size - 1; i >= 0; i-- ) {
+			l = l.prepand( String.valueOf( i ) );
+		}
+		return l;
+	}
+}
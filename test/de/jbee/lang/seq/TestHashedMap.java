@@ -0,0 +1,121 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.ListIndex.NOT_CONTAINED;
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
+import static de.jbee.lang.seq.Sequences.entry;
+import static de.jbee.lang.seq.Sequences.key;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.jbee.lang.Bag;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Multimap;
+import de.jbee.lang.Order;
+import de.jbee.lang.Set;
+import de.jbee.lang.Map.Key;
+
+public class TestHashedMap {
+
+	@Test
+	public void testIndexFor_NoEntriesCase() {
+		assertThat( Map.with.<Integer> noHashedEntries().indexFor( key( "one" ) ),
+				is( NOT_CONTAINED ) );
+	}
+
+	@Test
+	public void testInsert_ManyEntries() {
+		final int size = 2000;
+		Map<Integer> m = Map.with.noHashedEntries();
+		for ( int i = 0; i < size; i++ ) {
+			m = m.insert( key( "key" + i ), i );
+		}
+		assertThat( m.length(), is( size ) );
+		for ( int i = 0; i < size; i++ ) {
+			assertThat( m.at( m.indexFor( key( "key" + i ) ) ).value(), is( i ) );
+		}
+		for ( int i = 1; i < size; i++ ) {
+			assertTrue( m.order().ord( m.at( i - 1 ), m.at( i ) ).isLt() );
+		}
+	}
+
+	@Test
+	public void testInsert_EntryOverriden() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		m = m.insert( key( "b" ), 1 );
+		m = m.insert( key( "c" ), 3 );
+		m = m.insert( key( "b" ), 2 );
+		assertThat( m.length(), is( 2 ) );
+		assertThat( m.at( m.indexFor( key( "b" ) ) ).value(), is( 2 ) );
+	}
+
+	@Test
+	public void testDeleteAt() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		for ( int i = 0; i < 100; i++ ) {
+			m = m.insert( key( "key" + i ), i );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			m = m.deleteAt( m.indexFor( key( "key" + i ) ) );
+		}
+		assertThat( m.length(), is( 50 ) );
+		for ( int i = 0; i < 100; i++ ) {
+			Key k = key( "key" + i );
+			if ( i % 2 == 0 ) {
+				assertTrue( m.indexFor( k ) < 0 );
+			} else {
+				assertThat( m.at( m.indexFor( k ) ).value(), is( i ) );
+			}
+		}
+	}
+
+	@Test
+	public void testAdd_DuplicateKeyResultsInMultimap() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		m = m.insert( key( "a" ), 1 );
+		m = m.insert( key( "b" ), 2 );
+		Multimap<Integer> mm = m.add( entry( key( "a" ), 3 ) );
+		assertThat( mm.length(), is( 3 ) );
+		assertThat( mm.valuesAt( mm.indexFor( key( "a" ) ) ).length(), is( 2 ) );
+	}
+
+	@Test
+	public void testAddAll_StaysHashed() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		m = m.insert( key( "a" ), 1 );
+		Multimap<Integer> distinct = m.addAll( List.with.elements( entry( key( "b" ), 2 ) ) );
+		assertTrue( distinct instanceof Map<?> );
+		assertTrue( ( (OrderedList<?, ?>) distinct ).isHashed() );
+		Multimap<Integer> mm = m.addAll( List.with.elements( entry( key( "a" ), 3 ) ) );
+		assertFalse( mm instanceof Map<?> );
+		assertTrue( ( (OrderedList<?, ?>) mm ).isHashed() );
+		assertThat( mm.valuesAt( mm.indexFor( key( "a" ) ) ).length(), is( 2 ) );
+	}
+
+	@Test
+	public void testAddAll_HashedSetStaysHashed() {
+		Set<String> s = Set.with.noHashedElements( Order.inherent );
+		s = s.insert( "x" );
+		Bag<String> distinct = s.addAll( List.with.elements( "z", "y" ) );
+		assertTrue( distinct instanceof Set<?> );
+		assertTrue( ( (OrderedList<?, ?>) distinct ).isHashed() );
+		Bag<String> b = s.addAll( List.with.elements( "y", "x" ) );
+		assertFalse( b instanceof Set<?> );
+		assertTrue( ( (OrderedList<?, ?>) b ).isHashed() );
+		assertThat( b.length(), is( 3 ) );
+	}
+
+	@Test
+	public void testHashedSet() {
+		Set<String> s = Set.with.noHashedElements( Order.inherent );
+		s = s.insert( "x" ).insert( "y" ).insert( "x" ).insert( "z" );
+		assertThat( s.length(), is( 3 ) );
+		assertTrue( s.indexFor( "y" ) >= 0 );
+		assertTrue( s.indexFor( "w" ) < 0 );
+		assertThat( s.entriesAt( s.indexFor( "z" ) ), hasEqualElementsAsIn( "z" ) );
+	}
+}
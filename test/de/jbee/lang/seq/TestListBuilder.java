@@ -0,0 +1,119 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
+import static de.jbee.lang.seq.Sequences.key;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import de.jbee.lang.Bag;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Order;
+import de.jbee.lang.Set;
+
+public class TestListBuilder {
+
+	@Test
+	public void testBuild_NoElements() {
+		assertThat( List.with.<Integer> builder().build().isEmpty(), is( true ) );
+		assertThat( Set.with.<Integer> builder( Order.inherent ).build().isEmpty(), is( true ) );
+	}
+
+	@Test
+	public void testBuild_ManyGenerations() {
+		final int size = 100000;
+		List.ListBuilder<Integer> b = List.with.builder();
+		for ( int i = 0; i < size; i++ ) {
+			b.append( i );
+		}
+		assertThat( b.length(), is( size ) );
+		List<Integer> l = b.build();
+		assertThat( l.length(), is( size ) );
+		for ( int i = 0; i < size; i++ ) {
+			assertThat( l.at( i ), is( i ) );
+		}
+	}
+
+	@Test
+	public void testBuild_BuiltListsAreNotAffectedByFurtherAppends() {
+		List.ListBuilder<Integer> b = List.with.builder();
+		b.append( 1 ).append( 2 );
+		List<Integer> first = b.build();
+		b.append( 3 );
+		List<Integer> second = b.build();
+		assertThat( first, hasEqualElementsAsIn( 1, 2 ) );
+		assertThat( second, hasEqualElementsAsIn( 1, 2, 3 ) );
+		assertThat( first.prepand( 0 ), hasEqualElementsAsIn( 0, 1, 2 ) );
+		assertThat( second.append( 4 ), hasEqualElementsAsIn( 1, 2, 3, 4 ) );
+		assertThat( second, hasEqualElementsAsIn( 1, 2, 3 ) );
+	}
+
+	@Test
+	public void testAppend_Sequence() {
+		List.ListBuilder<Integer> b = List.with.builder();
+		b.append( 0 ).append( List.numbers.fromTo( 1, 40 ) ).append( 41 );
+		List<Integer> l = b.build();
+		assertThat( l.length(), is( 42 ) );
+		for ( int i = 0; i < 42; i++ ) {
+			assertThat( l.at( i ), is( i ) );
+		}
+	}
+
+	@Test
+	public void testTraverse_AppendingTo() {
+		List.ListBuilder<Integer> b = List.with.builder();
+		List<Integer> l = List.with.elements( 3, 1, 2 );
+		l.traverse( 0, List.traverse.appendingTo( b ) );
+		assertThat( b.build(), hasEqualElementsAsIn( 3, 1, 2 ) );
+	}
+
+	@Test
+	public void testBuild_BagIsSortedOnce() {
+		Bag<Integer> bag = Bag.with.<Integer> builder( Order.inherent ).append( 3 ).append( 1 ).append(
+				3 ).append( 2 ).build();
+		assertThat( bag, hasEqualElementsAsIn( 1, 2, 3, 3 ) );
+	}
+
+	@Test
+	public void testBuild_BagMergesElementsAppendedAfterABuild() {
+		Bag.BagBuilder<Integer> b = Bag.with.<Integer> builder( Order.inherent );
+		b.append( List.with.elements( 6, 2, 4 ) );
+		assertThat( b.build(), hasEqualElementsAsIn( 2, 4, 6 ) );
+		b.append( 5 ).append( 1 ).append( 4 ).append( 7 );
+		assertThat( b.build(), hasEqualElementsAsIn( 1, 2, 4, 4, 5, 6, 7 ) );
+	}
+
+	@Test
+	public void testBuild_SetKeepsOnlyUniqueElements() {
+		Set.SetBuilder<Integer> b = Set.with.builder( Order.inherent );
+		b.append( List.with.elements( 5, 3, 5, 1, 3 ) );
+		Set<Integer> set = b.build();
+		assertThat( set, hasEqualElementsAsIn( 1, 3, 5 ) );
+		b.append( 4 ).append( 1 );
+		assertThat( b.build(), hasEqualElementsAsIn( 1, 3, 4, 5 ) );
+		assertThat( set, hasEqualElementsAsIn( 1, 3, 5 ) );
+	}
+
+	@Test
+	public void testBuild_MapKeepsLastValueOfEqualKeys() {
+		Map.MapBuilder<Integer> b = Map.with.builder( Map.Entry.ORDER );
+		b.insert( key( "b" ), 1 ).insert( key( "a" ), 2 ).insert( key( "b" ), 3 );
+		Map<Integer> m = b.build();
+		assertThat( m.length(), is( 2 ) );
+		assertThat( m.at( m.indexFor( key( "a" ) ) ).value(), is( 2 ) );
+		assertThat( m.at( m.indexFor( key( "b" ) ) ).value(), is( 3 ) );
+		assertThat( m.insert( key( "c" ), 4 ).length(), is( 3 ) );
+	}
+
+	@Test
+	public void testBuild_MapOfEntriesInOrder() {
+		Map.MapBuilder<Integer> b = Map.with.builder( Map.Entry.ORDER );
+		b.insert( key( "a" ), 1 ).insert( key( "b" ), 2 ).insert( key( "c" ), 3 );
+		assertThat( b.build().values(), hasEqualElementsAsIn( 1, 2, 3 ) );
+		b.insert( key( "d" ), 4 ).insert( key( "d" ), 5 ).insert( key( "a" ), 0 );
+		Map<Integer> m = b.build();
+		assertThat( m.values(), hasEqualElementsAsIn( 0, 2, 3, 5 ) );
+	}
+}
@@ -1,7 +1,9 @@
 package de.jbee.lang.seq;
 
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
 import static de.jbee.lang.seq.Sequences.segmentation;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -11,6 +13,7 @@ import java.util.Random;
 import org.junit.Test;
 
 import de.jbee.lang.List;
+import de.jbee.lang.dev.Footprint;
 
 /**
  * Tests validating the correct use of the different {@link List} implementations.
@@ -50,4 +53,95 @@ public class TestListComposition {
 		}
 		assertTrue( segmentation( l ) <= 7 ); // because 2^7 -> 128
 	}
+
+	@Test
+	public void joiningEnumerationsShouldKeepTheTailOfTheSecond() {
+		List<Integer> l = List.numbers.fromTo( 1, 2 ).concat( List.numbers.fromTo( 3, 4 ).append( 9 ) );
+		assertThat( l, hasEqualElementsAsIn( 1, 2, 3, 4, 9 ) );
+	}
+
+	@Test
+	public void replacingInTheTailOfAnEnumerationShouldReplace() {
+		List<Integer> l = List.numbers.fromTo( 1, 3 ).concat( List.with.elements( 7, 8 ) );
+		assertThat( l.replaceAt( 4, 5 ), hasEqualElementsAsIn( 1, 2, 3, 7, 5 ) );
+	}
+
+	@Test
+	public void chainsOfEnumerationsShouldBeCompacted() {
+		List<Integer> l = List.with.noElements();
+		for ( int i = 0; i < 200; i++ ) {
+			l = List.numbers.fromTo( 3 * i, 3 * i + 1 ).concat( l );
+		}
+		assertThat( l.length(), is( 400 ) );
+		assertThat( l.at( 0 ), is( 597 ) );
+		assertThat( l.at( 399 ), is( 1 ) );
+		assertTrue( segmentation( l ) <= 16 );
+	}
+
+	@Test
+	public void deepChainsShouldUseTheSegmentIndexForIndexAccess() {
+		Sequences.setUp( Compaction.NONE );
+		try {
+			List<Integer> l = List.with.noElements();
+			for ( int i = 0; i < 40; i++ ) {
+				l = l.concat( List.with.elements( 5 * i, 5 * i + 1, 5 * i + 2, 5 * i + 3, 5 * i + 4 ) );
+			}
+			assertTrue( segmentation( l ) > EVolutionList.SEGMENT_INDEX_DEPTH );
+			assertThat( l.length(), is( 200 ) );
+			for ( int i = 0; i < 200; i++ ) {
+				assertThat( l.at( i ), is( i ) );
+			}
+			for ( int i = 0; i < 200; i += 7 ) {
+				assertThat( l.drop( i ).at( 0 ), is( i ) );
+				assertThat( l.drop( i ).length(), is( 200 - i ) );
+			}
+			Object[] dest = new Object[20];
+			l.fill( 0, dest, 93, 20 );
+			for ( int i = 0; i < dest.length; i++ ) {
+				assertThat( dest[i], is( (Object) ( 93 + i ) ) );
+			}
+		} finally {
+			Sequences.setUp( Compaction.DEFAULT );
+		}
+	}
+
+	@Test
+	public void fragmentedListsShouldBeCompactedAutomatically() {
+		Sequences.setUp( Compaction.beyond( 8 ) );
+		try {
+			List<Integer> l = List.with.noElements();
+			for ( int i = 0; i < 40; i++ ) {
+				l = l.concat( List.with.elements( 5 * i, 5 * i + 1, 5 * i + 2, 5 * i + 3, 5 * i + 4 ) );
+			}
+			for ( int i = 0; i < 200; i += 3 ) {
+				l = l.replaceAt( i, -i ).insertAt( i + 1, 1000 + i ).deleteAt( i + 1 );
+				assertTrue( segmentation( l ) <= 9 );
+			}
+			assertThat( l.length(), is( 200 ) );
+			for ( int i = 0; i < 200; i++ ) {
+				assertThat( l.at( i ), is( i % 3 == 0
+					? -i
+					: i ) );
+			}
+		} finally {
+			Sequences.setUp( Compaction.DEFAULT );
+		}
+	}
+
+	@Test
+	public void viewsUsingFewCellsOfASharedArrayShouldBeCopied() {
+		List<String> l = List.with.noElements();
+		for ( int i = 0; i < 1000; i++ ) {
+			l = l.prepand( String.valueOf( i ) );
+		}
+		List<String> few = l.take( 3 );
+		assertThat( few.length(), is( 3 ) );
+		assertThat( few.at( 2 ), is( "997" ) );
+		Footprint f = Footprint.of( few );
+		assertThat( f.retainedCells(), is( 0 ) );
+		assertThat( f.unusedCells(), is( 0 ) );
+		List<String> many = l.drop( 100 );
+		assertThat( many.at( 0 ), is( "899" ) );
+		assertTrue( Footprint.of( many ).retainedCells() > 0 );
+	}
 }
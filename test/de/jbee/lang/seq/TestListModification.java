@@ -1,13 +1,19 @@
 package de.jbee.lang.seq;
 
 import static de.jbee.lang.seq.ListMatcher.hasEqualCharactersAsIn;
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
 
+import de.jbee.lang.Bag;
 import de.jbee.lang.List;
 import de.jbee.lang.ListIndex;
 import de.jbee.lang.ListModification;
+import de.jbee.lang.Order;
 
 public class TestListModification {
 
@@ -53,4 +59,61 @@ public class TestListModification {
 		assertThat( List.modifyBy.embed( '<', '>' ).on( List.with.charactersIn( "hey!" ) ),
 				hasEqualCharactersAsIn( "<hey!>" ) );
 	}
+
+	@Test
+	public void insertAllShouldInsertAllElementsAtOnce() {
+		List<Character> list = List.with.charactersIn( "midnatt" );
+		assertThat( List.modifyBy.insertAll( 3, List.with.charactersIn( "sommar" ) ).on( list ),
+				hasEqualCharactersAsIn( "midsommarnatt" ) );
+		assertThat( List.modifyBy.insertAll( 0, List.with.charactersIn( "ab" ) ).on( list ),
+				hasEqualCharactersAsIn( "abmidnatt" ) );
+		assertThat( List.modifyBy.insertAll( 7, List.with.charactersIn( "ab" ) ).on( list ),
+				hasEqualCharactersAsIn( "midnattab" ) );
+	}
+
+	@Test
+	public void insertAllShouldKeepOrderedListsWhenInOrder() {
+		Bag<Integer> bag = Bag.with.elements( Order.inherent, List.with.elements( 1, 2, 5, 6 ) );
+		List<Integer> inOrder = List.modifyBy.insertAll( 2, List.with.elements( 3, 4 ) ).on( bag );
+		assertThat( inOrder, instanceOf( Bag.class ) );
+		assertThat( inOrder, hasEqualElementsAsIn( 1, 2, 3, 4, 5, 6 ) );
+		List<Integer> outOfOrder = List.modifyBy.insertAll( 2, List.with.elements( 9, 3 ) ).on(
+				bag );
+		assertThat( outOfOrder, not( instanceOf( Bag.class ) ) );
+		assertThat( outOfOrder, hasEqualElementsAsIn( 1, 2, 9, 3, 5, 6 ) );
+	}
+
+	@Test
+	public void replaceAllShouldReplaceARangeAcrossSegments() {
+		List<Character> list = List.with.charactersIn( "abc" ).concat(
+				List.with.charactersIn( "defg" ) );
+		assertThat( List.modifyBy.replaceAll( 1, List.with.charactersIn( "XYZ" ) ).on( list ),
+				hasEqualCharactersAsIn( "aXYZefg" ) );
+	}
+
+	@Test
+	public void deleteAllShouldDeleteAllIndexesAtOnce() {
+		List<Character> list = List.with.charactersIn( "abc" ).concat(
+				List.with.charactersIn( "defg" ) );
+		assertThat( List.modifyBy.<Character> deleteAll( 6, 0, 2, 3, 2 ).on( list ),
+				hasEqualCharactersAsIn( "bef" ) );
+	}
+
+	@Test
+	public void bulkModificationsShouldEqualSingleModifications() {
+		List<String> list = List.with.noElements();
+		for ( int i = 0; i < 1000; i++ ) {
+			list = list.prepand( String.valueOf( i ) );
+		}
+		List<String> inserted = List.with.elements( "x", "y", "z" );
+		List<String> expected = list.insertAt( 500, "z" ).insertAt( 500, "y" ).insertAt( 500, "x" );
+		assertThat( Sequences.equal( List.modifyBy.insertAll( 500, inserted ).on( list ),
+				expected ), is( true ) );
+		expected = list.replaceAt( 10, "x" ).replaceAt( 11, "y" ).replaceAt( 12, "z" );
+		assertThat( Sequences.equal( List.modifyBy.replaceAll( 10, inserted ).on( list ),
+				expected ), is( true ) );
+		expected = list.deleteAt( 900 ).deleteAt( 511 ).deleteAt( 3 ).deleteAt( 0 );
+		assertThat( Sequences.equal( List.modifyBy.<String> deleteAll( 0, 3, 511, 900 ).on(
+				list ), expected ), is( true ) );
+	}
 }
@@ -0,0 +1,75 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.Sequences.key;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import de.jbee.lang.IndexAccess;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Order;
+import de.jbee.lang.Sequence;
+import de.jbee.lang.Set;
+
+public class TestListStream {
+
+	@Test
+	public void testStream_List() {
+		List<Integer> l = List.with.noElements();
+		for ( int i = 1; i <= 100000; i++ ) {
+			l = l.prepand( i );
+		}
+		assertThat( List.with.stream( l ).mapToLong( Integer::longValue ).sum(), is( 5000050000L ) );
+		assertThat( List.with.parallelStream( l ).mapToLong( Integer::longValue ).sum(),
+				is( 5000050000L ) );
+		assertThat( List.with.parallelStream( l ).skip( 10 ).findFirst().get(), is( 99990 ) );
+	}
+
+	@Test
+	public void testStream_SetIsSorted() {
+		Set<Integer> s = Set.with.elements( Order.inherent, List.with.elements( 3, 1, 2 ) );
+		Spliterator<Integer> elems = IndexAccess.spliterator( s );
+		assertThat( elems.hasCharacteristics( Spliterator.SORTED ), is( true ) );
+		assertThat( elems.getComparator().compare( 1, 2 ) < 0, is( true ) );
+		assertThat( List.with.stream( s ).map( String::valueOf ).collect( Collectors.joining() ),
+				is( "123" ) );
+		assertThat( IndexAccess.spliterator( List.with.elements( 1, 2 ) ).hasCharacteristics(
+				Spliterator.SORTED ), is( false ) );
+	}
+
+	@Test
+	public void testStream_Map() {
+		Map<Integer> m = Map.with.noEntries( Map.Entry.ORDER );
+		m = m.insert( key( "b" ), 2 ).insert( key( "a" ), 1 );
+		assertThat( List.with.stream( m ).map( Map.Entry::key ).map( Map.Key::path ).collect(
+				Collectors.joining() ), is( "ab" ) );
+	}
+
+	@Test
+	public void testStream_Sequence() {
+		Sequence<Integer> seq = new Sequence<Integer>() {
+
+			@Override
+			public Integer at( int index ) {
+				return index;
+			}
+
+			@Override
+			public int length() {
+				return 1000;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return false;
+			}
+		};
+		assertThat( List.with.parallelStream( seq ).count(), is( 1000L ) );
+		assertThat( List.with.parallelStream( seq ).mapToInt( Integer::intValue ).sum(), is( 499500 ) );
+	}
+}
@@ -7,6 +7,7 @@ import static de.jbee.lang.seq.Sequences.key;
 import static de.jbee.lang.seq.Sequences.keyLastStartsWith;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static de.jbee.lang.seq.Sequences.entry;
 
 import org.junit.Test;
 
@@ -115,6 +116,50 @@ public class TestMap {
 		assertThat( insertionIndex( m.indexFor( keyLastStartsWith( "aa" ) ) ), is( 2 ) );
 	}
 
+	@Test
+	public void testInsertAll_LastEntryOfAKeyWins() {
+		Map<Integer> m = emptyMap().insert( B, 1 ).insert( D, 3 );
+		m = m.insertAll( List.with.elements( entry( C, 2 ), entry( B, 10 ), entry( A, 0 ),
+				entry( C, 20 ) ) );
+		assertThat( m.length(), is( 4 ) );
+		assertThat( m.values(), hasEqualElementsAsIn( 0, 10, 20, 3 ) );
+		assertThat( m.at( m.indexFor( C ) ).value(), is( 20 ) );
+	}
+
+	@Test
+	public void testAddAll_CollisionsGiveMultimap() {
+		Map<Integer> m = emptyMap().insert( B, 1 );
+		assertThat( m.addAll( List.with.elements( entry( A, 0 ) ) ).values(),
+				hasEqualElementsAsIn( 0, 1 ) );
+		assertThat( m.addAll( List.with.elements( entry( B, 2 ), entry( A, 0 ) ) ).length(),
+				is( 3 ) );
+	}
+
+	@Test
+	public void testFrozen_LookupsByKey() {
+		Map<Integer> m = emptyMap().insert( D, 3 ).insert( B, 1 ).insert( A, 0 ).frozen();
+		assertThat( m.indexFor( A ), is( 0 ) );
+		assertThat( m.indexFor( D ), is( 2 ) );
+		assertThat( m.indexFor( C ), is( -3 ) );
+		assertThat( m.insert( C, 2 ).values(), hasEqualElementsAsIn( 0, 1, 2, 3 ) );
+	}
+
+	@Test
+	public void testFrozen_SameIndexesForExactAndPrefixKeys() {
+		Map<Integer> m = emptyMap();
+		for ( int i = 0; i < 500; i++ ) {
+			m = m.insert( key( "k" + i ), i );
+		}
+		Map<Integer> frozen = m.frozen();
+		for ( int i = 0; i < 600; i++ ) {
+			Key k = key( "k" + i );
+			assertThat( frozen.indexFor( k ), is( m.indexFor( k ) ) );
+		}
+		assertThat( frozen.indexFor( keyLastStartsWith( "k1" ) ),
+				is( m.indexFor( keyLastStartsWith( "k1" ) ) ) );
+		assertThat( frozen.at( frozen.indexFor( key( "k42" ) ) ).value(), is( 42 ) );
+	}
+
 	private Map<Integer> emptyMap() {
 		return OrderedList.mapOf( OrderedList.setOf( List.with.<Map.Entry<Integer>> noElements(),
 				Entry.ORDER ) );
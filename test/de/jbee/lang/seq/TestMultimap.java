@@ -185,10 +185,46 @@ public class TestMultimap {
 		assertThat( m.indexFor( D, -1, 8 ), is( 4 ) );
 	}
 
+	@Test
+	public void testValuesAt_ManyValuesForOneKey() {
+		Multimap<Integer> m = emptyMap().insert( A, -1 ).insert( C, -1 );
+		for ( int i = 0; i < 1000; i++ ) {
+			m = m.insert( B, i );
+		}
+		assertThat( m.valuesAt( 500 ).length(), is( 1000 ) );
+		assertThat( m.valuesAt( 1 ).at( 0 ), is( 0 ) );
+		assertThat( m.entriesAt( 1000 ).length(), is( 1000 ) );
+		assertThat( m.valuesAt( 0 ), hasEqualElementsAsIn( -1 ) );
+		assertThat( m.indexFor( B ), is( 1 ) );
+	}
+
 	private Multimap<Integer> emptyMap() {
 		return emptyMap( Order.typeaware( Order.numerical, Integer.class ) );
 	}
 
+	@Test
+	public void testAddAll_ValuesSortedWithinKeys() {
+		Multimap<Integer> m = emptyMap().insert( B, 1 ).insert( C, 2 );
+		m = m.addAll( List.with.elements( entry( C, 0 ), entry( A, 5 ), entry( B, 1 ),
+				entry( C, 3 ) ) );
+		assertThat( m.values(), hasEqualElementsAsIn( 5, 1, 1, 0, 2, 3 ) );
+		assertThat( m.valuesAt( m.indexFor( C ) ), hasEqualElementsAsIn( 0, 2, 3 ) );
+	}
+
+	@Test
+	public void testFrozen_FirstEntryOfAKey() {
+		Multimap<Integer> m = emptyMap().insert( A, 1 ).insert( C, 4 );
+		for ( int i = 0; i < 10; i++ ) {
+			m = m.insert( B, i );
+		}
+		Multimap<Integer> frozen = m.frozen();
+		assertThat( frozen.indexFor( A ), is( 0 ) );
+		assertThat( frozen.indexFor( B ), is( 1 ) );
+		assertThat( frozen.indexFor( C ), is( 11 ) );
+		assertThat( frozen.indexFor( key( "bb" ) ), is( -12 ) );
+		assertThat( frozen.valuesAt( frozen.indexFor( B ) ).length(), is( 10 ) );
+	}
+
 	private Multimap<Integer> emptyMap( Ord<Object> valueOrder ) {
 		return OrderedList.multimapOf( List.with.<Map.Entry<Integer>> noElements(),
 				Entry.ORDER, valueOrder );
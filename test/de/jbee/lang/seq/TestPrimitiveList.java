@@ -0,0 +1,131 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import de.jbee.lang.DoubleList;
+import de.jbee.lang.IntList;
+import de.jbee.lang.List;
+import de.jbee.lang.LongList;
+import de.jbee.lang.Traversal;
+
+public class TestPrimitiveList {
+
+	@Test
+	public void testPrepand_ManyGenerations() {
+		IntList l = IntList.with.noElements();
+		final int size = 1000;
+		for ( int i = 0; i < size; i++ ) {
+			l = l.prepand( i );
+		}
+		assertThat( l.length(), is( size ) );
+		for ( int i = 0; i < size; i++ ) {
+			assertThat( l.at( i ), is( size - 1 - i ) );
+		}
+	}
+
+	@Test
+	public void testPrepand_SharedListStaysUnchanged() {
+		IntList l = IntList.with.elements( 3, 4, 5 );
+		IntList one = l.prepand( 1 );
+		IntList two = l.prepand( 2 );
+		assertThat( one.at( 0 ), is( 1 ) );
+		assertThat( two.at( 0 ), is( 2 ) );
+		assertThat( l.length(), is( 3 ) );
+		assertThat( one.at( 1 ), is( 3 ) );
+		assertThat( two.at( 1 ), is( 3 ) );
+	}
+
+	@Test ( expected = IndexOutOfBoundsException.class )
+	public void testAt_OutOfBoundsException() {
+		IntList.with.elements( 1, 2 ).at( 2 );
+	}
+
+	@Test
+	public void testTakeDrop() {
+		IntList l = numbers( 20 );
+		assertThat( l.take( 5 ).boxed(), hasEqualElementsAsIn( 0, 1, 2, 3, 4 ) );
+		assertThat( l.drop( 17 ).boxed(), hasEqualElementsAsIn( 17, 18, 19 ) );
+		assertThat( l.drop( 5 ).take( 2 ).boxed(), hasEqualElementsAsIn( 5, 6 ) );
+	}
+
+	@Test
+	public void testModifications() {
+		IntList l = IntList.with.elements( 1, 2, 3 );
+		assertThat( l.append( 4 ).boxed(), hasEqualElementsAsIn( 1, 2, 3, 4 ) );
+		assertThat( l.insertAt( 1, 7 ).boxed(), hasEqualElementsAsIn( 1, 7, 2, 3 ) );
+		assertThat( l.replaceAt( 2, 7 ).boxed(), hasEqualElementsAsIn( 1, 2, 7 ) );
+		assertThat( l.deleteAt( 1 ).boxed(), hasEqualElementsAsIn( 1, 3 ) );
+		assertThat( l.concat( l ).boxed(), hasEqualElementsAsIn( 1, 2, 3, 1, 2, 3 ) );
+	}
+
+	@Test
+	public void testFill() {
+		IntList l = numbers( 100 );
+		int[] dest = new int[10];
+		l.fill( 0, dest, 45, 10 );
+		for ( int i = 0; i < dest.length; i++ ) {
+			assertThat( dest[i], is( 45 + i ) );
+		}
+	}
+
+	@Test
+	public void testTraverse() {
+		final int[] sum = new int[1];
+		numbers( 100 ).traverse( 0, new IntList.IntTraversal() {
+
+			@Override
+			public int incrementOn( int e ) {
+				sum[0] += e;
+				return 1;
+			}
+		} );
+		assertThat( sum[0], is( 4950 ) );
+	}
+
+	@Test
+	public void testTidyUp() {
+		IntList l = numbers( 100 ).drop( 10 ).take( 50 );
+		IntList tidy = l.tidyUp();
+		for ( int i = 0; i < 50; i++ ) {
+			assertThat( tidy.at( i ), is( l.at( i ) ) );
+		}
+	}
+
+	@Test
+	public void testBoxed() {
+		List<Integer> l = IntList.with.elements( 1, 2 ).boxed();
+		assertThat( l.prepand( 0 ), hasEqualElementsAsIn( 0, 1, 2 ) );
+		assertThat( l.concat( List.with.element( 3 ) ), hasEqualElementsAsIn( 1, 2, 3 ) );
+		final int[] count = new int[1];
+		l.traverse( 0, new Traversal<Integer>() {
+
+			@Override
+			public int incrementOn( Integer e ) {
+				count[0]++;
+				return 1;
+			}
+		} );
+		assertThat( count[0], is( 2 ) );
+	}
+
+	@Test
+	public void testLongsAndDoubles() {
+		LongList longs = LongList.with.element( Long.MAX_VALUE ).prepand( 1L );
+		assertThat( longs.at( 1 ), is( Long.MAX_VALUE ) );
+		DoubleList doubles = DoubleList.with.elements( 0.5d, -1.25d ).append( Double.NaN );
+		assertThat( doubles.at( 1 ), is( -1.25d ) );
+		assertThat( doubles.boxed(), hasEqualElementsAsIn( 0.5d, -1.25d, Double.NaN ) );
+	}
+
+	private static IntList numbers( int size ) {
+		IntList l = IntList.with.noElements();
+		for ( int i = size - 1; i >= 0; i-- ) {
+			l = l.prepand( i );
+		}
+		return l;
+	}
+}
@@ -0,0 +1,138 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
+import static de.jbee.lang.seq.Sequences.segmentation;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.jbee.lang.IndexAccess;
+import de.jbee.lang.List;
+import de.jbee.lang.Segment;
+
+public class TestRRBTreeList {
+
+	@BeforeClass
+	public static void setUp() {
+		Sequences.setUp( Sequences.RRB_TREE_LISTER );
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		Sequences.setUp( Sequences.LISTER );
+	}
+
+	@Test
+	public void testListerCreatesTrees() {
+		assertThat( List.with.elements( 1, 2, 3 ), instanceOf( RRBTreeList.class ) );
+	}
+
+	@Test
+	public void testAppendAndPrepand() {
+		List<Integer> l = List.with.noElements();
+		for ( int i = 0; i < 2000; i++ ) {
+			l = l.append( i ).prepand( -i );
+		}
+		assertThat( l.length(), is( 4000 ) );
+		for ( int i = 0; i < 2000; i++ ) {
+			assertThat( l.at( 1999 - i ), is( -i ) );
+			assertThat( l.at( 2000 + i ), is( i ) );
+		}
+	}
+
+	@Test
+	public void testModificationsAtRandomIndexes() {
+		Random rnd = new Random( 42 );
+		List<Integer> tree = List.with.elements( numbers( 1000 ) );
+		ArrayList<Integer> expected = new ArrayList<Integer>( Arrays.asList( numbers( 1000 ) ) );
+		for ( int i = 0; i < 500; i++ ) {
+			final int index = rnd.nextInt( tree.length() );
+			switch ( i % 3 ) {
+			case 0:
+				tree = tree.insertAt( index, i );
+				expected.add( index, i );
+				break;
+			case 1:
+				tree = tree.deleteAt( index );
+				expected.remove( index );
+				break;
+			default:
+				tree = tree.replaceAt( index, i );
+				expected.set( index, i );
+			}
+		}
+		assertThat( tree.length(), is( expected.size() ) );
+		for ( int i = 0; i < tree.length(); i++ ) {
+			assertThat( tree.at( i ), is( expected.get( i ) ) );
+		}
+	}
+
+	@Test
+	public void testConcatAndSplit() {
+		List<Integer> l = List.with.elements( numbers( 100 ) );
+		List<Integer> small = List.with.elements( 1, 2, 3 );
+		List<Integer> concat = small.concat( l ).concat( small );
+		assertThat( concat.length(), is( 106 ) );
+		assertThat( concat.at( 3 ), is( 0 ) );
+		assertThat( concat.at( 103 ), is( 1 ) );
+		assertThat( concat.take( 3 ), hasEqualElementsAsIn( 1, 2, 3 ) );
+		assertThat( concat.drop( 103 ), hasEqualElementsAsIn( 1, 2, 3 ) );
+		assertThat( concat.drop( 50 ).take( 2 ), hasEqualElementsAsIn( 47, 48 ) );
+	}
+
+	@Test
+	public void testSegmentsAreLeafs() {
+		List<Integer> l = List.with.elements( numbers( 100 ) );
+		assertThat( segmentation( l ), is( 4 ) );
+		Iterator<Integer> iter = IndexAccess.iterator( (Segment<Integer>) l, 0, 100, 1 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( iter.next(), is( i ) );
+		}
+	}
+
+	@Test
+	public void testFill() {
+		List<Integer> l = List.with.elements( numbers( 1000 ) );
+		Object[] dest = new Object[100];
+		l.fill( 0, dest, 450, 100 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( (Integer) dest[i], is( 450 + i ) );
+		}
+	}
+
+	@Test
+	public void testSetUpFirstInFreshClassLoader()
+			throws Exception {
+		URL classes = Sequences.class.getProtectionDomain().getCodeSource().getLocation();
+		ClassLoader fresh = new URLClassLoader( new URL[] { classes },
+				Sequences.class.getClassLoader().getParent() );
+		Class<?> sequences = Class.forName( Sequences.class.getName(), false, fresh );
+		Class<?> lister = Class.forName( List.Lister.class.getName(), false, fresh );
+		Object rrbTreeLister = sequences.getField( "RRB_TREE_LISTER" ).get( null );
+		sequences.getMethod( "setUp", lister ).invoke( null, rrbTreeLister );
+		Class<?> list = Class.forName( List.class.getName(), true, fresh );
+		assertThat( list.getField( "empty" ).get( null ), notNullValue() );
+		Object empty = lister.getMethod( "noElements" ).invoke( rrbTreeLister );
+		assertThat( empty.getClass().getName(), is( RRBTreeList.class.getName() ) );
+	}
+
+	private static Integer[] numbers( int size ) {
+		Integer[] res = new Integer[size];
+		for ( int i = 0; i < size; i++ ) {
+			res[i] = i;
+		}
+		return res;
+	}
+}
@@ -0,0 +1,111 @@
+package de.jbee.lang.seq;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import de.jbee.lang.Array;
+import de.jbee.lang.List;
+import de.jbee.lang.Order;
+import de.jbee.lang.SegmentTraversal;
+import de.jbee.lang.Set;
+import de.jbee.lang.Traversal;
+
+public class TestSegmentTraversal {
+
+	@Test
+	public void testSegments_EVolutionList() {
+		List<Integer> l = List.with.noElements();
+		for ( int i = 200; i > 0; i-- ) {
+			l = l.prepand( i );
+		}
+		assertSumOfNumbers( l, 200 );
+		assertThat( sum( l, 150 ), is( 200 * 201 / 2 - 150 * 151 / 2 ) );
+	}
+
+	@Test
+	public void testSegments_ArrayList() {
+		assertSumOfNumbers( Array.sequence( new Integer[] { 1, 2, 3, 4 } ), 4 );
+	}
+
+	@Test
+	public void testSegments_EnumList() {
+		assertSumOfNumbers( List.numbers.fromTo( 1, 150 ), 150 );
+		assertSumOfNumbers( List.numbers.fromTo( 1, 70 ).concat( List.numbers.fromTo( 71, 100 ) ),
+				100 );
+	}
+
+	@Test
+	public void testSegments_OrderedList() {
+		Set<Integer> s = Set.with.elements( Order.inherent, List.with.elements( 3, 1, 2, 5, 4 ) );
+		assertSumOfNumbers( s, 5 );
+	}
+
+	@Test
+	public void testSegments_RRBTreeList() {
+		Object[] elems = new Object[1000];
+		for ( int i = 0; i < elems.length; i++ ) {
+			elems[i] = i + 1;
+		}
+		List<Integer> l = RRBTreeList.of( elems, 0, elems.length );
+		assertSumOfNumbers( l, 1000 );
+		assertThat( sum( l, 990 ), is( 1000 * 1001 / 2 - 990 * 991 / 2 ) );
+	}
+
+	@Test
+	public void testSegments_BufferedFallback() {
+		Set<Integer> s = Set.with.noHashedElements( Order.inherent );
+		for ( int i = 1; i <= 300; i++ ) {
+			s = s.insert( i );
+		}
+		assertSumOfNumbers( s, 300 );
+	}
+
+	@Test
+	public void testSegments_Stop() {
+		final int[] count = new int[1];
+		List.traverse.segments( List.numbers.fromTo( 1, 100 ), 0, new SegmentTraversal<Integer>() {
+
+			@Override
+			public int incrementOn( Object[] elems, int start, int end ) {
+				count[0] += end - start;
+				return Traversal.STOP_TRAVERSAL;
+			}
+		} );
+		assertThat( count[0], is( SegmentTraversal.BUFFER_LENGTH ) );
+	}
+
+	@Test
+	public void testSegments_Skipping() {
+		final int[] sum = new int[1];
+		List.traverse.segments( List.numbers.fromTo( 0, 99 ), 0, new SegmentTraversal<Integer>() {
+
+			@Override
+			public int incrementOn( Object[] elems, int start, int end ) {
+				sum[0] += (Integer) elems[start];
+				return 10;
+			}
+		} );
+		assertThat( sum[0], is( 0 + 10 + 20 + 30 + 40 + 50 + 60 + 70 + 80 + 90 ) );
+	}
+
+	private static void assertSumOfNumbers( List<Integer> l, int n ) {
+		assertThat( sum( l, 0 ), is( n * ( n + 1 ) / 2 ) );
+	}
+
+	private static int sum( List<Integer> l, int start ) {
+		final int[] sum = new int[1];
+		List.traverse.segments( l, start, new SegmentTraversal<Integer>() {
+
+			@Override
+			public int incrementOn( Object[] elems, int start, int end ) {
+				for ( int i = start; i < end; i++ ) {
+					sum[0] += (Integer) elems[i];
+				}
+				return end - start;
+			}
+		} );
+		return sum[0];
+	}
+}
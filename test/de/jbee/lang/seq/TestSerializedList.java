@@ -0,0 +1,173 @@
+package de.jbee.lang.seq;
+
+import static de.jbee.lang.seq.Sequences.entry;
+import static de.jbee.lang.seq.Sequences.key;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import de.jbee.lang.Bag;
+import de.jbee.lang.List;
+import de.jbee.lang.Map;
+import de.jbee.lang.Multimap;
+import de.jbee.lang.Ord;
+import de.jbee.lang.Order;
+import de.jbee.lang.Set;
+
+public class TestSerializedList {
+
+	@Test
+	public void testCopy_LongChainIsReadAsOneSegment() {
+		List<Integer> l = List.with.noElements();
+		for ( int i = 0; i < 100000; i++ ) {
+			l = l.prepand( i );
+		}
+		List<Integer> copy = copyOf( l );
+		assertThat( copy.length(), is( l.length() ) );
+		assertThat( copy.subsequent().isEmpty(), is( true ) );
+		for ( int i = 0; i < l.length(); i++ ) {
+			assertThat( copy.at( i ), is( l.at( i ) ) );
+		}
+	}
+
+	@Test
+	public void testCopy_EmptyList() {
+		assertThat( copyOf( List.with.noElements() ), sameInstance( List.with.noElements() ) );
+	}
+
+	@Test
+	public void testCopy_SetKeepsOrder() {
+		Set<Integer> s = Set.with.elements( Order.inherent, List.with.elements( 3, 1, 2 ) );
+		Set<Integer> copy = copyOf( s );
+		assertThat( copy.order(), sameInstance( Order.inherent ) );
+		assertThat( copy.length(), is( 3 ) );
+		assertThat( copy.indexFor( 2 ), is( 1 ) );
+		assertThat( copy.insert( 4 ).at( 3 ), is( 4 ) );
+		assertThat( copyOf( Set.with.noElements( Order.reverse ) ).order(),
+				sameInstance( Order.reverse ) );
+	}
+
+	@Test
+	public void testCopy_SetOfComposedOrder() {
+		Ord<Object> order = Order.sub( Order.typeaware( Order.inverse( Order.numerical ),
+				Integer.class ), Order.nullsave( Order.inverse( Order.inherent ) ) );
+		Set<Object> s = Set.with.elements( order, List.with.<Object> elements( 3, "b", 1, "a", 2 ) );
+		Set<Object> copy = copyOf( s );
+		assertThat( copy.order().toString(), is( order.toString() ) );
+		assertThat( copy.length(), is( 5 ) );
+		for ( int i = 0; i < s.length(); i++ ) {
+			assertThat( copy.at( i ), is( s.at( i ) ) );
+		}
+		assertThat( copy.insert( 4 ).indexFor( 4 ), is( s.insert( 4 ).indexFor( 4 ) ) );
+		assertThat( copyOf( Order.inverse( Order.inherent ) ).toString(),
+				is( Order.inverse( Order.inherent ).toString() ) );
+	}
+
+	@Test
+	public void testCopy_SetOfEntriesByComposedKeyOrder() {
+		Ord<Object> order = Order.typeaware( Order.entryKeysBy( Order.inverse( Order.alphabetical ) ),
+				Map.Entry.class );
+		Set<Map.Entry<Integer>> s = Set.with.elements( order, List.with.elements(
+				entry( key( "a" ), 1 ), entry( key( "c" ), 3 ), entry( key( "b" ), 2 ) ) );
+		Set<Map.Entry<Integer>> copy = copyOf( s );
+		assertThat( copy.order().toString(), is( order.toString() ) );
+		assertThat( copy.at( 0 ).value(), is( 3 ) );
+		assertThat( copy.at( 2 ).value(), is( 1 ) );
+		assertThat( copy.insert( entry( key( "d" ), 4 ) ).at( 0 ).value(), is( 4 ) );
+	}
+
+	@Test
+	public void testCopy_MapOfKeysWithCommonPrefixes() {
+		Map<Integer> m = Map.with.noEntries( Map.Entry.ORDER );
+		for ( int i = 0; i < 1000; i++ ) {
+			m = m.insert( key( "members:" + i + ".name" ), i );
+		}
+		Map<Integer> copy = copyOf( m );
+		assertThat( copy.order(), sameInstance( Map.Entry.ORDER ) );
+		assertThat( copy.length(), is( 1000 ) );
+		for ( int i = 0; i < 1000; i++ ) {
+			Map.Key k = key( "members:" + i + ".name" );
+			assertThat( copy.at( copy.indexFor( k ) ).value(), is( i ) );
+		}
+		Map<Integer> frozen = copyOf( m.frozen() );
+		assertThat( frozen.frozen(), sameInstance( frozen ) );
+	}
+
+	@Test
+	public void testCopy_HashedMap() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		for ( int i = 0; i < 100; i++ ) {
+			m = m.insert( key( "key" + i ), i );
+		}
+		Map<Integer> copy = copyOf( m );
+		assertThat( copy.length(), is( 100 ) );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( copy.at( copy.indexFor( key( "key" + i ) ) ).value(), is( i ) );
+		}
+	}
+
+	@Test
+	public void testCopy_HashedSetWithEqualElementsAdded() {
+		Set<Integer> s = Set.with.noHashedElements( Order.inherent );
+		for ( int i = 0; i < 50; i++ ) {
+			s = s.insert( i );
+		}
+		Bag<Integer> b = s.add( 7 ).add( 42 );
+		Bag<Integer> copy = copyOf( b );
+		assertThat( copy.length(), is( 52 ) );
+		for ( int i = 0; i < b.length(); i++ ) {
+			assertThat( copy.at( i ), is( b.at( i ) ) );
+		}
+		assertThat( copy.add( 7 ).length(), is( 53 ) );
+	}
+
+	@Test
+	public void testCopy_HashedMapWithEqualKeysAdded() {
+		Map<Integer> m = Map.with.noHashedEntries();
+		for ( int i = 0; i < 50; i++ ) {
+			m = m.insert( key( "key" + i ), i );
+		}
+		Multimap<Integer> mm = m.add( entry( key( "key7" ), 70 ) ).add( entry( key( "key7" ), 700 ) );
+		Multimap<Integer> copy = copyOf( mm );
+		assertThat( copy.length(), is( 52 ) );
+		for ( int i = 0; i < mm.length(); i++ ) {
+			assertThat( copy.at( i ).key().path(), is( mm.at( i ).key().path() ) );
+			assertThat( copy.at( i ).value(), is( mm.at( i ).value() ) );
+		}
+		assertThat( copy.valuesAt( copy.indexFor( key( "key7" ) ) ).length(), is( 3 ) );
+	}
+
+	@Test
+	public void testCopy_Multimap() {
+		Multimap<Integer> m = Map.with.<Integer> noEntries( Map.Entry.ORDER ).add(
+				entry( key( "a" ), 1 ) ).add( entry( key( "a" ), 2 ) );
+		Multimap<Integer> copy = copyOf( m );
+		assertThat( copy.length(), is( 2 ) );
+		assertThat( copy.valuesAt( 0 ).length(), is( 2 ) );
+		assertThat( copy.insert( key( "a" ), 3 ).length(), is( 3 ) );
+	}
+
+	@SuppressWarnings ( "unchecked" )
+	public static <T> T copyOf( T obj ) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream( bytes );
+			out.writeObject( obj );
+			out.close();
+			ByteArrayInputStream in = new ByteArrayInputStream( bytes.toByteArray() );
+			return (T) new ObjectInputStream( in ).readObject();
+		} catch ( IOException e ) {
+			throw new RuntimeException( e );
+		} catch ( ClassNotFoundException e ) {
+			throw new RuntimeException( e );
+		}
+	}
+}
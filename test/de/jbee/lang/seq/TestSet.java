@@ -3,10 +3,17 @@ package de.jbee.lang.seq;
 import static de.jbee.lang.seq.ListMatcher.hasEqualElementsAsIn;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
 
 import org.junit.Test;
 
+import de.jbee.lang.Bag;
 import de.jbee.lang.List;
 import de.jbee.lang.Order;
 import de.jbee.lang.Set;
@@ -27,6 +34,23 @@ public class TestSet {
 		assertThat( s2, sameInstance( s ) );
 	}
 
+	@Test
+	public void testInsert_ShuffledIntegersCase() {
+		Object[] elems = new Object[1000];
+		for ( int i = 0; i < elems.length; i++ ) {
+			elems[i] = i;
+		}
+		Collections.shuffle( Arrays.asList( elems ), new Random( 42 ) );
+		Set<Object> s = Set.with.noElements( Order.inherent );
+		for ( Object e : elems ) {
+			s = s.insert( e );
+		}
+		assertThat( s.length(), is( elems.length ) );
+		for ( int i = 0; i < elems.length; i++ ) {
+			assertThat( s.at( i ), is( (Object) i ) );
+		}
+	}
+
 	@Test
 	public void testInsert_HeadCornerCase() {
 		Set<Integer> s = Set.refine.from( List.with.elements( 1, 2, 3, 4, 5 ) );
@@ -72,4 +96,61 @@ public class TestSet {
 		Set<Integer> s = Set.refine.from( List.with.elements( 5, 4, 3, 2, 1 ) );
 		assertThat( s.entriesAt( 0 ), hasEqualElementsAsIn( 1 ) );
 	}
+
+	@Test
+	public void testInsertAll_DuplicatesCase() {
+		Set<Integer> s = Set.refine.from( List.with.elements( 2, 4, 6 ) );
+		Set<Integer> s2 = s.insertAll( List.with.elements( 5, 1, 4, 5, 7, 2 ) );
+		assertThat( s2, hasEqualElementsAsIn( 1, 2, 4, 5, 6, 7 ) );
+		assertThat( s2.indexFor( 5 ), is( 3 ) );
+		assertThat( s.insertAll( List.with.<Integer> noElements() ), sameInstance( s ) );
+	}
+
+	@Test
+	public void testAddAll_DuplicatesGiveBag() {
+		Set<Integer> s = Set.refine.from( List.with.elements( 1, 3 ) );
+		assertThat( s.addAll( List.with.elements( 4, 2 ) ), hasEqualElementsAsIn( 1, 2, 3, 4 ) );
+		assertThat( s.addAll( List.with.elements( 3, 2 ) ), hasEqualElementsAsIn( 1, 2, 3, 3 ) );
+	}
+
+	@Test
+	public void testAddAll_DuplicatesWithinAddedGiveBag() {
+		Set<Integer> s = Set.refine.from( List.with.elements( 1, 3 ) );
+		assertTrue( s.addAll( List.with.elements( 4, 2 ) ) instanceof Set<?> );
+		Bag<Integer> b = s.addAll( List.with.elements( 2, 4, 2 ) );
+		assertFalse( b instanceof Set<?> );
+		assertThat( b, hasEqualElementsAsIn( 1, 2, 2, 3, 4 ) );
+	}
+
+	@Test
+	public void testInsertAll_HashedElementsCase() {
+		Set<Integer> s = Set.with.noHashedElements( Order.inherent );
+		s = s.insert( 3 ).insert( 1 );
+		assertThat( s.insertAll( List.with.elements( 2, 3, 4 ) ).length(), is( 4 ) );
+	}
+
+	@Test
+	public void testFrozen_SameIndexesAsSearched() {
+		for ( int n = 0; n < 40; n++ ) {
+			Set<Integer> s = Set.with.noElements( Order.inherent );
+			for ( int i = 0; i < n; i++ ) {
+				s = s.insert( 2 * i );
+			}
+			Set<Integer> frozen = s.frozen();
+			assertThat( frozen.length(), is( n ) );
+			for ( int e = -1; e <= 2 * n; e++ ) {
+				assertThat( frozen.indexFor( e ), is( s.indexFor( e ) ) );
+			}
+		}
+	}
+
+	@Test
+	public void testFrozen_ModificationsAreUsualSets() {
+		Set<Integer> frozen = Set.refine.from( List.with.elements( 1, 3, 5 ) ).frozen();
+		assertThat( frozen.frozen(), sameInstance( frozen ) );
+		Set<Integer> s = frozen.insert( 4 );
+		assertThat( s, hasEqualElementsAsIn( 1, 3, 4, 5 ) );
+		assertThat( s.indexFor( 4 ), is( 2 ) );
+		assertThat( frozen.deleteAt( 0 ).indexFor( 5 ), is( 1 ) );
+	}
 }
@@ -8,7 +8,10 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses ( { TestList.class, TestSet.class, TestBag.class, TestMap.class, TestMultimap.class,
 		TestListComposition.class, TestEnumLister.class, TestEvolutionLister.class,
 		TestListIndex.class, TestListAlteration.class, TestListModification.class,
-		TestReverseList.class } )
+		TestReverseList.class, TestPrimitiveList.class,
+		TestHashedMap.class, TestRRBTreeList.class, TestListBuilder.class,
+		TestSegmentTraversal.class, TestListStream.class, TestFootprint.class,
+		TestSerializedList.class } )
 public class TestsSequences {
 	// suite for seq package
 }